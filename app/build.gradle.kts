@@ -1,3 +1,23 @@
+import groovy.json.JsonSlurper
+import java.io.BufferedOutputStream
+import java.io.ByteArrayOutputStream
+import java.io.DataOutputStream
+import java.io.FileOutputStream
+import java.sql.DriverManager
+import java.text.Normalizer
+import java.util.Locale
+import java.util.TreeMap
+
+buildscript {
+    repositories {
+        mavenCentral()
+    }
+    dependencies {
+        // JDBC driver used by the seed database task below (build time only)
+        classpath(libs.sqlite.jdbc)
+    }
+}
+
 plugins {
     // Only applies the Android Application plugin
     alias(libs.plugins.android.application)
@@ -15,6 +35,14 @@ android {
         versionName = "1.0"
 
         testInstrumentationRunner = "androidx.test.runner.AndroidJUnitRunner"
+
+        // Room writes one JSON schema per database version to app/schemas. These are
+        // committed, and the seed database task replays the newest one.
+        javaCompileOptions {
+            annotationProcessorOptions {
+                arguments += mapOf("room.schemaLocation" to "$projectDir/schemas")
+            }
+        }
     }
 
     buildTypes {
@@ -37,6 +65,17 @@ android {
     buildFeatures {
         viewBinding = true
     }
+
+    // BaseLexicon memory-maps seed/corpus.bin straight out of the APK,
+    // which only works for uncompressed assets.
+    androidResources {
+        noCompress += "bin"
+    }
+
+    // MigrationTestHelper reads the exported schemas from the test APK's assets.
+    sourceSets {
+        getByName("androidTest").assets.srcDir("$projectDir/schemas")
+    }
 }
 
 dependencies {
@@ -54,13 +93,385 @@ dependencies {
     implementation(libs.room.runtime)
     // --- Uses annotationProcessor as requested ---
     annotationProcessor(libs.room.compiler)
+    androidTestImplementation(libs.room.testing)
 
     // --- Lifecycle components ---
     implementation(libs.lifecycle.viewmodel)
     implementation(libs.lifecycle.livedata)
     implementation(libs.lifecycle.common.java8)
 
+    // --- Paging (keyset-paged word lists) ---
+    implementation(libs.paging.runtime)
+    implementation(libs.paging.guava)
+
     // --- Retrofit for API calls ---
     implementation(libs.retrofit)
     implementation(libs.retrofit.converter.gson)
-}
\ No newline at end of file
+}
+
+// --- Seed corpus ---
+// src/main/seed/words.tsv is the single source of the predefined vocabulary. Each variant gets:
+//  - assets/databases/word_database.db, a prepackaged database that a fresh install copies
+//    (Room.createFromAsset) instead of inserting every word on first open. Its rows hold only
+//    the headword, level and user state; the text is read from the lexicon at run time;
+//  - assets/seed/corpus.bin, a compact read-only lexicon that BaseLexicon memory-maps; it is
+//    also what SeedImporter applies to existing installs when the corpus version changes.
+androidComponents {
+    onVariants { variant ->
+        val variantName = variant.name.replaceFirstChar { it.uppercase() }
+        val corpusFile = layout.projectDirectory.file("src/main/seed/words.tsv")
+
+        val generateSeedDatabase = tasks.register<GenerateSeedDatabaseTask>("generate${variantName}SeedDatabase") {
+            corpus.set(corpusFile)
+            schemaDir.set(layout.projectDirectory.dir("schemas/com.example.vocabularybuilder.data.WordRoomDatabase"))
+            // Room exports the schema while compiling the variant's Java sources.
+            dependsOn("compile${variantName}JavaWithJavac")
+        }
+        variant.sources.assets?.addGeneratedSourceDirectory(generateSeedDatabase, GenerateSeedDatabaseTask::outputDir)
+
+        val compileSeedCorpus = tasks.register<CompileSeedCorpusTask>("compile${variantName}SeedCorpus") {
+            corpus.set(corpusFile)
+            duplicatesReport.set(layout.buildDirectory.file("reports/seed/${variant.name}-duplicates.txt"))
+        }
+        variant.sources.assets?.addGeneratedSourceDirectory(compileSeedCorpus, CompileSeedCorpusTask::outputDir)
+    }
+}
+
+/** One row of words.tsv, with the line it came from for error messages. */
+data class SeedRow(
+    val line: Int,
+    val word: String,
+    val meaning: String,
+    val partOfSpeech: String,
+    val example: String,
+    val level: String
+)
+
+object SeedCorpusFile {
+
+    private val VERSION_LINE = Regex("""^#\s*version:\s*(\d+)\s*$""")
+
+    /** Valid level column values. word_table stores index + 1, matching CefrLevel.getCode(). */
+    val CEFR_LEVELS = listOf("A1", "A2", "B1", "B2", "C1", "C2")
+
+    /**
+     * Level column value of a word removed from the corpus. Installs that kept it (learned or
+     * filed in a category) read its text from the lexicon, so the row stays in the file.
+     */
+    const val RETIRED = "retired"
+
+    fun levelCode(level: String): Int = CEFR_LEVELS.indexOf(level) + 1
+
+    /** The corpus version declared by the "# version: N" header line. */
+    fun readVersion(file: File): Int {
+        for (line in file.readLines(Charsets.UTF_8)) {
+            VERSION_LINE.find(line)?.let { return it.groupValues[1].toInt() }
+        }
+        throw GradleException("${file.name}: missing '# version: N' header line")
+    }
+
+    fun read(file: File): List<SeedRow> {
+        val rows = ArrayList<SeedRow>()
+        file.readLines(Charsets.UTF_8).forEachIndexed { index, line ->
+            if (line.isBlank() || line.startsWith("#")) return@forEachIndexed
+            val columns = line.split('\t').map { it.trim() }
+            if (columns.size != 5) {
+                throw GradleException("${file.name}:${index + 1}: expected 5 columns but found ${columns.size}")
+            }
+            if (columns[4] !in CEFR_LEVELS && columns[4] != RETIRED) {
+                throw GradleException("${file.name}:${index + 1}: unknown CEFR level '${columns[4]}'")
+            }
+            rows.add(SeedRow(index + 1, columns[0], columns[1], columns[2], columns[3], columns[4]))
+        }
+        return rows
+    }
+
+    /**
+     * Splits rows into the ones that survive the unique index on word_table.word
+     * (first occurrence wins, like OnConflictStrategy.IGNORE) and the ones it would drop.
+     */
+    fun distinct(rows: List<SeedRow>): Pair<List<SeedRow>, List<SeedRow>> {
+        val seen = HashSet<String>()
+        val unique = ArrayList<SeedRow>(rows.size)
+        val duplicates = ArrayList<SeedRow>()
+        for (row in rows) {
+            if (seen.add(row.word)) unique.add(row) else duplicates.add(row)
+        }
+        return unique to duplicates
+    }
+}
+
+/**
+ * Builds the prepackaged database from words.tsv. The schema is not written by hand: it is
+ * replayed from the newest Room schema export in app/schemas (entity, index and FTS trigger DDL).
+ *
+ * Each word is stored with empty text, like SeedImporter does: LexiconMerger reads the text
+ * from corpus.bin. Retired words are left out.
+ *
+ * Room's setup queries (room_master_table and the identity hash) are left out on purpose. Room
+ * keeps an existing export file whenever its schema is unchanged, so the hash in it is not
+ * guaranteed to be the one the compiled database expects; a prepackaged database without
+ * room_master_table is instead validated table by table on first open and stamped with the
+ * right hash.
+ */
+abstract class GenerateSeedDatabaseTask : DefaultTask() {
+
+    @get:InputFile
+    @get:PathSensitive(PathSensitivity.RELATIVE)
+    abstract val corpus: RegularFileProperty
+
+    @get:InputDirectory
+    @get:PathSensitive(PathSensitivity.RELATIVE)
+    abstract val schemaDir: DirectoryProperty
+
+    @get:OutputDirectory
+    abstract val outputDir: DirectoryProperty
+
+    @TaskAction
+    fun generate() {
+        val dbFile = outputDir.file("databases/word_database.db").get().asFile
+        dbFile.parentFile.mkdirs()
+        dbFile.delete()
+
+        val source = corpus.get().asFile
+        val corpusVersion = SeedCorpusFile.readVersion(source)
+        val (allRows, _) = SeedCorpusFile.distinct(SeedCorpusFile.read(source))
+        val rows = allRows.filter { it.level != SeedCorpusFile.RETIRED }
+
+        val schemaFile = schemaDir.get().asFile.listFiles { file -> file.extension == "json" }
+            ?.maxByOrNull { it.nameWithoutExtension.toIntOrNull() ?: -1 }
+            ?: throw GradleException("No Room schema export found in ${schemaDir.get().asFile}")
+        @Suppress("UNCHECKED_CAST")
+        val database = (JsonSlurper().parse(schemaFile) as Map<String, Any>)["database"] as Map<String, Any>
+
+        DriverManager.getConnection("jdbc:sqlite:" + dbFile.absolutePath).use { connection ->
+            connection.createStatement().use { statement ->
+                schemaStatements(database).forEach { statement.execute(it) }
+            }
+
+            connection.autoCommit = false
+            connection.prepareStatement(
+                "INSERT INTO word_table (word, meaning, part_of_speech, example, cefr_level, is_user_added, is_learned, is_prebuilt) " +
+                        "VALUES (?, '', '', '', ?, 0, 0, 1)"
+            ).use { insert ->
+                for (row in rows) {
+                    insert.setString(1, row.word)
+                    insert.setInt(2, SeedCorpusFile.levelCode(row.level))
+                    insert.addBatch()
+                }
+                insert.executeBatch()
+            }
+            // Mark this corpus version as applied so SeedImporter has nothing to do on first open.
+            connection.createStatement().use {
+                it.execute(
+                    "INSERT INTO seed_state (id, next_record, record_count, corpus_version) " +
+                            "VALUES (1, ${rows.size}, ${rows.size}, $corpusVersion)"
+                )
+            }
+            connection.commit()
+
+            // Room compares this with its own version before deciding whether to migrate.
+            connection.autoCommit = true
+            connection.createStatement().use { it.execute("PRAGMA user_version = ${database["version"]}") }
+        }
+        logger.lifecycle("Seed database: ${rows.size} words, schema ${schemaFile.name}")
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    private fun schemaStatements(database: Map<String, Any>): List<String> {
+        val statements = ArrayList<String>()
+        for (entity in database["entities"] as List<Map<String, Any>>) {
+            val table = entity["tableName"] as String
+            statements.add((entity["createSql"] as String).replace("\${TABLE_NAME}", table))
+            (entity["indices"] as List<Map<String, Any>>? ?: emptyList()).forEach {
+                statements.add((it["createSql"] as String).replace("\${TABLE_NAME}", table))
+            }
+            (entity["contentSyncTriggers"] as List<String>? ?: emptyList()).forEach { statements.add(it) }
+        }
+        (database["views"] as List<Map<String, Any>>? ?: emptyList()).forEach {
+            statements.add((it["createSql"] as String).replace("\${VIEW_NAME}", it["viewName"] as String))
+        }
+        return statements
+    }
+}
+
+/**
+ * Compiles words.tsv into assets/seed/corpus.bin, which BaseLexicon memory-maps.
+ * All integers are big-endian u32 unless noted:
+ *
+ *   header:       magic "VBSC", format version, corpus version, record count, retired record
+ *                 count, level count, token count, posting count
+ *   level index:  per level: level string offset, first record, record count
+ *   records:      RECORD_SIZE bytes each, grouped by level, retired words last: word, meaning,
+ *                 part of speech and example string offsets, level index (u16, 0xFFFF when
+ *                 retired), reserved (u16)
+ *   word order:   all record numbers sorted by the UTF-8 bytes of the headword, for binary search
+ *   token index:  per token, sorted by UTF-8 bytes: token string offset, first posting, posting count
+ *   postings:     record number in the low 29 bits, columns containing the token above them
+ *                 (1 word, 2 meaning, 4 example)
+ *   string pool:  each distinct string once, as varint byte length + UTF-8 bytes
+ *
+ * String offsets are relative to the start of the pool. Fixed-width records keep lookups
+ * O(1) by record number without decoding the file. The token index takes the place of
+ * word_fts for the text that is only stored here; tokens are folded like BaseLexicon.tokenize.
+ *
+ * Headwords repeated in the source are reported instead of being dropped silently by the
+ * unique index on word_table.word.
+ */
+abstract class CompileSeedCorpusTask : DefaultTask() {
+
+    @get:InputFile
+    @get:PathSensitive(PathSensitivity.RELATIVE)
+    abstract val corpus: RegularFileProperty
+
+    @get:OutputDirectory
+    abstract val outputDir: DirectoryProperty
+
+    @get:OutputFile
+    abstract val duplicatesReport: RegularFileProperty
+
+    @TaskAction
+    fun compile() {
+        val source = corpus.get().asFile
+        val corpusVersion = SeedCorpusFile.readVersion(source)
+        val (rows, duplicates) = SeedCorpusFile.distinct(SeedCorpusFile.read(source))
+        reportDuplicates(source, rows, duplicates)
+
+        val pool = ByteArrayOutputStream()
+        val poolOut = DataOutputStream(pool)
+        val offsets = HashMap<String, Int>()
+        fun intern(value: String): Int = offsets.getOrPut(value) {
+            val offset = pool.size()
+            val bytes = value.toByteArray(Charsets.UTF_8)
+            poolOut.writeVarInt(bytes.size)
+            poolOut.write(bytes)
+            offset
+        }
+
+        val retired = rows.filter { it.level == SeedCorpusFile.RETIRED }
+        val levels = rows.filter { it.level != SeedCorpusFile.RETIRED }.groupBy { it.level }.entries.toList()
+        val levelIndex = levels.withIndex().associate { (index, entry) -> entry.key to index }
+        val ordered = levels.flatMap { it.value } + retired
+        if (ordered.size > POSTING_RECORD_MASK) {
+            throw GradleException("${source.name}: too many words for the token index (${ordered.size})")
+        }
+        val wordOrder = ordered.indices.sortedWith { a, b ->
+            compareUtf8(ordered[a].word.toByteArray(Charsets.UTF_8), ordered[b].word.toByteArray(Charsets.UTF_8))
+        }
+
+        // Token -> record -> columns containing it.
+        val postings = HashMap<String, TreeMap<Int, Int>>()
+        ordered.forEachIndexed { record, row ->
+            for ((column, text) in listOf(COLUMN_WORD to row.word, COLUMN_MEANING to row.meaning, COLUMN_EXAMPLE to row.example)) {
+                for (token in tokenize(text)) {
+                    postings.getOrPut(token) { TreeMap() }.merge(record, column) { a, b -> a or b }
+                }
+            }
+        }
+        val tokens = postings.keys.sortedWith { a, b ->
+            compareUtf8(a.toByteArray(Charsets.UTF_8), b.toByteArray(Charsets.UTF_8))
+        }
+        val postingCount = postings.values.sumOf { it.size }
+
+        val outFile = outputDir.file("seed/corpus.bin").get().asFile
+        outFile.parentFile.mkdirs()
+        DataOutputStream(BufferedOutputStream(FileOutputStream(outFile))).use { out ->
+            out.writeInt(MAGIC)
+            out.writeInt(FORMAT_VERSION)
+            out.writeInt(corpusVersion)
+            out.writeInt(ordered.size - retired.size)
+            out.writeInt(retired.size)
+            out.writeInt(levels.size)
+            out.writeInt(tokens.size)
+            out.writeInt(postingCount)
+
+            var firstRecord = 0
+            for ((level, levelRows) in levels) {
+                out.writeInt(intern(level))
+                out.writeInt(firstRecord)
+                out.writeInt(levelRows.size)
+                firstRecord += levelRows.size
+            }
+
+            for (row in ordered) {
+                out.writeInt(intern(row.word))
+                out.writeInt(intern(row.meaning))
+                out.writeInt(intern(row.partOfSpeech))
+                out.writeInt(intern(row.example))
+                out.writeShort(levelIndex[row.level] ?: RETIRED_LEVEL)
+                out.writeShort(0)
+            }
+
+            wordOrder.forEach { out.writeInt(it) }
+
+            var firstPosting = 0
+            for (token in tokens) {
+                out.writeInt(intern(token))
+                out.writeInt(firstPosting)
+                out.writeInt(postings.getValue(token).size)
+                firstPosting += postings.getValue(token).size
+            }
+            for (token in tokens) {
+                for ((record, columns) in postings.getValue(token)) {
+                    out.writeInt(record or (columns shl POSTING_COLUMN_SHIFT))
+                }
+            }
+
+            poolOut.flush()
+            pool.writeTo(out)
+        }
+        logger.lifecycle("Seed corpus v$corpusVersion: ${ordered.size - retired.size} words, ${retired.size} retired, " +
+                "${tokens.size} tokens, ${offsets.size} distinct strings, ${outFile.length()} bytes")
+    }
+
+    // Must match BaseLexicon.tokenize(): fold case and diacritics, split on non-alphanumerics.
+    private fun tokenize(text: String): List<String> =
+        Normalizer.normalize(text, Normalizer.Form.NFKD)
+            .replace(Regex("\\p{M}+"), "")
+            .lowercase(Locale.ROOT)
+            .split(Regex("[^\\p{L}\\p{N}]+"))
+            .filter { it.isNotEmpty() }
+
+    private fun compareUtf8(a: ByteArray, b: ByteArray): Int {
+        for (i in 0 until minOf(a.size, b.size)) {
+            val diff = (a[i].toInt() and 0xFF) - (b[i].toInt() and 0xFF)
+            if (diff != 0) return diff
+        }
+        return a.size - b.size
+    }
+
+    private fun reportDuplicates(source: File, rows: List<SeedRow>, duplicates: List<SeedRow>) {
+        val report = duplicatesReport.get().asFile
+        report.parentFile.mkdirs()
+        if (duplicates.isEmpty()) {
+            report.writeText("No duplicate headwords in ${source.name}\n")
+            return
+        }
+        val firstLine = rows.associate { it.word to it.line }
+        val text = duplicates.joinToString("\n", postfix = "\n") {
+            "${source.name}:${it.line}: '${it.word}' duplicates line ${firstLine[it.word]} and will be skipped"
+        }
+        report.writeText(text)
+        logger.warn("Seed corpus has ${duplicates.size} duplicate headword(s), see ${report.path}\n$text")
+    }
+
+    private fun DataOutputStream.writeVarInt(value: Int) {
+        var remaining = value
+        while (remaining and 0x7F.inv() != 0) {
+            writeByte((remaining and 0x7F) or 0x80)
+            remaining = remaining ushr 7
+        }
+        writeByte(remaining)
+    }
+
+    companion object {
+        private const val MAGIC = 0x56425343 // "VBSC"
+        private const val FORMAT_VERSION = 4
+        private const val RETIRED_LEVEL = 0xFFFF
+        private const val COLUMN_WORD = 1
+        private const val COLUMN_MEANING = 2
+        private const val COLUMN_EXAMPLE = 4
+        private const val POSTING_COLUMN_SHIFT = 29
+        private const val POSTING_RECORD_MASK = (1 shl POSTING_COLUMN_SHIFT) - 1
+    }
+}
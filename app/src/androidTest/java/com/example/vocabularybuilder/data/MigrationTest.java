@@ -0,0 +1,180 @@
+package com.example.vocabularybuilder.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.database.Cursor;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.room.Room;
+import androidx.room.migration.Migration;
+import androidx.room.testing.MigrationTestHelper;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.sqlite.db.SupportSQLiteStatement;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.LargeTest;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Migrations from the first exported schema (10) to the current one. Each
+ * database is created from app/schemas, migrated with WordRoomDatabase.MIGRATIONS
+ * and validated against the schema export, then opened through Room so the
+ * compiled entities validate it too.
+ */
+@RunWith(AndroidJUnit4.class)
+public class MigrationTest {
+
+    private static final String TAG = "MigrationTest";
+    private static final String TEST_DB = "migration-test";
+    private static final int FIRST_VERSION = 10;
+    private static final int LATEST_VERSION = 19;
+
+    // Size of a heavy user's database for the timed run, and how long the full
+    // 10 -> 19 chain may take on it. The budget has headroom for slow emulators;
+    // a migration that starts scanning per row blows through it.
+    private static final int BENCHMARK_WORDS = 100_000;
+    private static final int BENCHMARK_QUIZZES = 10_000;
+    private static final int QUESTIONS_PER_QUIZ = 10;
+    private static final long BENCHMARK_BUDGET_MS = 20_000;
+
+    @Rule
+    public final MigrationTestHelper helper = new MigrationTestHelper(
+            InstrumentationRegistry.getInstrumentation(), WordRoomDatabase.class);
+
+    @Test
+    public void eachStepValidates() throws Exception {
+        for (Migration step : WordRoomDatabase.MIGRATIONS) {
+            String name = TEST_DB + "-" + step.startVersion;
+            helper.createDatabase(name, step.startVersion).close();
+            helper.runMigrationsAndValidate(name, step.endVersion, true, step).close();
+        }
+    }
+
+    @Test
+    public void migrateAllKeepsUserData() throws Exception {
+        try (SupportSQLiteDatabase db = helper.createDatabase(TEST_DB, FIRST_VERSION)) {
+            db.execSQL("INSERT INTO word_table (id, word, meaning, part_of_speech, example, cefr_level, is_learned, is_prebuilt) VALUES "
+                    + "(1, 'apple', 'a round fruit', 'noun', 'I ate an apple.', 'A1', 1, 1), "
+                    + "(2, 'ubiquitous', 'found everywhere', 'adjective', 'Phones are ubiquitous.', 'C1', 0, 1), "
+                    + "(3, 'gizmo', 'a gadget', 'noun', 'A clever gizmo.', 'User Added', 1, 0)");
+            db.execSQL("INSERT INTO categories (id, name) VALUES (1, 'Fruit')");
+            db.execSQL("INSERT INTO word_category_cross_ref (wordId, categoryId) VALUES (1, 1), (3, 1)");
+            db.execSQL("INSERT INTO quiz_results (id, score, date) VALUES (1, 1, 1700000000000)");
+            db.execSQL("INSERT INTO quiz_questions (quizResultId, word, userAnswer, correctAnswer, isCorrect) VALUES "
+                    + "(1, 'apple', 'a round fruit', 'a round fruit', 1), "
+                    + "(1, 'gizmo', 'a tool', 'a gadget', 0)");
+        }
+
+        try (SupportSQLiteDatabase db = helper.runMigrationsAndValidate(TEST_DB, LATEST_VERSION, true,
+                WordRoomDatabase.MIGRATIONS)) {
+            // Level codes and the user-added flag (14 -> 15).
+            assertEquals("1|0|1", row(db, "SELECT cefr_level, is_user_added, is_learned FROM word_table WHERE id = 1"));
+            assertEquals("5|0|0", row(db, "SELECT cefr_level, is_user_added, is_learned FROM word_table WHERE id = 2"));
+            assertEquals("0|1|1", row(db, "SELECT cefr_level, is_user_added, is_learned FROM word_table WHERE id = 3"));
+            // Category links survive the word_table rebuild.
+            assertEquals("2", row(db, "SELECT COUNT(*) FROM word_category_cross_ref"));
+            // Full-text index built from the existing rows (15 -> 16).
+            assertEquals("2", row(db, "SELECT rowid FROM word_fts WHERE word_fts MATCH 'word:ubiq*'"));
+            // Quiz summary backfilled (16 -> 17).
+            assertEquals("2|1", row(db, "SELECT question_count, correct_count FROM quiz_results WHERE id = 1"));
+            // Counters built from the words (17 -> 18).
+            assertEquals("3|2", row(db, "SELECT total, learned FROM word_counters WHERE scope = 'all'"));
+            assertEquals("2|2", row(db, "SELECT total, learned FROM word_counters WHERE scope = 'category' AND scope_id = 1"));
+            // Prebuilt words read their text from the base lexicon; user words keep theirs (18 -> 19).
+            assertEquals("||", row(db, "SELECT meaning, part_of_speech, example FROM word_table WHERE id = 1"));
+            assertEquals("a gadget|noun|A clever gizmo.", row(db, "SELECT meaning, part_of_speech, example FROM word_table WHERE id = 3"));
+            // Without room_master_table Room validates every table against the
+            // compiled entities on open, like it does for the prepackaged database,
+            // instead of trusting the identity hash the helper stored.
+            db.execSQL("DROP TABLE room_master_table");
+        }
+        assertOpensWithRoom();
+    }
+
+    @Test
+    @LargeTest
+    public void migrateLargeDatabaseWithinBudget() throws Exception {
+        try (SupportSQLiteDatabase db = helper.createDatabase(TEST_DB, FIRST_VERSION)) {
+            populate(db);
+        }
+
+        long start = SystemClock.elapsedRealtime();
+        helper.runMigrationsAndValidate(TEST_DB, LATEST_VERSION, true, WordRoomDatabase.MIGRATIONS).close();
+        long elapsed = SystemClock.elapsedRealtime() - start;
+        Log.i(TAG, "Migrated " + BENCHMARK_WORDS + " words and " + BENCHMARK_QUIZZES + " quizzes from "
+                + FIRST_VERSION + " to " + LATEST_VERSION + " in " + elapsed + " ms");
+        assertTrue("Migration took " + elapsed + " ms, budget " + BENCHMARK_BUDGET_MS + " ms",
+                elapsed <= BENCHMARK_BUDGET_MS);
+    }
+
+    private static void populate(SupportSQLiteDatabase db) throws Exception {
+        String[] levels = {"A1", "A2", "B1", "B2", "C1", "C2", "User Added"};
+        db.beginTransaction();
+        try {
+            try (SupportSQLiteStatement insert = db.compileStatement(
+                    "INSERT INTO word_table (word, meaning, part_of_speech, example, cefr_level, is_learned, is_prebuilt) "
+                            + "VALUES (?, ?, 'noun', ?, ?, ?, 1)")) {
+                for (int i = 0; i < BENCHMARK_WORDS; i++) {
+                    insert.bindString(1, "word" + i);
+                    insert.bindString(2, "meaning of word " + i);
+                    insert.bindString(3, "An example with word" + i + " in it.");
+                    insert.bindString(4, levels[i % levels.length]);
+                    insert.bindLong(5, i % 3 == 0 ? 1 : 0);
+                    insert.executeInsert();
+                }
+            }
+            try (SupportSQLiteStatement quiz = db.compileStatement(
+                    "INSERT INTO quiz_results (score, date) VALUES (?, ?)");
+                 SupportSQLiteStatement question = db.compileStatement(
+                         "INSERT INTO quiz_questions (quizResultId, word, userAnswer, correctAnswer, isCorrect) "
+                                 + "VALUES (?, ?, 'answer', 'answer', ?)")) {
+                for (int i = 0; i < BENCHMARK_QUIZZES; i++) {
+                    quiz.bindLong(1, i % QUESTIONS_PER_QUIZ);
+                    quiz.bindLong(2, 1_600_000_000_000L + i * 60_000L);
+                    long quizId = quiz.executeInsert();
+                    for (int q = 0; q < QUESTIONS_PER_QUIZ; q++) {
+                        question.bindLong(1, quizId);
+                        question.bindString(2, "word" + ((i * QUESTIONS_PER_QUIZ + q) % BENCHMARK_WORDS));
+                        question.bindLong(3, q < i % QUESTIONS_PER_QUIZ ? 1 : 0);
+                        question.executeInsert();
+                    }
+                }
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    private void assertOpensWithRoom() {
+        WordRoomDatabase db = Room.databaseBuilder(InstrumentationRegistry.getInstrumentation().getTargetContext(),
+                        WordRoomDatabase.class, TEST_DB)
+                .addMigrations(WordRoomDatabase.MIGRATIONS)
+                .build();
+        try {
+            db.getOpenHelper().getWritableDatabase();
+        } finally {
+            db.close();
+        }
+    }
+
+    // The row's columns joined with '|'.
+    private static String row(SupportSQLiteDatabase db, String sql) {
+        try (Cursor cursor = db.query(sql)) {
+            assertTrue("No row for " + sql, cursor.moveToFirst());
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < cursor.getColumnCount(); i++) {
+                if (i > 0) {
+                    sb.append('|');
+                }
+                sb.append(cursor.getString(i));
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.vocabularybuilder.data;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.database.Cursor;
+
+import androidx.room.testing.MigrationTestHelper;
+import androidx.sqlite.db.SimpleSQLiteQuery;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * EXPLAIN QUERY PLAN checks for the word_table filters, run on a database
+ * migrated from schema 10 so the indexes under test are the ones the
+ * migrations create. Every filter must be a SEARCH through the expected index;
+ * a SCAN of word_table means an index went missing or stopped matching.
+ *
+ * The SQL is copied from WordDao and from the pages WordKeysetPagingSource
+ * builds for each WordListFilter; keep them in step.
+ */
+@RunWith(AndroidJUnit4.class)
+public class QueryPlanTest {
+
+    private static final String TEST_DB = "query-plan-test";
+
+    // "SCAN word_table" on current SQLite, "SCAN TABLE word_table" before 3.36.
+    private static final Pattern SCAN_WORD_TABLE = Pattern.compile("^SCAN (TABLE )?word_table\\b");
+
+    private static final String PAGE = "SELECT id, word, meaning, is_learned FROM word_table WHERE ";
+
+    @Rule
+    public final MigrationTestHelper helper = new MigrationTestHelper(
+            InstrumentationRegistry.getInstrumentation(), WordRoomDatabase.class);
+
+    private SupportSQLiteDatabase mDb;
+
+    @Before
+    public void setUp() throws Exception {
+        helper.createDatabase(TEST_DB, 10).close();
+        mDb = helper.runMigrationsAndValidate(TEST_DB, 19, true, WordRoomDatabase.MIGRATIONS);
+    }
+
+    @After
+    public void tearDown() {
+        mDb.close();
+    }
+
+    // --- Word lists (WordListFilter + keyset) ---
+
+    @Test
+    public void levelPagesSeekTheLevelIndex() {
+        String index = "index_word_table_cefr_level_word";
+        assertSearch(index, PAGE + "(cefr_level = ?) AND 1 ORDER BY word ASC LIMIT ?", 3, 50);
+        assertSearch(index, PAGE + "(cefr_level = ?) AND word > ? ORDER BY word ASC LIMIT ?", 3, "m", 50);
+        assertSearch(index, PAGE + "(cefr_level = ?) AND word < ? ORDER BY word DESC LIMIT ?", 3, "m", 50);
+    }
+
+    @Test
+    public void learnedPagesSeekTheLearnedIndex() {
+        String index = "index_word_table_is_learned_word";
+        assertSearch(index, PAGE + "(is_learned = 1) AND word > ? ORDER BY word ASC LIMIT ?", "m", 50);
+        assertSearch(index, "SELECT id, word, meaning, is_learned FROM word_table WHERE is_learned = 1 ORDER BY word ASC");
+    }
+
+    @Test
+    public void userAddedPagesSeekTheUserAddedIndex() {
+        assertSearch("index_word_table_is_user_added_word",
+                PAGE + "(is_user_added = 1) AND word >= ? ORDER BY word ASC LIMIT ?", "m", 50);
+    }
+
+    @Test
+    public void categoryPagesStartFromTheCrossRefIndex() {
+        assertSearch("index_word_category_cross_ref_categoryId",
+                PAGE + "(id IN (SELECT wordId FROM word_category_cross_ref WHERE categoryId = ?)) "
+                        + "AND word > ? ORDER BY word ASC LIMIT ?", 1, "m", 50);
+    }
+
+    // --- Quiz ids ---
+
+    @Test
+    public void quizLevelIdsUseTheCoveringIndex() {
+        assertSearch("index_word_table_cefr_level_is_learned",
+                "SELECT id FROM word_table WHERE cefr_level = ? AND is_learned = 1", 3);
+    }
+
+    @Test
+    public void quizUserAddedIdsUseTheUserAddedIndex() {
+        assertSearch("index_word_table_is_user_added_word", "SELECT id FROM word_table WHERE is_user_added = 1");
+    }
+
+    @Test
+    public void quizLearnedOrUserAddedIdsUseBothIndexes() {
+        String sql = "SELECT id FROM word_table WHERE is_learned = 1 OR is_user_added = 1";
+        assertSearch("index_word_table_is_learned_word", sql);
+        assertSearch("index_word_table_is_user_added_word", sql);
+    }
+
+    @Test
+    public void quizCategoryIdsUseTheCrossRefIndex() {
+        assertSearch("index_word_category_cross_ref_categoryId",
+                "SELECT wordId FROM word_category_cross_ref WHERE categoryId = ?", 1);
+    }
+
+    // --- Search (WordSearchDao) ---
+
+    @Test
+    public void lexiconRowsSeekTheHeadwordIndex() {
+        assertSearch("index_word_table_word",
+                "SELECT id, word, meaning, is_learned FROM word_table WHERE word IN (?, ?, ?) AND meaning = ''",
+                "apple", "ball", "cat");
+    }
+
+    // --- Bulk updates ---
+
+    @Test
+    public void levelBulkUpdateSeeksTheLevelIndex() {
+        assertSearch("index_word_table_cefr_level_is_learned",
+                "UPDATE word_table SET is_learned = ? WHERE cefr_level = ? AND is_learned != ?", 1, 3, 1);
+    }
+
+    private void assertSearch(String index, String sql, Object... args) {
+        List<String> plan = plan(sql, args);
+        for (String step : plan) {
+            assertFalse("Scans word_table: " + sql + "\n" + plan, SCAN_WORD_TABLE.matcher(step).find());
+        }
+        Pattern usesIndex = Pattern.compile("^SEARCH .*USING (COVERING )?INDEX " + index + "\\b");
+        boolean found = false;
+        for (String step : plan) {
+            found |= usesIndex.matcher(step).find();
+        }
+        assertTrue("Does not search " + index + ": " + sql + "\n" + plan, found);
+    }
+
+    private List<String> plan(String sql, Object[] args) {
+        List<String> steps = new ArrayList<>();
+        try (Cursor cursor = mDb.query(new SimpleSQLiteQuery("EXPLAIN QUERY PLAN " + sql, args))) {
+            int detail = cursor.getColumnIndexOrThrow("detail");
+            while (cursor.moveToNext()) {
+                steps.add(cursor.getString(detail));
+            }
+        }
+        return steps;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.vocabularybuilder.data;
+
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.room.Room;
+import androidx.room.RoomDatabase;
+import androidx.sqlite.db.SimpleSQLiteQuery;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.LargeTest;
+
+import com.example.vocabularybuilder.data.model.CefrLevel;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reader latency while the writer is saturated, with the database configured
+ * like WordRoomDatabase.getDatabase(): WAL, queries on the reader pool,
+ * transactions on the single writer. In WAL mode a reader works from the last
+ * commit and never takes the write lock, so a page load should cost about the
+ * same whether or not a bulk update is running.
+ */
+@RunWith(AndroidJUnit4.class)
+@LargeTest
+public class ReadWriteContentionTest {
+
+    private static final String TAG = "ReadWriteContention";
+    private static final String TEST_DB = "contention-benchmark";
+    private static final int WORDS = 50_000;
+    private static final int READS = 200;
+    private static final int PAGE_SIZE = 50;
+
+    // A level-wide update rewrites thousands of rows (and their FTS entries), so
+    // a reader that had to wait for it would blow through this.
+    private static final long READ_P95_BUDGET_MS = 50;
+
+    private static final String PAGE_SQL = "SELECT id, word, meaning, is_learned FROM word_table "
+            + "WHERE (cefr_level = ?) AND word > ? ORDER BY word ASC LIMIT ?";
+
+    private WordRoomDatabase mDb;
+
+    @After
+    public void tearDown() {
+        if (mDb != null) {
+            mDb.close();
+        }
+        ApplicationProvider.getApplicationContext().deleteDatabase(TEST_DB);
+    }
+
+    @Test
+    public void readsDoNotWaitForTheWriter() throws Exception {
+        Context context = ApplicationProvider.getApplicationContext();
+        context.deleteDatabase(TEST_DB);
+        mDb = Room.databaseBuilder(context, WordRoomDatabase.class, TEST_DB)
+                .setJournalMode(RoomDatabase.JournalMode.WRITE_AHEAD_LOGGING)
+                .setQueryExecutor(WordRoomDatabase.databaseReadExecutor)
+                .setTransactionExecutor(WordRoomDatabase.databaseWriteExecutor)
+                .build();
+        TestWords.insert(mDb, WORDS);
+
+        long[] idle = readLatencies();
+
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger writes = new AtomicInteger();
+        Future<?> writer = WordRoomDatabase.databaseWriteExecutor.submit(() -> {
+            boolean learned = true;
+            while (writing.get()) {
+                for (CefrLevel level : CefrLevel.values()) {
+                    mDb.wordDao().setLearnedForLevel(level, learned);
+                    writes.incrementAndGet();
+                }
+                learned = !learned;
+            }
+        });
+        long[] busy;
+        try {
+            busy = readLatencies();
+        } finally {
+            writing.set(false);
+        }
+        writer.get();
+
+        Log.i(TAG, "page load p50/p95: idle " + percentile(idle, 50) + "/" + percentile(idle, 95)
+                + " ms, during " + writes.get() + " level updates " + percentile(busy, 50) + "/"
+                + percentile(busy, 95) + " ms");
+        assertTrue("The writer never ran", writes.get() > 0);
+        assertTrue("p95 page load during writes " + percentile(busy, 95) + " ms, budget "
+                + READ_P95_BUDGET_MS + " ms", percentile(busy, 95) <= READ_P95_BUDGET_MS);
+    }
+
+    // One page load at a time on the reader pool, as the paging source does.
+    private long[] readLatencies() throws Exception {
+        long[] millis = new long[READS];
+        for (int i = 0; i < READS; i++) {
+            Object[] args = {i % 6 + 1, TestWords.name(i * (WORDS / READS)), PAGE_SIZE};
+            millis[i] = CompletableFuture.supplyAsync(() -> {
+                long start = SystemClock.elapsedRealtimeNanos();
+                mDb.wordDao().getWordSummaries(new SimpleSQLiteQuery(PAGE_SQL, args));
+                return (SystemClock.elapsedRealtimeNanos() - start) / 1_000_000;
+            }, WordRoomDatabase.databaseReadExecutor).get();
+        }
+        return millis;
+    }
+
+    private static long percentile(long[] values, int percent) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, sorted.length * percent / 100)];
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.vocabularybuilder.data;
+
+import androidx.annotation.NonNull;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.sqlite.db.SupportSQLiteStatement;
+
+import java.util.Locale;
+
+/**
+ * Fills word_table with a predictable spread of words for tests and benchmarks.
+ *
+ * Word i is named "word" + i (zero-padded, so names sort like ids). Every tenth
+ * word is user-added and has no level; the others cycle through A1..C2. Every
+ * third word is learned.
+ */
+public final class TestWords {
+
+    private TestWords() {}
+
+    public static int level(int i) {
+        return isUserAdded(i) ? 0 : i % 6 + 1;
+    }
+
+    public static boolean isUserAdded(int i) {
+        return i % 10 == 9;
+    }
+
+    public static boolean isLearned(int i) {
+        return i % 3 == 0;
+    }
+
+    @NonNull
+    public static String name(int i) {
+        return String.format(Locale.US, "word%07d", i);
+    }
+
+    /**
+     * Inserts words 0..count-1 in one transaction. Ids are i + 1 on an empty table.
+     */
+    public static void insert(@NonNull WordRoomDatabase db, int count) throws Exception {
+        insert(db, 0, count);
+    }
+
+    /**
+     * Inserts words from..to-1 in one transaction.
+     */
+    public static void insert(@NonNull WordRoomDatabase db, int from, int to) throws Exception {
+        SupportSQLiteDatabase sql = db.getOpenHelper().getWritableDatabase();
+        sql.beginTransaction();
+        try (SupportSQLiteStatement insert = sql.compileStatement(
+                "INSERT INTO word_table (word, meaning, part_of_speech, example, cefr_level, is_user_added, is_learned, is_prebuilt) "
+                        + "VALUES (?, ?, 'noun', ?, ?, ?, ?, ?)")) {
+            for (int i = from; i < to; i++) {
+                insert.bindString(1, name(i));
+                insert.bindString(2, "meaning of " + name(i));
+                insert.bindString(3, "An example with " + name(i) + ".");
+                insert.bindLong(4, level(i));
+                insert.bindLong(5, isUserAdded(i) ? 1 : 0);
+                insert.bindLong(6, isLearned(i) ? 1 : 0);
+                insert.bindLong(7, isUserAdded(i) ? 0 : 1);
+                insert.executeInsert();
+            }
+            sql.setTransactionSuccessful();
+        } finally {
+            sql.endTransaction();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.vocabularybuilder.data.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.room.Room;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.LargeTest;
+
+import com.example.vocabularybuilder.data.WordRoomDatabase;
+import com.example.vocabularybuilder.data.model.QuizQuestion;
+import com.example.vocabularybuilder.data.model.QuizResult;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+@RunWith(AndroidJUnit4.class)
+public class QuizDaoTest {
+
+    private static final String TAG = "QuizDaoTest";
+    private static final String BENCHMARK_DB = "quiz-save-benchmark";
+    private static final int QUESTIONS = 100;
+
+    // One commit for the whole quiz. A commit per question would cost an fsync
+    // each, i.e. hundreds of milliseconds on flash.
+    private static final long SAVE_BUDGET_MS = 50;
+    private static final int SAVES = 20;
+
+    private WordRoomDatabase mDb;
+
+    @After
+    public void tearDown() {
+        if (mDb != null) {
+            mDb.close();
+        }
+        ApplicationProvider.getApplicationContext().deleteDatabase(BENCHMARK_DB);
+    }
+
+    @Test
+    public void insertQuizSavesResultAndQuestions() {
+        mDb = Room.inMemoryDatabaseBuilder(ApplicationProvider.getApplicationContext(), WordRoomDatabase.class).build();
+        QuizDao dao = mDb.quizDao();
+
+        long id = dao.insertQuiz(new QuizResult(60, new Date()), questions(QUESTIONS));
+
+        List<QuizQuestion> saved = dao.getQuestionsForResult(id);
+        assertEquals(QUESTIONS, saved.size());
+        for (QuizQuestion question : saved) {
+            assertEquals(id, question.getQuizResultId());
+        }
+        assertEquals(1, count("quiz_results"));
+    }
+
+    @Test
+    public void insertQuizIsAllOrNothing() {
+        mDb = Room.inMemoryDatabaseBuilder(ApplicationProvider.getApplicationContext(), WordRoomDatabase.class).build();
+        List<QuizQuestion> questions = questions(QUESTIONS);
+        // Violates NOT NULL half way through the batch.
+        questions.get(QUESTIONS / 2).setWord(null);
+
+        try {
+            mDb.quizDao().insertQuiz(new QuizResult(60, new Date()), questions);
+            fail("A question without a word was saved");
+        } catch (RuntimeException expected) {
+            // The result and the questions before the bad one are rolled back.
+        }
+        assertEquals(0, count("quiz_results"));
+        assertEquals(0, count("quiz_questions"));
+    }
+
+    @Test
+    @LargeTest
+    public void hundredQuestionQuizSavesWithinBudget() {
+        Context context = ApplicationProvider.getApplicationContext();
+        context.deleteDatabase(BENCHMARK_DB);
+        // On disk, so each save pays for a real commit.
+        mDb = Room.databaseBuilder(context, WordRoomDatabase.class, BENCHMARK_DB).build();
+        QuizDao dao = mDb.quizDao();
+        dao.insertQuiz(new QuizResult(0, new Date()), questions(QUESTIONS)); // warm-up
+
+        long start = SystemClock.elapsedRealtimeNanos();
+        for (int i = 0; i < SAVES; i++) {
+            dao.insertQuiz(new QuizResult(i, new Date()), questions(QUESTIONS));
+        }
+        long perSaveMs = (SystemClock.elapsedRealtimeNanos() - start) / 1_000_000 / SAVES;
+
+        Log.i(TAG, QUESTIONS + "-question quiz saved in " + perSaveMs + " ms");
+        assertTrue(perSaveMs + " ms per save, budget " + SAVE_BUDGET_MS + " ms", perSaveMs <= SAVE_BUDGET_MS);
+        assertEquals((SAVES + 1) * QUESTIONS, count("quiz_questions"));
+    }
+
+    private static List<QuizQuestion> questions(int count) {
+        List<QuizQuestion> questions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            questions.add(new QuizQuestion(0, "word" + i, "answer", "answer", i % 2 == 0));
+        }
+        return questions;
+    }
+
+    private int count(String table) {
+        try (Cursor cursor = mDb.query("SELECT COUNT(*) FROM " + table, null)) {
+            cursor.moveToFirst();
+            return cursor.getInt(0);
+        }
+    }
+}
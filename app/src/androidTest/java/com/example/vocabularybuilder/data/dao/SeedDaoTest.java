@@ -0,0 +1,63 @@
+package com.example.vocabularybuilder.data.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import androidx.room.Room;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import com.example.vocabularybuilder.data.WordRoomDatabase;
+import com.example.vocabularybuilder.data.model.CefrLevel;
+import com.example.vocabularybuilder.data.model.Word;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(AndroidJUnit4.class)
+public class SeedDaoTest {
+
+    private WordRoomDatabase mDb;
+
+    @Before
+    public void setUp() {
+        mDb = Room.inMemoryDatabaseBuilder(ApplicationProvider.getApplicationContext(), WordRoomDatabase.class).build();
+    }
+
+    @After
+    public void tearDown() {
+        mDb.close();
+    }
+
+    @Test
+    public void updatePrebuiltLevelMovesSeededWords() {
+        mDb.wordDao().insert(new Word("apple", "", "", "", CefrLevel.A1));
+
+        assertEquals(1, mDb.seedDao().updatePrebuiltLevel("apple", CefrLevel.A2));
+
+        Word stored = mDb.wordDao().getWordByName("apple");
+        assertEquals(CefrLevel.A2, stored.getCefrLevel());
+        // The text stays in the base lexicon.
+        assertEquals("", stored.getMeaning());
+        // Already up to date: nothing is rewritten.
+        assertEquals(0, mDb.seedDao().updatePrebuiltLevel("apple", CefrLevel.A2));
+    }
+
+    @Test
+    public void updatePrebuiltLevelLeavesUserWordsAlone() {
+        mDb.wordDao().insert(new Word("apple", "my own note", "noun", "Mine.", null, true, true, false));
+
+        assertEquals(0, mDb.seedDao().updatePrebuiltLevel("apple", CefrLevel.A1));
+
+        Word stored = mDb.wordDao().getWordByName("apple");
+        assertNull(stored.getCefrLevel());
+        assertEquals("my own note", stored.getMeaning());
+        assertTrue(stored.isUserAdded());
+        assertFalse(stored.isPrebuilt());
+        assertTrue(stored.isLearned());
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.vocabularybuilder.data.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.room.InvalidationTracker;
+import androidx.room.Room;
+import androidx.sqlite.db.SimpleSQLiteQuery;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.LargeTest;
+
+import com.example.vocabularybuilder.data.TestWords;
+import com.example.vocabularybuilder.data.WordRoomDatabase;
+import com.example.vocabularybuilder.data.dao.WordDao;
+import com.example.vocabularybuilder.data.model.Word;
+import com.example.vocabularybuilder.data.model.WordCategoryCrossRef;
+import com.example.vocabularybuilder.data.seed.LexiconMerger;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@RunWith(AndroidJUnit4.class)
+public class QuizWordSamplerTest {
+
+    private static final String TAG = "QuizWordSamplerTest";
+    private static final String BENCHMARK_DB = "sampler-benchmark";
+    private static final int QUIZ_SIZE = 10;
+
+    // A warm draw is QUIZ_SIZE swaps and one primary-key lookup, whatever the
+    // dictionary size. ORDER BY RANDOM() over 500k rows takes seconds.
+    private static final long WARM_DRAW_BUDGET_MS = 50;
+    private static final int WARM_DRAWS = 20;
+
+    // The first draw reads the id pool off a covering index, which is O(n) but
+    // must still beat the query it replaced: a full-row read plus a sort. The
+    // slack absorbs timer noise on the small sizes, where both take a few ms.
+    private static final long COLD_DRAW_SLACK_MS = 10;
+    private static final int BASELINE_RUNS = 3;
+
+    // The learned+user quiz query before QuizWordSampler.
+    private static final String ORDER_BY_RANDOM =
+            "SELECT * FROM word_table WHERE is_learned = 1 OR is_user_added = 1 ORDER BY RANDOM() LIMIT ?";
+
+    private WordRoomDatabase mDb;
+
+    @After
+    public void tearDown() {
+        if (mDb != null) {
+            mDb.close();
+        }
+        ApplicationProvider.getApplicationContext().deleteDatabase(BENCHMARK_DB);
+    }
+
+    @Test
+    public void sampleIsDistinctAndMatchesFilter() throws Exception {
+        mDb = Room.inMemoryDatabaseBuilder(ApplicationProvider.getApplicationContext(), WordRoomDatabase.class).build();
+        TestWords.insert(mDb, 1_000);
+        WordDao dao = mDb.wordDao();
+        QuizWordSampler sampler = new QuizWordSampler(mDb, new LexiconMerger(ApplicationProvider.getApplicationContext()));
+
+        for (int round = 0; round < 50; round++) {
+            List<Word> words = sampler.sample("learned+user", dao::getQuizWordIdsForLearnedAndUserAdded, QUIZ_SIZE);
+            assertEquals(QUIZ_SIZE, words.size());
+            Set<Integer> ids = new HashSet<>();
+            for (Word word : words) {
+                assertTrue("Duplicate word " + word.getWord(), ids.add(word.getId()));
+                assertTrue(word.getWord() + " does not match the filter", word.isLearned() || word.isUserAdded());
+            }
+        }
+    }
+
+    @Test
+    public void limitAbovePoolReturnsWholePool() throws Exception {
+        mDb = Room.inMemoryDatabaseBuilder(ApplicationProvider.getApplicationContext(), WordRoomDatabase.class).build();
+        TestWords.insert(mDb, 100);
+        WordDao dao = mDb.wordDao();
+        QuizWordSampler sampler = new QuizWordSampler(mDb, new LexiconMerger(ApplicationProvider.getApplicationContext()));
+
+        List<Integer> pool = dao.getQuizWordIdsForUserAdded();
+        List<Word> words = sampler.sample("user", dao::getQuizWordIdsForUserAdded, pool.size() + 5);
+        Set<Integer> ids = new HashSet<>();
+        for (Word word : words) {
+            ids.add(word.getId());
+        }
+        assertEquals(new HashSet<>(pool), ids);
+        assertEquals(pool.size(), words.size());
+    }
+
+    @Test
+    public void writeToWordTableRefreshesPool() throws Exception {
+        mDb = Room.inMemoryDatabaseBuilder(ApplicationProvider.getApplicationContext(), WordRoomDatabase.class).build();
+        TestWords.insert(mDb, 100);
+        WordDao dao = mDb.wordDao();
+        QuizWordSampler sampler = new QuizWordSampler(mDb, new LexiconMerger(ApplicationProvider.getApplicationContext()));
+        int before = sampler.sample("user", dao::getQuizWordIdsForUserAdded, Integer.MAX_VALUE).size();
+
+        // Registered after the sampler's observer, so it runs after it.
+        CountDownLatch invalidated = awaitInvalidation("word_table");
+        dao.insert(new Word("gizmo", "a gadget", "noun", "A clever gizmo.", null, true, false, false));
+        assertTrue(invalidated.await(5, TimeUnit.SECONDS));
+
+        assertEquals(before + 1, sampler.sample("user", dao::getQuizWordIdsForUserAdded, Integer.MAX_VALUE).size());
+    }
+
+    @Test
+    public void writeToCategoryLinksRefreshesPool() throws Exception {
+        mDb = Room.inMemoryDatabaseBuilder(ApplicationProvider.getApplicationContext(), WordRoomDatabase.class).build();
+        TestWords.insert(mDb, 100);
+        WordDao dao = mDb.wordDao();
+        int categoryId = 1;
+        mDb.getOpenHelper().getWritableDatabase().execSQL("INSERT INTO categories (id, name) VALUES (1, 'Fruit')");
+        QuizWordSampler sampler = new QuizWordSampler(mDb, new LexiconMerger(ApplicationProvider.getApplicationContext()));
+        String key = "category:" + categoryId;
+        assertEquals(0, sampler.sample(key, () -> dao.getQuizWordIdsForCategory(categoryId), QUIZ_SIZE).size());
+
+        CountDownLatch invalidated = awaitInvalidation("word_category_cross_ref");
+        mDb.wordCategoryCrossRefDao().insert(new WordCategoryCrossRef(1, categoryId));
+        assertTrue(invalidated.await(5, TimeUnit.SECONDS));
+
+        assertEquals(1, sampler.sample(key, () -> dao.getQuizWordIdsForCategory(categoryId), QUIZ_SIZE).size());
+    }
+
+    @Test
+    @LargeTest
+    public void drawsBeatOrderByRandomAtEverySize() throws Exception {
+        Context context = ApplicationProvider.getApplicationContext();
+        context.deleteDatabase(BENCHMARK_DB);
+        // On disk: 500k words are too many for an in-memory database on small devices.
+        mDb = Room.databaseBuilder(context, WordRoomDatabase.class, BENCHMARK_DB).build();
+        int inserted = 0;
+        for (int size : new int[] {1_000, 50_000, 500_000}) {
+            // Grows the same database, so each size only inserts the difference.
+            TestWords.insert(mDb, inserted, size);
+            inserted = size;
+            WordDao dao = mDb.wordDao();
+            QuizWordSampler sampler = new QuizWordSampler(mDb, new LexiconMerger(ApplicationProvider.getApplicationContext()));
+            long baselineMs = orderByRandomMs();
+
+            long start = SystemClock.elapsedRealtimeNanos();
+            sampler.sample("learned+user", dao::getQuizWordIdsForLearnedAndUserAdded, QUIZ_SIZE);
+            long coldMs = (SystemClock.elapsedRealtimeNanos() - start) / 1_000_000;
+
+            start = SystemClock.elapsedRealtimeNanos();
+            for (int i = 0; i < WARM_DRAWS; i++) {
+                assertEquals(QUIZ_SIZE, sampler.sample("learned+user",
+                        dao::getQuizWordIdsForLearnedAndUserAdded, QUIZ_SIZE).size());
+            }
+            long warmMs = (SystemClock.elapsedRealtimeNanos() - start) / 1_000_000 / WARM_DRAWS;
+
+            Log.i(TAG, size + " words: ORDER BY RANDOM() " + baselineMs + " ms; first draw " + coldMs
+                    + " ms, then " + warmMs + " ms per draw");
+            assertTrue(size + " words: first draw " + coldMs + " ms, ORDER BY RANDOM() " + baselineMs + " ms",
+                    coldMs <= baselineMs + COLD_DRAW_SLACK_MS);
+            assertTrue(size + " words: " + warmMs + " ms per draw, budget " + WARM_DRAW_BUDGET_MS + " ms",
+                    warmMs <= WARM_DRAW_BUDGET_MS);
+        }
+    }
+
+    // Median of a few runs, rows read to the end like Room would.
+    private long orderByRandomMs() {
+        long[] runs = new long[BASELINE_RUNS];
+        for (int i = 0; i < BASELINE_RUNS; i++) {
+            long start = SystemClock.elapsedRealtimeNanos();
+            try (Cursor cursor = mDb.query(new SimpleSQLiteQuery(ORDER_BY_RANDOM, new Object[] {QUIZ_SIZE}))) {
+                int rows = 0;
+                while (cursor.moveToNext()) {
+                    rows++;
+                }
+                assertEquals(QUIZ_SIZE, rows);
+            }
+            runs[i] = (SystemClock.elapsedRealtimeNanos() - start) / 1_000_000;
+        }
+        Arrays.sort(runs);
+        return runs[BASELINE_RUNS / 2];
+    }
+
+    @NonNull
+    private CountDownLatch awaitInvalidation(@NonNull String table) {
+        CountDownLatch latch = new CountDownLatch(1);
+        mDb.getInvalidationTracker().addObserver(new InvalidationTracker.Observer(table) {
+            @Override
+            public void onInvalidated(@NonNull Set<String> tables) {
+                latch.countDown();
+            }
+        });
+        return latch;
+    }
+}
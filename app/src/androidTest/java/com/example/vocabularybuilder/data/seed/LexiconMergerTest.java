@@ -0,0 +1,79 @@
+package com.example.vocabularybuilder.data.seed;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import androidx.room.Room;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import com.example.vocabularybuilder.data.WordRoomDatabase;
+import com.example.vocabularybuilder.data.model.CefrLevel;
+import com.example.vocabularybuilder.data.model.Word;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Map;
+
+/**
+ * Prebuilt rows against the bundled corpus.bin: they are stored without text
+ * and read back with the lexicon's.
+ */
+@RunWith(AndroidJUnit4.class)
+public class LexiconMergerTest {
+
+    private WordRoomDatabase mDb;
+    private LexiconMerger mMerger;
+
+    @Before
+    public void setUp() {
+        mDb = Room.inMemoryDatabaseBuilder(ApplicationProvider.getApplicationContext(), WordRoomDatabase.class).build();
+        mMerger = new LexiconMerger(ApplicationProvider.getApplicationContext());
+    }
+
+    @After
+    public void tearDown() {
+        mDb.close();
+    }
+
+    @Test
+    public void prebuiltRowsReadTheirTextFromTheLexicon() {
+        Word base = mMerger.findBaseWord("apple");
+        mDb.wordDao().insert(mMerger.toStored(base));
+
+        Word row = mDb.wordDao().getWordByName("apple");
+        assertEquals("", row.getMeaning());
+
+        Word merged = mMerger.merge(row);
+        assertEquals(base.getMeaning(), merged.getMeaning());
+        assertEquals(base.getPartOfSpeech(), merged.getPartOfSpeech());
+        assertEquals(base.getExample(), merged.getExample());
+        assertEquals(CefrLevel.A1, merged.getCefrLevel());
+    }
+
+    @Test
+    public void onlyTheLexiconTextIsDroppedOnWrite() {
+        Word base = mMerger.findBaseWord("apple");
+        base.setLearned(true);
+        Word stored = mMerger.toStored(base);
+        assertEquals("", stored.getExample());
+        assertTrue(stored.isLearned());
+        // The caller's copy still has its text.
+        assertNotEquals("", base.getMeaning());
+
+        Word own = new Word("apple", "my own note", "noun", "Mine.");
+        assertSame(own, mMerger.toStored(own));
+    }
+
+    @Test
+    public void searchFindsPrebuiltWordsByMeaning() {
+        Map<String, Integer> hits = mMerger.search(BaseLexicon.tokenize("Round FRU"), 10);
+        assertEquals(Integer.valueOf(1), hits.get("apple"));
+        assertEquals(Integer.valueOf(0), mMerger.search(BaseLexicon.tokenize("appl"), 10).get("apple"));
+    }
+}
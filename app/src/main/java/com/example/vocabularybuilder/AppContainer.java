@@ -0,0 +1,122 @@
+package com.example.vocabularybuilder;
+
+import android.app.Application;
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.vocabularybuilder.api.ApiClient;
+import com.example.vocabularybuilder.data.WordRoomDatabase;
+import com.example.vocabularybuilder.data.model.Category;
+import com.example.vocabularybuilder.data.model.CategoryCounts;
+import com.example.vocabularybuilder.data.model.HomeSnapshot;
+import com.example.vocabularybuilder.data.model.Word;
+import com.example.vocabularybuilder.data.repository.CategoryRepository;
+import com.example.vocabularybuilder.data.repository.UserRepository;
+import com.example.vocabularybuilder.data.repository.WordRepository;
+import com.example.vocabularybuilder.utils.Constants;
+import com.example.vocabularybuilder.utils.StartupTimeline;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the single instance of each repository and of the ApiService for the
+ * whole process. ViewModels pull from here instead of building their own data
+ * stack, so every screen shares the same DAOs, LiveData streams and caches.
+ * Everything is created lazily on first use.
+ */
+public class AppContainer {
+
+    private final Application mApplication;
+
+    private ApiClient.ApiService mApiService;
+    private WordRepository mWordRepository;
+    private UserRepository mUserRepository;
+    private CategoryRepository mCategoryRepository;
+
+    // Written once by the prefetch, taken once on the main thread by MainActivity.
+    private final AtomicReference<HomeSnapshot> mHomeSnapshot = new AtomicReference<>();
+
+    AppContainer(@NonNull Application application) {
+        mApplication = application;
+    }
+
+    public WordRoomDatabase getDatabase() {
+        return WordRoomDatabase.getDatabase(mApplication);
+    }
+
+    public synchronized ApiClient.ApiService getApiService() {
+        if (mApiService == null) {
+            mApiService = ApiClient.getClient().create(ApiClient.ApiService.class);
+        }
+        return mApiService;
+    }
+
+    public synchronized WordRepository getWordRepository() {
+        if (mWordRepository == null) {
+            mWordRepository = new WordRepository(mApplication, getDatabase(), getApiService());
+        }
+        return mWordRepository;
+    }
+
+    public synchronized UserRepository getUserRepository() {
+        if (mUserRepository == null) {
+            mUserRepository = new UserRepository(mApplication, getDatabase());
+        }
+        return mUserRepository;
+    }
+
+    public synchronized CategoryRepository getCategoryRepository() {
+        if (mCategoryRepository == null) {
+            mCategoryRepository = new CategoryRepository(getDatabase());
+        }
+        return mCategoryRepository;
+    }
+
+    /**
+     * Called from Application.onCreate. If a user is logged in, opens the database
+     * and loads the home-screen payload in parallel, so MainActivity can bind a
+     * populated screen on its first frame instead of waiting for Room.
+     */
+    void prefetchHomeScreen() {
+        WordRoomDatabase.databaseReadExecutor.execute(() -> {
+            SharedPreferences prefs = mApplication.getSharedPreferences(Constants.PREFERENCE_FILE_KEY, Context.MODE_PRIVATE);
+            if (!prefs.getBoolean(Constants.IS_LOGGED_IN_KEY, false)) {
+                return; // MainActivity will go straight to the login screen
+            }
+            StartupTimeline.mark("home_prefetch:start");
+
+            WordRepository wordRepository = getWordRepository();
+            CompletableFuture<Word> wordOfTheDay = wordRepository.loadWordOfTheDay();
+            CompletableFuture<List<Category>> categories = getCategoryRepository().loadAllCategories();
+            CompletableFuture<List<CategoryCounts>> counts = wordRepository.loadCategoryCounts();
+            CompletableFuture<Integer> streak = wordRepository.loadStreak();
+
+            CompletableFuture.allOf(wordOfTheDay, categories, counts, streak)
+                    .thenRun(() -> {
+                        mHomeSnapshot.set(new HomeSnapshot(wordOfTheDay.join(), categories.join(),
+                                counts.join(), streak.join()));
+                        StartupTimeline.mark("home_prefetch:end");
+                    })
+                    .exceptionally(e -> {
+                        Log.w("AppContainer", "Home screen prefetch failed", e);
+                        return null;
+                    });
+        });
+    }
+
+    /**
+     * The prefetched home-screen payload, or null if it is not ready yet or was
+     * already taken. It reflects the database at process start, so only the
+     * first MainActivity gets it; later ones wait for their observers.
+     */
+    @Nullable
+    public HomeSnapshot takeHomeSnapshot() {
+        return mHomeSnapshot.getAndSet(null);
+    }
+}
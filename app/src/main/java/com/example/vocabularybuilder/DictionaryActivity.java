@@ -10,25 +10,24 @@ import androidx.appcompat.app.AppCompatActivity;
 import androidx.appcompat.widget.SearchView;
 import androidx.lifecycle.ViewModelProvider;
 import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
 
 
-import com.example.vocabularybuilder.data.model.Word;
+import com.example.vocabularybuilder.data.model.WordSummary;
 import com.example.vocabularybuilder.databinding.ActivityDictionaryBinding;
 import com.example.vocabularybuilder.ui.adapters.WordListAdapter;
+import com.example.vocabularybuilder.ui.adapters.WordPagingAdapter;
 import com.example.vocabularybuilder.viewmodel.WordViewModel;
 
-import java.util.ArrayList; 
-import java.util.List;
-
 public class DictionaryActivity extends AppCompatActivity implements WordListAdapter.OnItemClickListener {
 
     private WordViewModel mWordViewModel;
-    private WordListAdapter mAdapter;
+    private WordPagingAdapter mAdapter;
+    // Shown instead of mAdapter while there is search text.
+    private WordListAdapter mSearchAdapter;
 
     private ActivityDictionaryBinding binding;
 
-    private List<Word> mAllWordsList = new ArrayList<>();
-
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -42,19 +41,22 @@ public class DictionaryActivity extends AppCompatActivity implements WordListAda
         }
 
         // Setup RecyclerView
-        mAdapter = new WordListAdapter(new WordListAdapter.WordDiff());
+        // Paged: only the rows near the visible window are loaded.
+        mAdapter = new WordPagingAdapter(new WordListAdapter.WordDiff());
         binding.dictionaryRecyclerview.setAdapter(mAdapter);
         binding.dictionaryRecyclerview.setLayoutManager(new LinearLayoutManager(this));
         mAdapter.setOnItemClickListener(this);
 
+        mSearchAdapter = new WordListAdapter(new WordListAdapter.WordDiff());
+        mSearchAdapter.setOnItemClickListener(this);
+
         // Setup ViewModel and observe data
         mWordViewModel = new ViewModelProvider(this).get(WordViewModel.class);
-        mWordViewModel.getAllWords().observe(this, words -> {
-            mAllWordsList.clear();
-            mAllWordsList.addAll(words);
-            // Submit the full list to the adapter
-            mAdapter.submitList(words);
-        });
+        mWordViewModel.getAllWords().observe(this, words ->
+                mAdapter.submitData(getLifecycle(), words));
+        // Searching goes through the full-text index on a background thread;
+        // the main thread only receives the ranked matches.
+        mWordViewModel.getSearchResults().observe(this, mSearchAdapter::submitList);
     }
 
     @Override
@@ -73,7 +75,9 @@ public class DictionaryActivity extends AppCompatActivity implements WordListAda
 
             @Override
             public boolean onQueryTextChange(String newText) {
-                filter(newText);
+                String query = newText != null ? newText.trim() : "";
+                showSearchResults(!query.isEmpty());
+                mWordViewModel.setSearchQuery(query);
                 return true;
             }
         });
@@ -81,19 +85,11 @@ public class DictionaryActivity extends AppCompatActivity implements WordListAda
         return true;
     }
 
-    private void filter(String query) {
-        List<Word> filteredList = new ArrayList<>();
-        if (query == null || query.isEmpty()) {
-            filteredList.addAll(mAllWordsList);
-        } else {
-            String filterPattern = query.toLowerCase().trim();
-            for (Word word : mAllWordsList) {
-                if (word.getWord().toLowerCase().contains(filterPattern)) {
-                    filteredList.add(word);
-                }
-            }
+    private void showSearchResults(boolean searching) {
+        RecyclerView.Adapter<?> adapter = searching ? mSearchAdapter : mAdapter;
+        if (binding.dictionaryRecyclerview.getAdapter() != adapter) {
+            binding.dictionaryRecyclerview.setAdapter(adapter);
         }
-        mAdapter.submitList(filteredList);
     }
 
     @Override
@@ -103,7 +99,7 @@ public class DictionaryActivity extends AppCompatActivity implements WordListAda
     }
 
     @Override
-    public void onItemClick(Word word) {
+    public void onItemClick(WordSummary word) {
         Intent intent = new Intent(this, WordDetailActivity.class);
         intent.putExtra(WordDetailActivity.EXTRA_WORD_ID, word.getId());
         startActivity(intent);
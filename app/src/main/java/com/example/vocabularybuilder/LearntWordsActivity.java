@@ -10,7 +10,7 @@ import androidx.lifecycle.ViewModelProvider;
 import androidx.recyclerview.widget.LinearLayoutManager;
 
 import com.example.vocabularybuilder.databinding.ActivityWordListBinding;
-import com.example.vocabularybuilder.data.model.Word;
+import com.example.vocabularybuilder.data.model.WordSummary;
 import com.example.vocabularybuilder.ui.adapters.WordListAdapter;
 import com.example.vocabularybuilder.viewmodel.WordViewModel;
 
@@ -62,7 +62,7 @@ public class LearntWordsActivity extends AppCompatActivity implements WordListAd
 
     // Handle clicks on a word in the list
     @Override
-    public void onItemClick(Word word) {
+    public void onItemClick(WordSummary word) {
         Intent intent = new Intent(this, WordDetailActivity.class);
         // Use the constant from WordDetailActivity
         intent.putExtra(WordDetailActivity.EXTRA_WORD_ID, word.getId());
@@ -1,8 +1,10 @@
 package com.example.vocabularybuilder;
 
 import android.app.AlertDialog;
+import android.content.BroadcastReceiver;
 import android.content.Context;
 import android.content.Intent;
+import android.content.IntentFilter;
 import android.content.SharedPreferences;
 import android.os.Bundle;
 import android.view.Menu;
@@ -11,14 +13,20 @@ import android.widget.Toast;
 
 import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
+import androidx.core.content.ContextCompat;
 import androidx.lifecycle.ViewModelProvider;
 import androidx.recyclerview.widget.GridLayoutManager;
 
 import com.example.vocabularybuilder.data.model.Category;
+import com.example.vocabularybuilder.data.model.CefrLevel;
+import com.example.vocabularybuilder.data.model.HomeSnapshot;
+import com.example.vocabularybuilder.data.model.Word;
+import com.example.vocabularybuilder.data.seed.SeedProgress;
 import com.example.vocabularybuilder.databinding.ActivityMainBinding;
 import com.example.vocabularybuilder.databinding.DialogCreateCategoryBinding;
 import com.example.vocabularybuilder.ui.adapters.CategoryAdapter;
 import com.example.vocabularybuilder.utils.Constants;
+import com.example.vocabularybuilder.utils.StartupTimeline;
 import com.example.vocabularybuilder.viewmodel.CategoryViewModel;
 import com.example.vocabularybuilder.viewmodel.WordViewModel;
 
@@ -31,15 +39,29 @@ public class MainActivity extends AppCompatActivity {
     private CategoryViewModel mCategoryViewModel;
     private CategoryAdapter mCategoryAdapter;
 
+    private List<Category> mCustomCategories = new ArrayList<>();
+    private SeedProgress mSeedProgress;
+
     private ActivityMainBinding binding;
 
+    // Rolls the word of the day over at midnight (or on a clock or time zone
+    // change) while the home screen is showing.
+    private final BroadcastReceiver mDateChangeReceiver = new BroadcastReceiver() {
+        @Override
+        public void onReceive(Context context, Intent intent) {
+            mWordViewModel.refreshWordOfTheDay();
+        }
+    };
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        StartupTimeline.mark("main_activity_create:start");
 
         // Use Constants.java for SharedPreferences keys
         SharedPreferences sharedPref = getSharedPreferences(Constants.PREFERENCE_FILE_KEY, Context.MODE_PRIVATE);
         boolean isLoggedIn = sharedPref.getBoolean(Constants.IS_LOGGED_IN_KEY, false);
+        StartupTimeline.mark("login_check");
 
         if (!isLoggedIn) {
             Intent intent = new Intent(MainActivity.this, LoginActivity.class);
@@ -58,6 +80,49 @@ public class MainActivity extends AppCompatActivity {
 
         // Call the setup method
         setupViews();
+
+        // Bind whatever the process-start prefetch has already loaded, so the
+        // first frame is populated. The observers keep it up to date afterwards.
+        // The snapshot is handed out once: a recreated activity would otherwise
+        // flash process-start data before its observers deliver.
+        HomeSnapshot snapshot = VocabularyApplication.getContainer(this).takeHomeSnapshot();
+        if (snapshot != null) {
+            bindSnapshot(snapshot);
+        }
+        StartupTimeline.mark("main_activity_create:end");
+    }
+
+    @Override
+    protected void onStart() {
+        super.onStart();
+        if (mWordViewModel == null) {
+            return; // Redirected to login in onCreate.
+        }
+        IntentFilter filter = new IntentFilter(Intent.ACTION_DATE_CHANGED);
+        filter.addAction(Intent.ACTION_TIME_CHANGED);
+        filter.addAction(Intent.ACTION_TIMEZONE_CHANGED);
+        ContextCompat.registerReceiver(this, mDateChangeReceiver, filter, ContextCompat.RECEIVER_NOT_EXPORTED);
+        // The day may also have changed while the screen was in the background.
+        mWordViewModel.refreshWordOfTheDay();
+    }
+
+    @Override
+    protected void onStop() {
+        super.onStop();
+        if (mWordViewModel != null) {
+            unregisterReceiver(mDateChangeReceiver);
+        }
+    }
+
+    private void bindSnapshot(@NonNull HomeSnapshot snapshot) {
+        if (snapshot.getWordOfTheDay() != null) {
+            binding.wordOfTheDayText.setText(snapshot.getWordOfTheDay().getWord());
+            StartupTimeline.markWordOfTheDayShown(binding.getRoot());
+        }
+        mCustomCategories = new ArrayList<>(snapshot.getCustomCategories());
+        showCategories();
+        mCategoryAdapter.setCounts(snapshot.getCategoryCounts());
+        StartupTimeline.markCategoriesShown(binding.getRoot());
     }
 
     private void setupViews() {
@@ -68,6 +133,7 @@ public class MainActivity extends AppCompatActivity {
         mWordViewModel.getWordOfTheDay().observe(this, word -> {
             if (word != null) {
                 binding.wordOfTheDayText.setText(word.getWord());
+                StartupTimeline.markWordOfTheDayShown(binding.getRoot());
             } else {
                 binding.wordOfTheDayText.setText("No word available");
             }
@@ -117,6 +183,8 @@ public class MainActivity extends AppCompatActivity {
             public void onCategoryClick(Category category) {
                 Intent intent = new Intent(MainActivity.this, WordListActivity.class);
                 intent.putExtra(WordListActivity.EXTRA_CATEGORY, category.getName());
+                // 0 for the built-in categories; custom ones are then queried by id
+                intent.putExtra(WordListActivity.EXTRA_CATEGORY_ID, category.getId());
                 startActivity(intent);
             }
 
@@ -130,28 +198,39 @@ public class MainActivity extends AppCompatActivity {
     private void loadCategories() {
         // Observe custom categories and manually add the static CEFR categories
         mCategoryViewModel.getAllCategories().observe(this, customCategories -> {
+            mCustomCategories = customCategories != null ? customCategories : new ArrayList<>();
+            showCategories();
+            StartupTimeline.markCategoriesShown(binding.getRoot());
+        });
+
+        // Word counts for every card come from the trigger-maintained counter rows
+        mWordViewModel.getCategoryCounts().observe(this, mCategoryAdapter::setCounts);
 
-            List<Category> allCategories = new ArrayList<>();
+        // While a seed import is running, CEFR levels appear as soon as they are committed
+        mWordViewModel.getSeedProgress().observe(this, progress -> {
+            mSeedProgress = progress;
+            showCategories();
+        });
+    }
 
-            // 1. Add static "User Added" category
-            allCategories.add(new Category("User Added"));
+    private void showCategories() {
+        List<Category> allCategories = new ArrayList<>();
 
-            // 2. Add static CEFR Level categories
-            allCategories.add(new Category("A1"));
-            allCategories.add(new Category("A2"));
-            allCategories.add(new Category("B1"));
-            allCategories.add(new Category("B2"));
-            allCategories.add(new Category("C1"));
-            allCategories.add(new Category("C2"));
+        // 1. Add static "User Added" category
+        allCategories.add(new Category(Word.USER_ADDED_CATEGORY));
 
-            // 3. Add all the user's custom categories
-            if (customCategories != null) {
-                allCategories.addAll(customCategories);
+        // 2. Add static CEFR Level categories that are ready to browse
+        for (CefrLevel level : CefrLevel.values()) {
+            if (mSeedProgress == null || mSeedProgress.isLevelReady(level)) {
+                allCategories.add(new Category(level.getLabel()));
             }
+        }
 
-            // 4. Send the complete list to the adapter
-            mCategoryAdapter.setCategories(allCategories);
-        });
+        // 3. Add all the user's custom categories
+        allCategories.addAll(mCustomCategories);
+
+        // 4. Send the complete list to the adapter
+        mCategoryAdapter.setCategories(allCategories);
     }
 
     private void showCreateCategoryDialog() {
@@ -182,9 +261,10 @@ public class MainActivity extends AppCompatActivity {
     private void createCategory(String name) {
         // Correctly created the new Category object before inserting.
         Category category = new Category(name);
-        mCategoryViewModel.insert(category);
-
-        Toast.makeText(this, "Category created", Toast.LENGTH_SHORT).show();
+        mCategoryViewModel.insert(category).thenAccept(id -> runOnUiThread(() -> {
+            String message = id == -1 ? "A category named \"" + name + "\" already exists" : "Category created";
+            Toast.makeText(this, message, Toast.LENGTH_SHORT).show();
+        }));
     }
 
     @Override
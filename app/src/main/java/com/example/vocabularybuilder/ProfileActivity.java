@@ -51,14 +51,16 @@ public class ProfileActivity extends AppCompatActivity {
         // IMPROVEMENT 1: Remove all findViewById calls
 
         // Setup RecyclerView
-        final QuizHistoryAdapter adapter = new QuizHistoryAdapter(new QuizHistoryAdapter.QuizHistoryDiff());
-        binding.quizHistoryRecyclerview.setAdapter(adapter);
-        binding.quizHistoryRecyclerview.setLayoutManager(new LinearLayoutManager(this));
-
         // Setup ViewModels
         mWordViewModel = new ViewModelProvider(this).get(WordViewModel.class);
         mUserViewModel = new ViewModelProvider(this).get(UserViewModel.class);
 
+        // Questions are fetched per quiz, only when its card is expanded
+        final QuizHistoryAdapter adapter = new QuizHistoryAdapter(new QuizHistoryAdapter.QuizHistoryDiff(),
+                mWordViewModel::loadQuizQuestions);
+        binding.quizHistoryRecyclerview.setAdapter(adapter);
+        binding.quizHistoryRecyclerview.setLayoutManager(new LinearLayoutManager(this));
+
         // Load user profile details
         loadUserProfile();
 
@@ -66,7 +68,8 @@ public class ProfileActivity extends AppCompatActivity {
         loadStatistics();
 
         // Observe Quiz History
-        mWordViewModel.getQuizHistory().observe(this, adapter::submitList);
+        mWordViewModel.getQuizHistory().observe(this, history ->
+                adapter.submitData(getLifecycle(), history));
 
         // IMPROVEMENT 2 (CRASH FIX): Remove the old logout button listener
         // The logout button is now in the menu (onOptionsItemSelected)
@@ -102,9 +105,9 @@ public class ProfileActivity extends AppCompatActivity {
 
     private void loadStatistics() {
         // Update learned words count
-        mWordViewModel.getLearnedWordCount().thenAccept(count -> runOnUiThread(() -> {
+        mWordViewModel.getLearnedWordCount().observe(this, count -> {
             binding.learntWordsCount.setText(String.valueOf(count));
-        }));
+        });
 
         // Update words learned today count
         mWordViewModel.getWordsLearnedTodayCount().thenAccept(count -> runOnUiThread(() -> {
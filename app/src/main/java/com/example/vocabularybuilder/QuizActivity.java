@@ -70,6 +70,7 @@ public class QuizActivity extends AppCompatActivity implements View.OnClickListe
         // Get quiz parameters from Intent
         mNumQuestions = getIntent().getIntExtra(QuizSetupActivity.EXTRA_NUM_QUESTIONS, 5);
         String category = getIntent().getStringExtra(QuizSetupActivity.EXTRA_CATEGORY);
+        int categoryId = getIntent().getIntExtra(QuizSetupActivity.EXTRA_CATEGORY_ID, 0);
 
         mWordViewModel = new ViewModelProvider(this).get(WordViewModel.class);
 
@@ -81,7 +82,7 @@ public class QuizActivity extends AppCompatActivity implements View.OnClickListe
         // IMPROVEMENT 3 (BUILD FIX):
         // Call the new, smart 'getQuizWords' method from the ViewModel
         //
-        mWordViewModel.getQuizWords(category, mNumQuestions * 4).thenAccept(words -> runOnUiThread(() -> {
+        mWordViewModel.getQuizWords(category, categoryId, mNumQuestions * 4).thenAccept(words -> runOnUiThread(() -> {
             if (words != null && words.size() >= 4 && words.size() >= mNumQuestions) {
                 mQuizWords = words;
                 loadNewQuestion();
@@ -155,7 +156,8 @@ public class QuizActivity extends AppCompatActivity implements View.OnClickListe
     // 'QuizScoreActivity' and passes it the score.
     //
     private void finishQuiz() {
-        // 1. Save the quiz result and questions to the database
+        // 1. Save the quiz result and questions to the database.
+        // This is a single transaction; QuizScoreActivity waits for it to confirm.
         QuizResult result = new QuizResult(mScore, new Date());
         mWordViewModel.saveQuizResult(result, mQuizQuestions);
 
@@ -2,11 +2,16 @@ package com.example.vocabularybuilder;
 
 import android.content.Intent;
 import android.os.Bundle;
+import android.view.View;
 // IMPROVEMENT 1: Removed unused Button and TextView imports
 import androidx.appcompat.app.AppCompatActivity;
+import androidx.lifecycle.ViewModelProvider;
 
 // IMPROVEMENT 1: Import ViewBinding
 import com.example.vocabularybuilder.databinding.ActivityQuizScoreBinding;
+import com.example.vocabularybuilder.viewmodel.WordViewModel;
+
+import java.util.concurrent.CompletableFuture;
 
 public class QuizScoreActivity extends AppCompatActivity {
 
@@ -42,6 +47,8 @@ public class QuizScoreActivity extends AppCompatActivity {
         // We will set the main title to the percentage
         binding.scoreTitle.setText(percentText);
 
+        showSaveStatus();
+
         // IMPROVEMENT 1: Set listener on the binding object
         binding.buttonFinishQuiz.setOnClickListener(v -> {
             // Finish this activity and return to the main screen
@@ -51,4 +58,19 @@ public class QuizScoreActivity extends AppCompatActivity {
             finish();
         });
     }
-}
\ No newline at end of file
+
+    // Reports whether QuizActivity's save of this quiz has committed.
+    private void showSaveStatus() {
+        WordViewModel wordViewModel = new ViewModelProvider(this).get(WordViewModel.class);
+        CompletableFuture<Long> save = wordViewModel.getLastQuizSave();
+        if (save == null) {
+            // e.g. the process was restarted on this screen; nothing to report
+            binding.saveStatusText.setVisibility(View.GONE);
+            return;
+        }
+        save.whenComplete((resultId, error) -> runOnUiThread(() ->
+                binding.saveStatusText.setText(error == null
+                        ? R.string.quiz_score_saved
+                        : R.string.quiz_score_save_failed)));
+    }
+}
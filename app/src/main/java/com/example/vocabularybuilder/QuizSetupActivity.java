@@ -9,6 +9,8 @@ import android.widget.Toast;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.lifecycle.ViewModelProvider;
 
+import com.example.vocabularybuilder.data.model.Category;
+import com.example.vocabularybuilder.data.model.CategoryCounts;
 // IMPROVEMENT 1: Import ViewBinding
 import com.example.vocabularybuilder.databinding.ActivityQuizSetupBinding;
 import com.example.vocabularybuilder.viewmodel.WordViewModel;
@@ -23,8 +25,13 @@ public class QuizSetupActivity extends AppCompatActivity {
     // These are the constants that QuizActivity.java needs.
     public static final String EXTRA_CATEGORY = "com.example.vocabularybuilder.EXTRA_CATEGORY";
     public static final String EXTRA_NUM_QUESTIONS = "com.example.vocabularybuilder.EXTRA_NUM_QUESTIONS";
+    // Id of a custom category; absent (0) for "User Added" and the CEFR levels.
+    public static final String EXTRA_CATEGORY_ID = "com.example.vocabularybuilder.EXTRA_CATEGORY_ID";
 
     private String mCategory;
+    private int mCategoryId;
+    // Words the quiz can draw from; -1 until the count has loaded.
+    private int mAvailableCount = -1;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -48,6 +55,7 @@ public class QuizSetupActivity extends AppCompatActivity {
 
         // Get category from intent - This logic is correct!
         mCategory = getIntent().getStringExtra(EXTRA_CATEGORY);
+        mCategoryId = getIntent().getIntExtra(EXTRA_CATEGORY_ID, 0);
 
         // Get word count based on category
         if (mCategory != null && !mCategory.isEmpty()) {
@@ -55,22 +63,34 @@ public class QuizSetupActivity extends AppCompatActivity {
             if (getSupportActionBar() != null) {
                 getSupportActionBar().setTitle("Quiz: " + mCategory);
             }
-            mWordViewModel.getWordCountForCategory(mCategory).thenAccept(count -> runOnUiThread(() -> {
+            // One read of the counter rows serves every category; it updates if words change meanwhile.
+            Category category = new Category(mCategory);
+            category.setId(mCategoryId);
+            String key = CategoryCounts.keyOf(category);
+            mWordViewModel.getCategoryCounts().observe(this, allCounts -> {
+                mAvailableCount = 0;
+                for (CategoryCounts counts : allCounts) {
+                    if (counts.getKey().equals(key)) {
+                        mAvailableCount = counts.getQuizEligible();
+                        break;
+                    }
+                }
                 String prompt = getString(R.string.quiz_setup_prompt) +
-                        "\n(You have " + count + " " + mCategory + " words available)";
+                        "\n(You have " + mAvailableCount + " " + mCategory + " words available)";
                 binding.quizSetupPrompt.setText(prompt);
-            }));
+            });
         } else {
             // Set a generic title for the general quiz
             if (getSupportActionBar() != null) {
                 getSupportActionBar().setTitle("General Quiz");
             }
             // If no category specified, default to learned and user-added words
-            mWordViewModel.getLearnedAndUserAddedWordCount().thenAccept(count -> runOnUiThread(() -> {
+            mWordViewModel.getLearnedAndUserAddedWordCount().observe(this, count -> {
+                mAvailableCount = count;
                 String prompt = getString(R.string.quiz_setup_prompt) +
                         "\n(You have " + count + " words available)";
                 binding.quizSetupPrompt.setText(prompt);
-            }));
+            });
         }
 
         // IMPROVEMENT 1: Set listener on the binding object
@@ -98,24 +118,14 @@ public class QuizSetupActivity extends AppCompatActivity {
                 return;
             }
 
-            // Check word count based on category - This logic is excellent!
-            if (mCategory != null) {
-                mWordViewModel.getWordCountForCategory(mCategory).thenAccept(count -> runOnUiThread(() -> {
-                    if (numQuestions > count) {
-                        Toast.makeText(this, "You don't have that many " + mCategory + " words available", Toast.LENGTH_SHORT).show();
-                    } else {
-                        startQuiz(numQuestions);
-                    }
-                }));
+            // The count shown in the prompt is reused; no second query.
+            if (mAvailableCount < 0) {
+                Toast.makeText(this, "Still counting your words, please try again", Toast.LENGTH_SHORT).show();
+            } else if (numQuestions > mAvailableCount) {
+                String which = mCategory != null && !mCategory.isEmpty() ? mCategory + " " : "";
+                Toast.makeText(this, "You don't have that many " + which + "words available", Toast.LENGTH_SHORT).show();
             } else {
-                // If no category specified, check learned and user-added words
-                mWordViewModel.getLearnedAndUserAddedWordCount().thenAccept(count -> runOnUiThread(() -> {
-                    if (numQuestions > count) {
-                        Toast.makeText(this, "You don't have that many words available", Toast.LENGTH_SHORT).show();
-                    } else {
-                        startQuiz(numQuestions);
-                    }
-                }));
+                startQuiz(numQuestions);
             }
         });
     }
@@ -125,6 +135,7 @@ public class QuizSetupActivity extends AppCompatActivity {
         // IMPROVEMENT 3 (BUILD FIX): Use the static constant
         intent.putExtra(EXTRA_NUM_QUESTIONS, numQuestions);
         intent.putExtra(EXTRA_CATEGORY, mCategory); // Also pass category to quiz
+        intent.putExtra(EXTRA_CATEGORY_ID, mCategoryId);
         startActivity(intent);
         finish();
     }
@@ -14,6 +14,7 @@ import androidx.recyclerview.widget.LinearLayoutManager;
 
 import com.example.vocabularybuilder.api.ApiClient;
 import com.example.vocabularybuilder.data.model.Word;
+import com.example.vocabularybuilder.data.model.WordSummary;
 import com.example.vocabularybuilder.databinding.ActivitySearchBinding;
 import com.example.vocabularybuilder.ui.adapters.WordListAdapter;
 import com.example.vocabularybuilder.viewmodel.WordViewModel;
@@ -58,8 +59,15 @@ public class SearchActivity extends AppCompatActivity {
         binding.searchResultsRecyclerView.setAdapter(mAdapter);
         binding.searchResultsRecyclerView.setLayoutManager(new LinearLayoutManager(this));
 
-        // IMPROVEMENT: Use method reference
-        mAdapter.setOnItemClickListener(this::addWordToDatabaseAndNavigate);
+        // The adapter shows summaries; the full API result is kept in mSearchResults.
+        mAdapter.setOnItemClickListener(summary -> {
+            for (Word word : mSearchResults) {
+                if (word.getWord().equals(summary.getWord())) {
+                    addWordToDatabaseAndNavigate(word);
+                    return;
+                }
+            }
+        });
     }
 
     private void setupSearchFunctionality() {
@@ -76,7 +84,7 @@ public class SearchActivity extends AppCompatActivity {
             public void afterTextChanged(Editable s) {
                 if (s.toString().isEmpty()) {
                     mSearchResults.clear();
-                    mAdapter.submitList(mSearchResults);
+                    mAdapter.submitList(WordSummary.fromWords(mSearchResults));
                     binding.noResultsTextView.setVisibility(View.GONE);
                 }
             }
@@ -96,7 +104,7 @@ public class SearchActivity extends AppCompatActivity {
 
         showLoading(true);
 
-        ApiClient.ApiService apiService = ApiClient.getClient().create(ApiClient.ApiService.class);
+        ApiClient.ApiService apiService = VocabularyApplication.getContainer(this).getApiService();
         Call<List<ApiClient.ApiWord>> call = apiService.getWordDefinition(query);
 
         // IMPROVEMENT: Use diamond operator <>
@@ -109,11 +117,11 @@ public class SearchActivity extends AppCompatActivity {
                     List<Word> words = convertApiWordsToAppWords(response.body());
                     mSearchResults.clear();
                     mSearchResults.addAll(words);
-                    mAdapter.submitList(mSearchResults);
+                    mAdapter.submitList(WordSummary.fromWords(mSearchResults));
                     binding.noResultsTextView.setVisibility(View.GONE);
                 } else {
                     mSearchResults.clear();
-                    mAdapter.submitList(mSearchResults);
+                    mAdapter.submitList(WordSummary.fromWords(mSearchResults));
                     binding.noResultsTextView.setVisibility(View.VISIBLE);
                 }
             }
@@ -124,7 +132,7 @@ public class SearchActivity extends AppCompatActivity {
                 Toast.makeText(SearchActivity.this, "Search failed: " + t.getMessage(), Toast.LENGTH_LONG).show();
 
                 mSearchResults.clear();
-                mAdapter.submitList(mSearchResults);
+                mAdapter.submitList(WordSummary.fromWords(mSearchResults));
                 binding.noResultsTextView.setVisibility(View.VISIBLE);
             }
         });
@@ -144,7 +152,7 @@ public class SearchActivity extends AppCompatActivity {
                     String example = firstDefinition.getExample() != null ? firstDefinition.getExample() : "";
                     String partOfSpeech = firstMeaning.getPartOfSpeech() != null ? firstMeaning.getPartOfSpeech() : "";
 
-                    Word word = new Word(apiWord.getWord(), meaning, partOfSpeech, example, "User Added", false, false);
+                    Word word = new Word(apiWord.getWord(), meaning, partOfSpeech, example);
                     appWords.add(word);
                 }
             }
@@ -0,0 +1,34 @@
+package com.example.vocabularybuilder;
+
+import android.app.Application;
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+
+import com.example.vocabularybuilder.utils.StartupTimeline;
+
+/**
+ * Process-wide entry point. Owns the AppContainer so the data layer is built
+ * once per process rather than once per ViewModel.
+ */
+public class VocabularyApplication extends Application {
+
+    private AppContainer mContainer;
+
+    @Override
+    public void onCreate() {
+        StartupTimeline.mark("application_create:start");
+        super.onCreate();
+        mContainer = new AppContainer(this);
+        mContainer.prefetchHomeScreen();
+        StartupTimeline.mark("application_create:end");
+    }
+
+    public AppContainer getContainer() {
+        return mContainer;
+    }
+
+    public static AppContainer getContainer(@NonNull Context context) {
+        return ((VocabularyApplication) context.getApplicationContext()).getContainer();
+    }
+}
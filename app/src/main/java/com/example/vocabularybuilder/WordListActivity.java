@@ -3,40 +3,54 @@ package com.example.vocabularybuilder;
 import android.app.AlertDialog;
 import android.content.Intent;
 import android.os.Bundle;
+import android.view.Menu;
+import android.view.MenuItem;
 import android.view.View; // IMPROVEMENT: Import View
 import android.widget.Toast; // IMPROVEMENT: Import Toast
 
 import androidx.annotation.NonNull; // IMPROVEMENT: Import NonNull
 import androidx.appcompat.app.AppCompatActivity;
+import androidx.appcompat.view.ActionMode;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.ViewModelProvider;
 import androidx.recyclerview.widget.LinearLayoutManager;
 // IMPROVEMENT 1: Removed unused RecyclerView, Button, TextView imports
 
 import com.example.vocabularybuilder.data.model.Category;
-import com.example.vocabularybuilder.data.model.Word;
+import com.example.vocabularybuilder.data.model.CefrLevel;
+import com.example.vocabularybuilder.data.model.WordSummary;
 import com.example.vocabularybuilder.data.model.WordCategoryCrossRef;
 // IMPROVEMENT 1: Import ViewBinding
 import com.example.vocabularybuilder.databinding.ActivityWordListBinding;
 import com.example.vocabularybuilder.ui.adapters.WordListAdapter;
+import com.example.vocabularybuilder.ui.adapters.WordPagingAdapter;
 import com.example.vocabularybuilder.viewmodel.CategoryViewModel;
 import com.example.vocabularybuilder.viewmodel.WordViewModel;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public class WordListActivity extends AppCompatActivity implements WordListAdapter.OnItemClickListener {
 
     // This constant is correct and is used by MainActivity
     public static final String EXTRA_CATEGORY = "com.example.vocabularybuilder.CATEGORY";
+    // Id of a custom category; absent (0) for "User Added" and the CEFR levels.
+    public static final String EXTRA_CATEGORY_ID = "com.example.vocabularybuilder.CATEGORY_ID";
+
+    private static final String STATE_SELECTED_IDS = "selected_ids";
 
     private WordViewModel mWordViewModel;
     private CategoryViewModel mCategoryViewModel;
-    private WordListAdapter mAdapter;
+    private WordPagingAdapter mAdapter;
     private String mCategoryName;
-
-    // IMPROVEMENT 4 (BUILD FIX):
-    // We need to hold the Category object to get its ID for deleting
-    private Category mCurrentCategoryObject;
+    private int mCategoryId;
+    // Set when this list is a CEFR level.
+    private CefrLevel mLevel;
+    // Custom categories, for "Add to category" on a selection.
+    private final List<Category> mCategoryList = new ArrayList<>();
+    private ActionMode mActionMode;
 
     // IMPROVEMENT 1: Use ViewBinding
     private ActivityWordListBinding binding;
@@ -58,16 +72,19 @@ public class WordListActivity extends AppCompatActivity implements WordListAdapt
         }
 
         // Setup RecyclerView
-        mAdapter = new WordListAdapter(new WordListAdapter.WordDiff());
+        // Paged: only the rows near the visible window are loaded.
+        mAdapter = new WordPagingAdapter(new WordListAdapter.WordDiff());
         binding.wordListRecyclerview.setAdapter(mAdapter);
         binding.wordListRecyclerview.setLayoutManager(new LinearLayoutManager(this));
         mAdapter.setOnItemClickListener(this);
+        mAdapter.setOnSelectionChangedListener(this::onSelectionChanged);
 
         // Setup ViewModels
         mWordViewModel = new ViewModelProvider(this).get(WordViewModel.class);
         mCategoryViewModel = new ViewModelProvider(this).get(CategoryViewModel.class);
 
         mCategoryName = getIntent().getStringExtra(EXTRA_CATEGORY);
+        mCategoryId = getIntent().getIntExtra(EXTRA_CATEGORY_ID, 0);
 
         if (mCategoryName != null) {
             // Set the toolbar title
@@ -76,26 +93,24 @@ public class WordListActivity extends AppCompatActivity implements WordListAdapt
             // IMPROVEMENT 5 (ARCHITECTURE FIX):
             // We just call setCategoryForList. The ViewModel's switchMap
             // will handle all the "if/else" logic for us.
-            mWordViewModel.setCategoryForList(mCategoryName);
+            Category category = new Category(mCategoryName);
+            category.setId(mCategoryId);
+            mWordViewModel.setCategoryForList(category);
 
             // This one observer now works for ALL category types
             mWordViewModel.getWordsForCategoryList().observe(this, words -> {
-                mAdapter.submitList(words);
+                mAdapter.submitData(getLifecycle(), words);
             });
 
             // IMPROVEMENT 6 (UI LOGIC):
             // Check if this is a custom category to show the "Delete" buttons
-            if (!mWordViewModel.isCefrLevel(mCategoryName)) {
-
-                // 1. Observe the Category object so we can get its ID
-                mCategoryViewModel.getCategoryByName(mCategoryName).observe(this, category -> {
-                    mCurrentCategoryObject = category;
-                });
+            // The id came with the intent, so there is nothing to look up.
+            if (mCategoryId > 0) {
 
-                // 2. Set up the word delete listener
+                // 1. Set up the word delete listener
                 mAdapter.setOnDeleteClickListener(this::showDeleteWordConfirmationDialog);
 
-                // 3. Show and configure the "Delete Category" button
+                // 2. Show and configure the "Delete Category" button
                 binding.buttonDeleteCategory.setVisibility(View.VISIBLE);
                 binding.buttonDeleteCategory.setOnClickListener(v -> {
                     showDeleteCategoryConfirmationDialog();
@@ -103,12 +118,14 @@ public class WordListActivity extends AppCompatActivity implements WordListAdapt
             } else {
                 // This is a CEFR level (A1, etc.), so hide the delete button
                 binding.buttonDeleteCategory.setVisibility(View.GONE);
+                mLevel = CefrLevel.fromName(mCategoryName);
             }
 
         } else {
             // Fallback: This should not happen if navigated to correctly
             getSupportActionBar().setTitle("All Words");
-            mWordViewModel.getAllWords().observe(this, mAdapter::submitList);
+            mWordViewModel.getAllWords().observe(this, words ->
+                    mAdapter.submitData(getLifecycle(), words));
             binding.buttonDeleteCategory.setVisibility(View.GONE);
         }
 
@@ -117,9 +134,59 @@ public class WordListActivity extends AppCompatActivity implements WordListAdapt
             if (mCategoryName != null) {
                 Intent intent = new Intent(this, QuizSetupActivity.class);
                 intent.putExtra(QuizSetupActivity.EXTRA_CATEGORY, mCategoryName);
+                intent.putExtra(QuizSetupActivity.EXTRA_CATEGORY_ID, mCategoryId);
                 startActivity(intent);
             }
         });
+
+        mCategoryViewModel.getAllCategories().observe(this, categories -> {
+            mCategoryList.clear();
+            mCategoryList.addAll(categories);
+        });
+
+        if (savedInstanceState != null) {
+            int[] selectedIds = savedInstanceState.getIntArray(STATE_SELECTED_IDS);
+            if (selectedIds != null && selectedIds.length > 0) {
+                List<Integer> ids = new ArrayList<>(selectedIds.length);
+                for (int id : selectedIds) {
+                    ids.add(id);
+                }
+                mAdapter.setSelectedIds(ids);
+            }
+        }
+    }
+
+    @Override
+    protected void onSaveInstanceState(@NonNull Bundle outState) {
+        super.onSaveInstanceState(outState);
+        Set<Integer> selectedIds = mAdapter.getSelectedIds();
+        int[] ids = new int[selectedIds.size()];
+        int i = 0;
+        for (int id : selectedIds) {
+            ids[i++] = id;
+        }
+        outState.putIntArray(STATE_SELECTED_IDS, ids);
+    }
+
+    // A CEFR level list can be marked learned as a whole.
+    @Override
+    public boolean onCreateOptionsMenu(Menu menu) {
+        if (mLevel != null) {
+            getMenuInflater().inflate(R.menu.word_list_menu, menu);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean onOptionsItemSelected(@NonNull MenuItem item) {
+        int id = item.getItemId();
+
+        if (id == R.id.action_mark_all_learned || id == R.id.action_mark_all_not_learned) {
+            // One UPDATE for the whole level, not one per word.
+            showUpdated(mWordViewModel.setLearnedForLevel(mLevel, id == R.id.action_mark_all_learned));
+            return true;
+        }
+        return super.onOptionsItemSelected(item);
     }
 
     // This logic is correct
@@ -131,15 +198,133 @@ public class WordListActivity extends AppCompatActivity implements WordListAdapt
 
     // This logic is correct
     @Override
-    public void onItemClick(Word word) {
+    public void onItemClick(WordSummary word) {
         Intent intent = new Intent(this, WordDetailActivity.class);
         intent.putExtra(WordDetailActivity.EXTRA_WORD_ID, word.getId());
         startActivity(intent);
     }
 
+    // --- Multi-select ---
+    // Long-pressing a word starts a selection; the action mode applies one bulk
+    // operation to every selected word.
+
+    private void onSelectionChanged(int selectedCount) {
+        if (selectedCount == 0) {
+            if (mActionMode != null) {
+                mActionMode.finish();
+            }
+            return;
+        }
+        if (mActionMode == null) {
+            mActionMode = startSupportActionMode(mSelectionCallback);
+        }
+        if (mActionMode != null) {
+            mActionMode.setTitle(getString(R.string.word_list_selected_count, selectedCount));
+        }
+    }
+
+    private final ActionMode.Callback mSelectionCallback = new ActionMode.Callback() {
+        @Override
+        public boolean onCreateActionMode(ActionMode mode, Menu menu) {
+            mode.getMenuInflater().inflate(R.menu.word_selection_menu, menu);
+            menu.findItem(R.id.action_remove_from_category).setVisible(mCategoryId > 0);
+            menu.findItem(R.id.action_delete_words).setVisible(mLevel == null);
+            return true;
+        }
+
+        @Override
+        public boolean onPrepareActionMode(ActionMode mode, Menu menu) {
+            return false;
+        }
+
+        @Override
+        public boolean onActionItemClicked(ActionMode mode, MenuItem item) {
+            int id = item.getItemId();
+            Set<Integer> selectedIds = mAdapter.getSelectedIds();
+
+            if (id == R.id.action_mark_learned || id == R.id.action_mark_not_learned) {
+                showUpdated(mWordViewModel.setLearned(selectedIds, id == R.id.action_mark_learned));
+                mode.finish();
+                return true;
+            } else if (id == R.id.action_add_to_category) {
+                showAddSelectionToCategoryDialog(selectedIds);
+                return true;
+            } else if (id == R.id.action_remove_from_category) {
+                showUpdated(mWordViewModel.removeWordsFromCategory(selectedIds, mCategoryId));
+                mode.finish();
+                return true;
+            } else if (id == R.id.action_delete_words) {
+                showDeleteSelectionConfirmationDialog(selectedIds);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void onDestroyActionMode(ActionMode mode) {
+            mActionMode = null;
+            mAdapter.clearSelection();
+        }
+    };
+
+    private void showAddSelectionToCategoryDialog(Set<Integer> selectedIds) {
+        List<Category> targets = new ArrayList<>();
+        for (Category category : mCategoryList) {
+            if (category.getId() != mCategoryId) {
+                targets.add(category);
+            }
+        }
+        if (targets.isEmpty()) {
+            Toast.makeText(this, R.string.word_list_no_other_categories, Toast.LENGTH_SHORT).show();
+            return;
+        }
+
+        String[] categoryNames = new String[targets.size()];
+        for (int i = 0; i < targets.size(); i++) {
+            categoryNames[i] = targets.get(i).getName();
+        }
+        new AlertDialog.Builder(this)
+                .setTitle(R.string.word_list_add_to_category)
+                .setItems(categoryNames, (dialog, which) -> {
+                    showUpdated(mWordViewModel.addWordsToCategory(selectedIds, targets.get(which).getId()));
+                    if (mActionMode != null) {
+                        mActionMode.finish();
+                    }
+                })
+                .setNegativeButton("Cancel", null)
+                .show();
+    }
+
+    private void showDeleteSelectionConfirmationDialog(Set<Integer> selectedIds) {
+        new AlertDialog.Builder(this)
+                .setTitle(R.string.word_list_delete_title)
+                .setMessage(getString(R.string.word_list_delete_message, selectedIds.size()))
+                .setPositiveButton(R.string.word_list_delete, (dialog, which) -> {
+                    showCount(mWordViewModel.deleteUserAddedWords(selectedIds), R.string.word_list_deleted);
+                    if (mActionMode != null) {
+                        mActionMode.finish();
+                    }
+                })
+                .setNegativeButton("Cancel", null)
+                .show();
+    }
+
+    private void showUpdated(CompletableFuture<Integer> write) {
+        showCount(write, R.string.word_list_updated);
+    }
+
+    // Reports the number of rows the write actually changed, once it has committed.
+    private void showCount(CompletableFuture<Integer> write, int messageRes) {
+        write.thenAccept(count -> runOnUiThread(() -> {
+            if (!isDestroyed()) {
+                Toast.makeText(this, getString(messageRes, count), Toast.LENGTH_SHORT).show();
+            }
+        }));
+    }
+
     // --- Delete Logic Methods ---
 
-    private void showDeleteWordConfirmationDialog(Word word) {
+    private void showDeleteWordConfirmationDialog(WordSummary word) {
         new AlertDialog.Builder(this)
                 .setTitle("Remove Word")
                 .setMessage("Are you sure you want to remove '" + word.getWord() + "' from this category?")
@@ -150,16 +335,10 @@ public class WordListActivity extends AppCompatActivity implements WordListAdapt
                 .show();
     }
 
-    private void removeWordFromCategory(Word word) {
-        // IMPROVEMENT 4 (BUILD FIX):
-        // We now use the mCurrentCategoryObject that our LiveData observer fetched.
-        if (mCurrentCategoryObject != null) {
-            WordCategoryCrossRef crossRef = new WordCategoryCrossRef(word.getId(), mCurrentCategoryObject.getId());
-            mWordViewModel.deleteWordCategoryCrossRef(crossRef);
-            Toast.makeText(this, "Word removed from category", Toast.LENGTH_SHORT).show();
-        } else {
-            Toast.makeText(this, "Error: Category not found", Toast.LENGTH_SHORT).show();
-        }
+    private void removeWordFromCategory(WordSummary word) {
+        WordCategoryCrossRef crossRef = new WordCategoryCrossRef(word.getId(), mCategoryId);
+        mWordViewModel.deleteWordCategoryCrossRef(crossRef);
+        Toast.makeText(this, "Word removed from category", Toast.LENGTH_SHORT).show();
     }
 
     private void showDeleteCategoryConfirmationDialog() {
@@ -177,7 +356,7 @@ public class WordListActivity extends AppCompatActivity implements WordListAdapt
         // IMPROVEMENT 5 (BUILD FIX):
         // The ViewModel's 'deleteCategory' method is 'void' (fire-and-forget).
         // We just call it. We don't need .thenAccept()
-        mCategoryViewModel.deleteCategory(mCategoryName);
+        mCategoryViewModel.deleteCategory(mCategoryId);
 
         Toast.makeText(this, "Category deleted", Toast.LENGTH_SHORT).show();
         finish(); // Go back to previous page
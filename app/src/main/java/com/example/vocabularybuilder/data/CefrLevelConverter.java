@@ -0,0 +1,23 @@
+package com.example.vocabularybuilder.data;
+
+import androidx.room.TypeConverter;
+
+import com.example.vocabularybuilder.data.model.CefrLevel;
+
+/**
+ * This class tells Room how to store a 'CefrLevel' in the database.
+ * Levels are stored as their small integer code; a null level is stored as
+ * CefrLevel.NONE (0) so the column can stay NOT NULL.
+ */
+public class CefrLevelConverter {
+
+    @TypeConverter
+    public static int levelToCode(CefrLevel level) {
+        return level == null ? CefrLevel.NONE : level.getCode();
+    }
+
+    @TypeConverter
+    public static CefrLevel fromCode(int code) {
+        return CefrLevel.fromCode(code);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.vocabularybuilder.data;
+
+import androidx.annotation.NonNull;
+
+import com.example.vocabularybuilder.data.model.WordSummary;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Row-level change events for word_table, published after each write commits.
+ *
+ * Room's InvalidationTracker only says that word_table changed, so a LiveData
+ * over a whole list re-runs its query for every write, even one that flips a
+ * single learned flag. Writers that know which rows they changed (WordRepository)
+ * publish them here instead, and in-memory snapshots patch themselves without
+ * running any SQL. Writers that can't describe their changes row by row (the
+ * seed import) publish a reset, and listeners reload.
+ *
+ * Listeners are called on the writer thread, in commit order.
+ */
+public final class WordChangeFeed {
+
+    public interface Listener {
+        /**
+         * {@code changed} holds the new state of inserted or updated rows;
+         * {@code deletedIds} the rows that no longer exist.
+         */
+        void onWordsChanged(@NonNull List<WordSummary> changed, @NonNull Collection<Integer> deletedIds);
+
+        /**
+         * Anything may have changed; cached rows must be reloaded.
+         */
+        void onReset();
+    }
+
+    private final List<Listener> mListeners = new CopyOnWriteArrayList<>();
+
+    WordChangeFeed() {}
+
+    public void addListener(@NonNull Listener listener) {
+        mListeners.add(listener);
+    }
+
+    public void removeListener(@NonNull Listener listener) {
+        mListeners.remove(listener);
+    }
+
+    public void publishChanged(@NonNull List<WordSummary> changed) {
+        publish(changed, Collections.emptyList());
+    }
+
+    public void publishDeleted(@NonNull Collection<Integer> deletedIds) {
+        publish(Collections.emptyList(), deletedIds);
+    }
+
+    public void publish(@NonNull List<WordSummary> changed, @NonNull Collection<Integer> deletedIds) {
+        if (changed.isEmpty() && deletedIds.isEmpty()) {
+            return;
+        }
+        for (Listener listener : mListeners) {
+            listener.onWordsChanged(changed, deletedIds);
+        }
+    }
+
+    public void publishReset() {
+        for (Listener listener : mListeners) {
+            listener.onReset();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.vocabularybuilder.data;
+
+import android.database.Cursor;
+
+import androidx.annotation.NonNull;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+import com.example.vocabularybuilder.data.model.WordCounter;
+
+/**
+ * The triggers that keep word_counters exact.
+ *
+ * Room has no way to declare triggers, and the prepackaged database is built
+ * from Room's schema export, so they are (re)created on every open with
+ * CREATE TRIGGER IF NOT EXISTS. A database without the "all" row (a fresh
+ * install from the asset, or one just migrated) has its counters built from
+ * the words first.
+ *
+ * Notes on the trigger set:
+ * - A word's category links are deleted by its own BEFORE DELETE trigger
+ *   while the word still exists, so the link triggers can read its
+ *   is_learned. The ON DELETE CASCADE then finds nothing left to do.
+ * - REPLACE conflicts don't fire delete triggers (recursive_triggers is
+ *   off), so rows in the counted tables must never be written with
+ *   OnConflictStrategy.REPLACE.
+ */
+final class WordCounters {
+
+    private static final String[] TRIGGERS = {
+            "CREATE TRIGGER IF NOT EXISTS word_counters_word_insert AFTER INSERT ON word_table BEGIN "
+                    + "INSERT OR IGNORE INTO word_counters (scope, scope_id, total, learned) VALUES ('all', 0, 0, 0); "
+                    + "UPDATE word_counters SET total = total + 1, learned = learned + NEW.is_learned WHERE scope = 'all' AND scope_id = 0; "
+                    + "INSERT OR IGNORE INTO word_counters (scope, scope_id, total, learned) SELECT 'level', NEW.cefr_level, 0, 0 WHERE NEW.cefr_level > 0; "
+                    + "UPDATE word_counters SET total = total + 1, learned = learned + NEW.is_learned WHERE scope = 'level' AND scope_id = NEW.cefr_level; "
+                    + "INSERT OR IGNORE INTO word_counters (scope, scope_id, total, learned) SELECT 'user', 0, 0, 0 WHERE NEW.is_user_added = 1; "
+                    + "UPDATE word_counters SET total = total + 1, learned = learned + NEW.is_learned WHERE scope = 'user' AND scope_id = 0 AND NEW.is_user_added = 1; "
+                    + "END",
+            "CREATE TRIGGER IF NOT EXISTS word_counters_word_update AFTER UPDATE OF cefr_level, is_user_added, is_learned ON word_table BEGIN "
+                    + "UPDATE word_counters SET learned = learned - OLD.is_learned + NEW.is_learned WHERE scope = 'all' AND scope_id = 0; "
+                    + "UPDATE word_counters SET total = total - 1, learned = learned - OLD.is_learned WHERE scope = 'level' AND scope_id = OLD.cefr_level; "
+                    + "INSERT OR IGNORE INTO word_counters (scope, scope_id, total, learned) SELECT 'level', NEW.cefr_level, 0, 0 WHERE NEW.cefr_level > 0; "
+                    + "UPDATE word_counters SET total = total + 1, learned = learned + NEW.is_learned WHERE scope = 'level' AND scope_id = NEW.cefr_level; "
+                    + "UPDATE word_counters SET total = total - 1, learned = learned - OLD.is_learned WHERE scope = 'user' AND scope_id = 0 AND OLD.is_user_added = 1; "
+                    + "INSERT OR IGNORE INTO word_counters (scope, scope_id, total, learned) SELECT 'user', 0, 0, 0 WHERE NEW.is_user_added = 1; "
+                    + "UPDATE word_counters SET total = total + 1, learned = learned + NEW.is_learned WHERE scope = 'user' AND scope_id = 0 AND NEW.is_user_added = 1; "
+                    + "UPDATE word_counters SET learned = learned - OLD.is_learned + NEW.is_learned WHERE scope = 'category' "
+                    + "AND scope_id IN (SELECT categoryId FROM word_category_cross_ref WHERE wordId = NEW.id); "
+                    + "END",
+            "CREATE TRIGGER IF NOT EXISTS word_counters_word_delete BEFORE DELETE ON word_table BEGIN "
+                    + "DELETE FROM word_category_cross_ref WHERE wordId = OLD.id; "
+                    + "UPDATE word_counters SET total = total - 1, learned = learned - OLD.is_learned WHERE scope = 'all' AND scope_id = 0; "
+                    + "UPDATE word_counters SET total = total - 1, learned = learned - OLD.is_learned WHERE scope = 'level' AND scope_id = OLD.cefr_level; "
+                    + "UPDATE word_counters SET total = total - 1, learned = learned - OLD.is_learned WHERE scope = 'user' AND scope_id = 0 AND OLD.is_user_added = 1; "
+                    + "END",
+            "CREATE TRIGGER IF NOT EXISTS word_counters_link_insert AFTER INSERT ON word_category_cross_ref BEGIN "
+                    + "INSERT OR IGNORE INTO word_counters (scope, scope_id, total, learned) VALUES ('category', NEW.categoryId, 0, 0); "
+                    + "UPDATE word_counters SET total = total + 1, learned = learned + IFNULL((SELECT is_learned FROM word_table WHERE id = NEW.wordId), 0) "
+                    + "WHERE scope = 'category' AND scope_id = NEW.categoryId; "
+                    + "END",
+            "CREATE TRIGGER IF NOT EXISTS word_counters_link_delete AFTER DELETE ON word_category_cross_ref BEGIN "
+                    + "UPDATE word_counters SET total = total - 1, learned = learned - IFNULL((SELECT is_learned FROM word_table WHERE id = OLD.wordId), 0) "
+                    + "WHERE scope = 'category' AND scope_id = OLD.categoryId; "
+                    + "END",
+            "CREATE TRIGGER IF NOT EXISTS word_counters_category_delete AFTER DELETE ON categories BEGIN "
+                    + "DELETE FROM word_counters WHERE scope = 'category' AND scope_id = OLD.id; "
+                    + "END",
+    };
+
+    private WordCounters() {}
+
+    /**
+     * Creates any missing trigger and, if the counters were never built, builds them.
+     */
+    static void install(@NonNull SupportSQLiteDatabase db) {
+        db.beginTransaction();
+        try {
+            for (String trigger : TRIGGERS) {
+                db.execSQL(trigger);
+            }
+            boolean built;
+            try (Cursor cursor = db.query("SELECT 1 FROM word_counters WHERE scope = 'all' AND scope_id = 0")) {
+                built = cursor.moveToFirst();
+            }
+            if (!built) {
+                rebuild(db);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    static void rebuild(@NonNull SupportSQLiteDatabase db) {
+        db.execSQL("DELETE FROM word_counters");
+        db.execSQL("INSERT INTO word_counters (scope, scope_id, total, learned) " + WordCounter.RECOUNT_QUERY);
+    }
+}
@@ -1,28 +1,43 @@
 package com.example.vocabularybuilder.data;
 
 import android.content.Context;
+import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.room.Database;
 import androidx.room.Room;
 import androidx.room.RoomDatabase;
+import androidx.room.TypeConverters;
+import androidx.room.migration.Migration;
 import androidx.sqlite.db.SupportSQLiteDatabase;
 import com.example.vocabularybuilder.data.dao.CategoryDao;
 import com.example.vocabularybuilder.data.dao.QuizDao;
+import com.example.vocabularybuilder.data.dao.SeedDao;
 import com.example.vocabularybuilder.data.dao.UserDao;
 import com.example.vocabularybuilder.data.dao.WordDao;
 import com.example.vocabularybuilder.data.dao.WordCategoryCrossRefDao;
+import com.example.vocabularybuilder.data.dao.WordCounterDao;
+import com.example.vocabularybuilder.data.dao.WordOfTheDayDao;
+import com.example.vocabularybuilder.data.dao.WordSearchDao;
 import com.example.vocabularybuilder.data.model.Category;
 import com.example.vocabularybuilder.data.model.QuizQuestion;
 import com.example.vocabularybuilder.data.model.QuizResult;
+import com.example.vocabularybuilder.data.model.SeedState;
 import com.example.vocabularybuilder.data.model.User;
 import com.example.vocabularybuilder.data.model.Word;
 import com.example.vocabularybuilder.data.model.WordCategoryCrossRef;
-import java.util.ArrayList;
-import java.util.List;
+import com.example.vocabularybuilder.data.model.WordCounter;
+import com.example.vocabularybuilder.data.model.WordFts;
+import com.example.vocabularybuilder.data.model.WordOfTheDay;
+import com.example.vocabularybuilder.data.seed.SeedImporter;
+import com.example.vocabularybuilder.utils.StartupTimeline;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
-@Database(entities = {Word.class, User.class, QuizResult.class, QuizQuestion.class, Category.class, WordCategoryCrossRef.class}, version = 10, exportSchema = false)
+@Database(entities = {Word.class, User.class, QuizResult.class, QuizQuestion.class, Category.class, WordCategoryCrossRef.class, SeedState.class, WordOfTheDay.class, WordFts.class, WordCounter.class}, version = 19, exportSchema = true)
+@TypeConverters(CefrLevelConverter.class)
 public abstract class WordRoomDatabase extends RoomDatabase {
 
     public abstract WordDao wordDao();
@@ -30,19 +45,220 @@ public abstract class WordRoomDatabase extends RoomDatabase {
     public abstract QuizDao quizDao();
     public abstract CategoryDao categoryDao();
     public abstract WordCategoryCrossRefDao wordCategoryCrossRefDao();
+    public abstract SeedDao seedDao();
+    public abstract WordOfTheDayDao wordOfTheDayDao();
+    public abstract WordSearchDao wordSearchDao();
+    public abstract WordCounterDao wordCounterDao();
 
     private static volatile WordRoomDatabase INSTANCE;
-    private static final int NUMBER_OF_THREADS = 4;
-    public static final ExecutorService databaseWriteExecutor = Executors.newFixedThreadPool(NUMBER_OF_THREADS);
+
+    // SQLite runs one write transaction at a time, so writes get exactly one thread:
+    // extra writer threads would only queue on the database lock and take threads
+    // away from reads. Small fire-and-forget writes go through enqueueWrite, which
+    // batches them on this thread.
+    public static final ExecutorService databaseWriteExecutor = Executors.newSingleThreadExecutor(threadFactory("db-writer"));
+
+    // In WAL mode readers never wait for the writer. The framework's WAL pool holds
+    // 4 connections by default, one of which is the primary (write) connection, so
+    // one reader thread per remaining connection.
+    private static final int READER_THREADS = 3;
+    public static final ExecutorService databaseReadExecutor = Executors.newFixedThreadPool(READER_THREADS, threadFactory("db-reader"));
+
+    // Checkpoint settings for the primary connection (see onOpen). The WAL is folded
+    // back into the database every ~4 MB (1000 pages) and truncated to this size
+    // afterwards, so a burst of writes doesn't leave a large -wal file behind.
+    private static final int WAL_AUTOCHECKPOINT_PAGES = 1000;
+    private static final long WAL_SIZE_LIMIT_BYTES = 4L * 1024 * 1024;
+
+    private final WriteBatcher mWriteBatcher = new WriteBatcher(this, databaseWriteExecutor);
+    private final WordChangeFeed mWordChangeFeed = new WordChangeFeed();
+
+    private static ThreadFactory threadFactory(final String name) {
+        final AtomicInteger count = new AtomicInteger();
+        return runnable -> new Thread(runnable, name + "-" + count.incrementAndGet());
+    }
+
+    /**
+     * Queues a database-only write to be committed on the writer thread, possibly
+     * in the same transaction as other queued writes (see WriteBatcher). The
+     * future completes after the commit.
+     */
+    @NonNull
+    public CompletableFuture<Void> enqueueWrite(@NonNull Runnable write) {
+        return mWriteBatcher.enqueue(write, null);
+    }
+
+    /**
+     * Like {@link #enqueueWrite(Runnable)}, and runs {@code afterCommit} on the
+     * writer thread once the write has committed, before the future completes.
+     * Callbacks run in commit order.
+     */
+    @NonNull
+    public CompletableFuture<Void> enqueueWrite(@NonNull Runnable write, @NonNull Runnable afterCommit) {
+        return mWriteBatcher.enqueue(write, afterCommit);
+    }
+
+    /**
+     * Row-level word_table changes, for in-memory lists that patch themselves
+     * instead of re-querying (see WordChangeFeed).
+     */
+    @NonNull
+    public WordChangeFeed getWordChangeFeed() {
+        return mWordChangeFeed;
+    }
+
+    // Adds the seed import checkpoint. Existing installs were fully seeded by the
+    // old onOpen insert, so they start with no checkpoint and are topped up from record 0.
+    static final Migration MIGRATION_10_11 = new Migration(10, 11) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `seed_state` (`id` INTEGER NOT NULL, `next_record` INTEGER NOT NULL, `record_count` INTEGER NOT NULL, PRIMARY KEY(`id`))");
+        }
+    };
+
+    // Turns seed_state into the seed manifest by recording the applied corpus version.
+    static final Migration MIGRATION_11_12 = new Migration(11, 12) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("ALTER TABLE `seed_state` ADD COLUMN `corpus_version` INTEGER NOT NULL DEFAULT 0");
+        }
+    };
+
+    // Adds the word-of-the-day history, replacing the ORDER BY RANDOM() pick.
+    static final Migration MIGRATION_12_13 = new Migration(12, 13) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `word_of_the_day_history` (`date` TEXT NOT NULL, `word_id` INTEGER NOT NULL, PRIMARY KEY(`date`), FOREIGN KEY(`word_id`) REFERENCES `word_table`(`id`) ON UPDATE NO ACTION ON DELETE CASCADE )");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_word_of_the_day_history_word_id` ON `word_of_the_day_history` (`word_id`)");
+        }
+    };
+
+    // Indexes for the cefr_level / is_learned filters (see Word).
+    static final Migration MIGRATION_13_14 = new Migration(13, 14) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_word_table_cefr_level_word` ON `word_table` (`cefr_level`, `word`)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_word_table_is_learned_word` ON `word_table` (`is_learned`, `word`)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_word_table_cefr_level_is_learned` ON `word_table` (`cefr_level`, `is_learned`)");
+        }
+    };
+
+    // Turns the free-text cefr_level ("A1".."C2", "User Added") into the CefrLevel
+    // code plus an is_user_added flag. SQLite cannot change a column's type, so the
+    // table is rebuilt; ids are kept, so category links and history stay valid.
+    static final Migration MIGRATION_14_15 = new Migration(14, 15) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `word_table_new` (`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, `word` TEXT NOT NULL, `meaning` TEXT NOT NULL, `part_of_speech` TEXT NOT NULL, `example` TEXT NOT NULL, `cefr_level` INTEGER NOT NULL, `is_user_added` INTEGER NOT NULL, `is_learned` INTEGER NOT NULL, `is_prebuilt` INTEGER NOT NULL)");
+            db.execSQL("INSERT INTO `word_table_new` (`id`, `word`, `meaning`, `part_of_speech`, `example`, `cefr_level`, `is_user_added`, `is_learned`, `is_prebuilt`) "
+                    + "SELECT `id`, `word`, `meaning`, `part_of_speech`, `example`, "
+                    + "CASE `cefr_level` WHEN 'A1' THEN 1 WHEN 'A2' THEN 2 WHEN 'B1' THEN 3 WHEN 'B2' THEN 4 WHEN 'C1' THEN 5 WHEN 'C2' THEN 6 ELSE 0 END, "
+                    + "CASE WHEN `cefr_level` IN ('A1', 'A2', 'B1', 'B2', 'C1', 'C2') THEN 0 ELSE 1 END, "
+                    + "`is_learned`, `is_prebuilt` FROM `word_table`");
+            db.execSQL("DROP TABLE `word_table`");
+            db.execSQL("ALTER TABLE `word_table_new` RENAME TO `word_table`");
+            db.execSQL("CREATE UNIQUE INDEX IF NOT EXISTS `index_word_table_word` ON `word_table` (`word`)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_word_table_cefr_level_word` ON `word_table` (`cefr_level`, `word`)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_word_table_is_learned_word` ON `word_table` (`is_learned`, `word`)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_word_table_is_user_added_word` ON `word_table` (`is_user_added`, `word`)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_word_table_cefr_level_is_learned` ON `word_table` (`cefr_level`, `is_learned`)");
+        }
+    };
+
+    // Adds the full-text index (WordFts) and the triggers Room uses to keep it in
+    // sync with word_table, then builds the index from the existing rows.
+    static final Migration MIGRATION_15_16 = new Migration(15, 16) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE VIRTUAL TABLE IF NOT EXISTS `word_fts` USING FTS4(`word` TEXT NOT NULL, `meaning` TEXT NOT NULL, `example` TEXT NOT NULL, tokenize=unicode61, content=`word_table`, prefix=`2,3`)");
+            db.execSQL("CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_word_fts_BEFORE_UPDATE BEFORE UPDATE ON `word_table` BEGIN DELETE FROM `word_fts` WHERE `docid`=OLD.`rowid`; END");
+            db.execSQL("CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_word_fts_BEFORE_DELETE BEFORE DELETE ON `word_table` BEGIN DELETE FROM `word_fts` WHERE `docid`=OLD.`rowid`; END");
+            db.execSQL("CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_word_fts_AFTER_UPDATE AFTER UPDATE ON `word_table` BEGIN INSERT INTO `word_fts`(`docid`, `word`, `meaning`, `example`) VALUES (NEW.`rowid`, NEW.`word`, NEW.`meaning`, NEW.`example`); END");
+            db.execSQL("CREATE TRIGGER IF NOT EXISTS room_fts_content_sync_word_fts_AFTER_INSERT AFTER INSERT ON `word_table` BEGIN INSERT INTO `word_fts`(`docid`, `word`, `meaning`, `example`) VALUES (NEW.`rowid`, NEW.`word`, NEW.`meaning`, NEW.`example`); END");
+            db.execSQL("INSERT INTO `word_fts`(`word_fts`) VALUES('rebuild')");
+        }
+    };
+
+    // Stores each quiz's question and correct counts on quiz_results so the
+    // history list can be paged without reading quiz_questions; existing rows
+    // are backfilled from their questions.
+    static final Migration MIGRATION_16_17 = new Migration(16, 17) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("ALTER TABLE `quiz_results` ADD COLUMN `question_count` INTEGER NOT NULL DEFAULT 0");
+            db.execSQL("ALTER TABLE `quiz_results` ADD COLUMN `correct_count` INTEGER NOT NULL DEFAULT 0");
+            db.execSQL("UPDATE `quiz_results` SET "
+                    + "`question_count` = (SELECT COUNT(*) FROM `quiz_questions` q WHERE q.`quizResultId` = `quiz_results`.`id`), "
+                    + "`correct_count` = (SELECT COUNT(*) FROM `quiz_questions` q WHERE q.`quizResultId` = `quiz_results`.`id` AND q.`isCorrect` = 1)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_quiz_results_date` ON `quiz_results` (`date`)");
+        }
+    };
+
+    // Adds word_counters, kept exact by the triggers in WordCounters, and builds
+    // it from the existing words.
+    static final Migration MIGRATION_17_18 = new Migration(17, 18) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `word_counters` (`scope` TEXT NOT NULL, `scope_id` INTEGER NOT NULL, `total` INTEGER NOT NULL, `learned` INTEGER NOT NULL, PRIMARY KEY(`scope`, `scope_id`))");
+            WordCounters.install(db);
+        }
+    };
+
+    // Prebuilt words now read their text from the base lexicon (LexiconMerger), so
+    // their rows drop the copy they stored. The FTS triggers reindex them with the
+    // headword only; the counters don't change.
+    static final Migration MIGRATION_18_19 = new Migration(18, 19) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("UPDATE word_table SET meaning = '', part_of_speech = '', example = '' WHERE is_prebuilt = 1");
+        }
+    };
+
+    // Every schema change bumps the version, adds a Migration here and commits the
+    // schema JSON Room exports to app/schemas.
+    static final Migration[] MIGRATIONS = {MIGRATION_10_11, MIGRATION_11_12, MIGRATION_12_13, MIGRATION_13_14, MIGRATION_14_15, MIGRATION_15_16, MIGRATION_16_17, MIGRATION_17_18, MIGRATION_18_19};
+
+    // Set when this process migrated the database, so the counters get checked.
+    private static volatile boolean sMigrated;
+
+    private static Migration[] flagged(Migration[] migrations) {
+        Migration[] flagged = new Migration[migrations.length];
+        for (int i = 0; i < migrations.length; i++) {
+            Migration migration = migrations[i];
+            flagged[i] = new Migration(migration.startVersion, migration.endVersion) {
+                @Override
+                public void migrate(@NonNull SupportSQLiteDatabase db) {
+                    migration.migrate(db);
+                    sMigrated = true;
+                }
+            };
+        }
+        return flagged;
+    }
 
     public static WordRoomDatabase getDatabase(final Context context) {
         if (INSTANCE == null) {
             synchronized (WordRoomDatabase.class) {
                 if (INSTANCE == null) {
-                    INSTANCE = Room.databaseBuilder(context.getApplicationContext(),
+                    final Context appContext = context.getApplicationContext();
+                    INSTANCE = Room.databaseBuilder(appContext,
                             WordRoomDatabase.class, "word_database")
-                            .addCallback(sRoomDatabaseCallback)
-                            .fallbackToDestructiveMigration()
+                            // The seed vocabulary ships as a ready-made database built by the
+                            // generate<Variant>SeedDatabase Gradle task from src/main/seed/words.tsv.
+                            .createFromAsset("databases/word_database.db")
+                            .addCallback(createSeedCallback(appContext))
+                            // Explicit WAL (not AUTOMATIC, which picks rollback journaling
+                            // on low-RAM devices): readers and the writer run concurrently.
+                            .setJournalMode(JournalMode.WRITE_AHEAD_LOGGING)
+                            // LiveData and other Room-driven queries use the reader pool;
+                            // Room's own transactions use the writer.
+                            .setQueryExecutor(databaseReadExecutor)
+                            .setTransactionExecutor(databaseWriteExecutor)
+                            .addMigrations(flagged(MIGRATIONS))
+                            // Versions before 10 predate the exported schemas and never shipped
+                            // with migrations. Anything newer must have a Migration: a missing
+                            // one should fail loudly instead of wiping the user's progress.
+                            .fallbackToDestructiveMigrationFrom(1, 2, 3, 4, 5, 6, 7, 8, 9)
                             .build();
                 }
             }
@@ -50,633 +266,48 @@ public abstract class WordRoomDatabase extends RoomDatabase {
         return INSTANCE;
     }
 
-    private static final RoomDatabase.Callback sRoomDatabaseCallback = new RoomDatabase.Callback() {
-        @Override
-        public void onOpen(@NonNull SupportSQLiteDatabase db) {
-            super.onOpen(db);
-            databaseWriteExecutor.execute(() -> {
-                // Check if INSTANCE is not null before accessing it
-                if (INSTANCE != null) {
-                    WordDao dao = INSTANCE.wordDao();
-                    if (dao.getWordCount() == 0) {
-                        dao.insertAll(getPredefinedWords());
-                    }
-                }
-            });
+    // Only the primary connection writes and checkpoints, so the settings are applied
+    // inside a transaction, which pins the statement to it; a bare PRAGMA may run on
+    // a reader connection. synchronous is left to the framework's WAL sync mode
+    // (NORMAL on current releases): it is set per connection and can't be changed
+    // inside a transaction. These PRAGMAs return rows, hence query().
+    private static void tuneWal(SupportSQLiteDatabase db) {
+        db.beginTransaction();
+        try {
+            db.query("PRAGMA wal_autocheckpoint = " + WAL_AUTOCHECKPOINT_PAGES).close();
+            db.query("PRAGMA journal_size_limit = " + WAL_SIZE_LIMIT_BYTES).close();
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
         }
-    };
-
-    private static List<Word> getPredefinedWords() {
-        List<Word> words = new ArrayList<>();
-        // A1 - 100 words
-        words.add(new Word("apple", "a round fruit with firm, white flesh", "noun", "I ate an apple.", "A1"));
-        words.add(new Word("ball", "a round object used in games", "noun", "He kicked the ball.", "A1"));
-        words.add(new Word("big", "of considerable size", "adjective", "That is a big dog.", "A1"));
-        words.add(new Word("boy", "a male child", "noun", "The boy is playing.", "A1"));
-        words.add(new Word("bread", "a food made of flour, water, and yeast", "noun", "I eat bread for breakfast.", "A1"));
-        words.add(new Word("cat", "a small domesticated carnivorous mammal", "noun", "The cat is sleeping.", "A1"));
-        words.add(new Word("chair", "a seat for one person", "noun", "Sit on the chair.", "A1"));
-        words.add(new Word("child", "a young human being", "noun", "The child is happy.", "A1"));
-        words.add(new Word("city", "a large town", "noun", "London is a big city.", "A1"));
-        words.add(new Word("clean", "free from dirt or marks", "adjective", "My room is clean.", "A1"));
-        words.add(new Word("cold", "of a low temperature", "adjective", "It is cold outside.", "A1"));
-        words.add(new Word("come", "move or travel towards the speaker", "verb", "Please come here.", "A1"));
-        words.add(new Word("day", "each of the twenty-four-hour periods", "noun", "Today is a beautiful day.", "A1"));
-        words.add(new Word("dog", "a domesticated carnivorous mammal", "noun", "My dog likes to play.", "A1"));
-        words.add(new Word("door", "a hinged barrier used to close an opening", "noun", "Close the door.", "A1"));
-        words.add(new Word("drink", "take a liquid into the mouth and swallow", "verb", "I drink water.", "A1"));
-        words.add(new Word("eat", "put food into the mouth and chew and swallow it", "verb", "We eat dinner at 7 pm.", "A1"));
-        words.add(new Word("egg", "an oval object laid by female birds", "noun", "I had an egg for breakfast.", "A1"));
-        words.add(new Word("eye", "the organ of sight", "noun", "She has blue eyes.", "A1"));
-        words.add(new Word("face", "the front part of a person's head", "noun", "He has a happy face.", "A1"));
-        words.add(new Word("family", "a group consisting of parents and children", "noun", "My family is small.", "A1"));
-        words.add(new Word("father", "a male parent", "noun", "My father is a doctor.", "A1"));
-        words.add(new Word("find", "discover or perceive by chance or unexpectedly", "verb", "I can't find my keys.", "A1"));
-        words.add(new Word("fish", "a limbless cold-blooded vertebrate animal with gills and fins", "noun", "I like to eat fish.", "A1"));
-        words.add(new Word("flower", "the seed-bearing part of a plant", "noun", "The flower is red.", "A1"));
-        words.add(new Word("food", "any nutritious substance that people or animals eat or drink", "noun", "What is your favorite food?", "A1"));
-        words.add(new Word("friend", "a person whom one knows and with whom one has a bond of mutual affection", "noun", "He is my best friend.", "A1"));
-        words.add(new Word("girl", "a female child", "noun", "The girl is reading a book.", "A1"));
-        words.add(new Word("give", "freely transfer the possession of something to someone", "verb", "Can you give me the pen?", "A1"));
-        words.add(new Word("go", "move from one place to another", "verb", "I go to school by bus.", "A1"));
-        words.add(new Word("good", "of a high standard or quality", "adjective", "This is a good book.", "A1"));
-        words.add(new Word("hand", "the end part of a person's arm beyond the wrist", "noun", "Wash your hands.", "A1"));
-        words.add(new Word("happy", "feeling or showing pleasure or contentment", "adjective", "She is a happy child.", "A1"));
-        words.add(new Word("have", "possess, own, or hold", "verb", "I have a new car.", "A1"));
-        words.add(new Word("he", "used to refer to a man, boy, or male animal previously mentioned", "pronoun", "He is my brother.", "A1"));
-        words.add(new Word("hello", "used as a greeting", "exclamation", "Hello, how are you?", "A1"));
-        words.add(new Word("here", "in, at, or to this place or position", "adverb", "Please come here.", "A1"));
-        words.add(new Word("house", "a building for human habitation", "noun", "We live in a small house.", "A1"));
-        words.add(new Word("I", "used by a speaker to refer to himself or herself", "pronoun", "I am a student.", "A1"));
-        words.add(new Word("know", "have knowledge or information about something", "verb", "I know the answer.", "A1"));
-        words.add(new Word("like", "find agreeable, enjoyable, or satisfactory", "verb", "I like pizza.", "A1"));
-        words.add(new Word("live", "remain alive", "verb", "I live in New York.", "A1"));
-        words.add(new Word("look", "direct one's gaze in a particular direction", "verb", "Look at the beautiful sunset.", "A1"));
-        words.add(new Word("love", "an intense feeling of deep affection", "verb", "I love my family.", "A1"));
-        words.add(new Word("man", "an adult male human being", "noun", "The man is tall.", "A1"));
-        words.add(new Word("many", "a large number of", "determiner", "There are many books on the shelf.", "A1"));
-        words.add(new Word("money", "a current medium of exchange in the form of coins and banknotes", "noun", "I need to save money.", "A1"));
-        words.add(new Word("mother", "a female parent", "noun", "My mother is a teacher.", "A1"));
-        words.add(new Word("my", "belonging to or associated with the speaker", "determiner", "This is my pen.", "A1"));
-        words.add(new Word("name", "a word or set of words by which a person or thing is known", "noun", "What is your name?", "A1"));
-        words.add(new Word("new", "produced, introduced, or discovered recently", "adjective", "I have a new phone.", "A1"));
-        words.add(new Word("night", "the period of darkness in each twenty-four hours", "noun", "I sleep at night.", "A1"));
-        words.add(new Word("no", "not any", "determiner", "There is no milk.", "A1"));
-        words.add(new Word("not", "used to form the negative of verbs", "adverb", "I am not tired.", "A1"));
-        words.add(new Word("now", "at the present time or moment", "adverb", "I am busy now.", "A1"));
-        words.add(new Word("old", "having lived for a long time", "adjective", "My grandfather is old.", "A1"));
-        words.add(new Word("one", "the lowest cardinal number; half of two", "number", "I have one sister.", "A1"));
-        words.add(new Word("open", "not closed or blocked up", "adjective", "The window is open.", "A1"));
-        words.add(new Word("orange", "a large round juicy citrus fruit", "noun", "I would like an orange.", "A1"));
-        words.add(new Word("page", "one side of a sheet of paper in a book", "noun", "Turn to page ten.", "A1"));
-        words.add(new Word("park", "a large public garden in a town", "noun", "Let's go to the park.", "A1"));
-        words.add(new Word("pen", "an instrument for writing with ink", "noun", "I need a pen.", "A1"));
-        words.add(new Word("play", "engage in activity for enjoyment and recreation", "verb", "Children love to play.", "A1"));
-        words.add(new Word("please", "used in polite requests", "adverb", "Please help me.", "A1"));
-        words.add(new Word("put", "move to or place in a particular position", "verb", "Put the book on the table.", "A1"));
-        words.add(new Word("read", "look at and comprehend the meaning of written or printed matter", "verb", "I like to read books.", "A1"));
-        words.add(new Word("red", "of a color at the end of the spectrum next to orange", "adjective", "The car is red.", "A1"));
-        words.add(new Word("room", "a part or division of a building enclosed by walls", "noun", "This is my room.", "A1"));
-        words.add(new Word("run", "move at a speed faster than a walk", "verb", "I can run fast.", "A1"));
-        words.add(new Word("sad", "feeling or showing sorrow; unhappy", "adjective", "The movie was sad.", "A1"));
-        words.add(new Word("say", "utter words so as to convey information, an opinion, a feeling or intention, or a question", "verb", "What did you say?", "A1"));
-        words.add(new Word("school", "an institution for educating children", "noun", "My school is big.", "A1"));
-        words.add(new Word("see", "perceive with the eyes", "verb", "I can see the mountains.", "A1"));
-        words.add(new Word("she", "used to refer to a woman, girl, or female animal previously mentioned", "pronoun", "She is my friend.", "A1"));
-        words.add(new Word("sit", "adopt or be in a position in which one's weight is supported by one's buttocks", "verb", "Please sit down.", "A1"));
-        words.add(new Word("small", "of a size that is less than normal or usual", "adjective", "It's a small world.", "A1"));
-        words.add(new Word("some", "an unspecified amount or number of", "determiner", "I need some help.", "A1"));
-        words.add(new Word("stand", "have or maintain an upright position, supported by one's feet", "verb", "Stand up straight.", "A1"));
-        words.add(new Word("stop", "come to an end; cease to happen", "verb", "Stop talking.", "A1"));
-        words.add(new Word("student", "a person who is studying at a school or college", "noun", "I am a student.", "A1"));
-        words.add(new Word("sun", "the star round which the earth orbits", "noun", "The sun is shining.", "A1"));
-        words.add(new Word("table", "a piece of furniture with a flat top and one or more legs", "noun", "The keys are on the table.", "A1"));
-        words.add(new Word("talk", "speak in order to give information or express ideas or feelings", "verb", "We can talk later.", "A1"));
-        words.add(new Word("teacher", "a person who teaches", "noun", "The teacher is very kind.", "A1"));
-        words.add(new Word("thank you", "a polite expression used when acknowledging a gift, service, or compliment", "phrase", "Thank you for your help.", "A1"));
-        words.add(new Word("that", "used to identify a specific person or thing observed by the speaker", "determiner", "That is my house.", "A1"));
-        words.add(new Word("they", "used to refer to two or more people or things previously mentioned", "pronoun", "They are playing outside.", "A1"));
-        words.add(new Word("this", "used to identify a specific person or thing close at hand", "determiner", "This is my book.", "A1"));
-        words.add(new Word("time", "the indefinite continued progress of existence and events", "noun", "What time is it?", "A1"));
-        words.add(new Word("today", "on or in the course of this present day", "adverb", "I have a meeting today.", "A1"));
-        words.add(new Word("tree", "a woody perennial plant", "noun", "That is a tall tree.", "A1"));
-        words.add(new Word("use", "take, hold, or deploy (something) as a means of accomplishing a purpose", "verb", "Can I use your phone?", "A1"));
-        words.add(new Word("walk", "move at a regular pace by lifting and setting down each foot in turn", "verb", "I walk to work every day.", "A1"));
-        words.add(new Word("want", "have a desire to possess or do (something)", "verb", "I want a new bike.", "A1"));
-        words.add(new Word("water", "a colorless, transparent, odorless liquid", "noun", "Please give me some water.", "A1"));
-        words.add(new Word("we", "used by a speaker to refer to himself or herself and one or more other people", "pronoun", "We are going to the cinema.", "A1"));
-        words.add(new Word("what", "asking for information specifying something", "pronoun", "What is your name?", "A1"));
-        words.add(new Word("where", "in or to what place or position", "adverb", "Where do you live?", "A1"));
-        words.add(new Word("white", "of the color of milk or fresh snow", "adjective", "She wore a white dress.", "A1"));
-        words.add(new Word("who", "what or which person or people", "pronoun", "Who is that?", "A1"));
-        words.add(new Word("woman", "an adult female human being", "noun", "That woman is my aunt.", "A1"));
-        words.add(new Word("work", "activity involving mental or physical effort done in order to achieve a purpose or result", "verb", "I have to work today.", "A1"));
-        words.add(new Word("write", "mark (letters, words, or other symbols) on a surface", "verb", "Please write your name.", "A1"));
-        words.add(new Word("yes", "used to give an affirmative response", "exclamation", "Yes, I can help you.", "A1"));
-        words.add(new Word("you", "used to refer to the person or people that the speaker is addressing", "pronoun", "You are a good student.", "A1"));
-
-        // A2 - 100 words
-        words.add(new Word("above", "in or to a higher position than something else", "preposition", "The plane is flying above the clouds.", "A2"));
-        words.add(new Word("across", "from one side to the other of something", "preposition", "We walked across the bridge.", "A2"));
-        words.add(new Word("address", "the details of where a person lives or an organization is situated", "noun", "What is your email address?", "A2"));
-        words.add(new Word("afraid", "feeling fear or anxiety", "adjective", "I'm afraid of spiders.", "A2"));
-        words.add(new Word("age", "the length of time that a person has lived", "noun", "What is your age?", "A2"));
-        words.add(new Word("ago", "before the present; earlier", "adverb", "She left two hours ago.", "A2"));
-        words.add(new Word("agree", "have the same opinion about something", "verb", "I agree with you.", "A2"));
-        words.add(new Word("airport", "a place where aircraft regularly take off and land", "noun", "We need to go to the airport.", "A2"));
-        words.add(new Word("alone", "on one's own", "adjective", "He likes to spend time alone.", "A2"));
-        words.add(new Word("amazing", "causing great surprise or wonder", "adjective", "The view is amazing.", "A2"));
-        words.add(new Word("angry", "having a strong feeling of annoyance or hostility", "adjective", "She was angry with him.", "A2"));
-        words.add(new Word("animal", "a living organism that feeds on organic matter", "noun", "A lion is a wild animal.", "A2"));
-        words.add(new Word("answer", "a thing said or written to deal with a question", "noun", "Can you answer the phone?", "A2"));
-        words.add(new Word("arrive", "reach a place at the end of a journey", "verb", "What time does the train arrive?", "A2"));
-        words.add(new Word("aunt", "the sister of one's father or mother", "noun", "My aunt lives in Canada.", "A2"));
-        words.add(new Word("autumn", "the season after summer and before winter", "noun", "The leaves fall in autumn.", "A2"));
-        words.add(new Word("away", "to or at a distance from a particular place", "adverb", "Please go away.", "A2"));
-        words.add(new Word("badly", "in an unsatisfactory or unsuccessful way", "adverb", "He played badly in the match.", "A2"));
-        words.add(new Word("baker", "a person who makes bread and cakes", "noun", "The baker gets up early.", "A2"));
-        words.add(new Word("begin", "start; perform the first part of an action", "verb", "The class will begin at 9 am.", "A2"));
-        words.add(new Word("believe", "accept that (something) is true", "verb", "I believe you.", "A2"));
-        words.add(new Word("below", "at a lower level or layer than", "preposition", "The temperature is below zero.", "A2"));
-        words.add(new Word("bicycle", "a vehicle with two wheels, propelled by pedals", "noun", "I ride my bicycle to school.", "A2"));
-        words.add(new Word("bill", "a statement of money owed for goods or services", "noun", "Can I have the bill, please?", "A2"));
-        words.add(new Word("bird", "a warm-blooded egg-laying vertebrate with feathers", "noun", "A bird is singing in the tree.", "A2"));
-        words.add(new Word("birthday", "the anniversary of the day on which a person was born", "noun", "Happy birthday!", "A2"));
-        words.add(new Word("biscuit", "a small baked unleavened cake, typically crisp and sweet", "noun", "Would you like a biscuit with your tea?", "A2"));
-        words.add(new Word("body", "the physical structure of a person or an animal", "noun", "It's important to take care of your body.", "A2"));
-        words.add(new Word("boring", "not interesting; tedious", "adjective", "This movie is boring.", "A2"));
-        words.add(new Word("bottle", "a container, typically made of glass or plastic, for holding drinks", "noun", "A bottle of water.", "A2"));
-        words.add(new Word("bottom", "the lowest point or part", "noun", "My name is at the bottom of the list.", "A2"));
-        words.add(new Word("bridge", "a structure carrying a road or railway across a river or road", "noun", "The Golden Gate Bridge is famous.", "A2"));
-        words.add(new Word("bring", "take or go with (someone or something) to a place", "verb", "Don't forget to bring your book.", "A2"));
-        words.add(new Word("build", "construct (something) by putting parts or material together", "verb", "They are going to build a new house.", "A2"));
-        words.add(new Word("busy", "having a great deal to do", "adjective", "I'm very busy today.", "A2"));
-        words.add(new Word("buy", "obtain in exchange for payment", "verb", "I need to buy some milk.", "A2"));
-        words.add(new Word("call", "give (someone or something) a specified name", "verb", "I'll call you later.", "A2"));
-        words.add(new Word("camera", "a device for recording visual images", "noun", "She has a new camera.", "A2"));
-        words.add(new Word("careful", "making sure of avoiding potential danger or harm", "adjective", "Be careful!", "A2"));
-        words.add(new Word("carry", "support and move (someone or something) from one place to another", "verb", "Can you help me carry these bags?", "A2"));
-        words.add(new Word("catch", "intercept and hold (something which has been thrown)", "verb", "Let's catch the next bus.", "A2"));
-        words.add(new Word("change", "make or become different", "verb", "I need to change my clothes.", "A2"));
-        words.add(new Word("cheap", "low in price", "adjective", "This restaurant is very cheap.", "A2"));
-        words.add(new Word("cheese", "a food made from the pressed curds of milk", "noun", "I like cheese sandwiches.", "A2"));
-        words.add(new Word("cinema", "a theatre where films are shown", "noun", "Let's go to the cinema tonight.", "A2"));
-        words.add(new Word("classmate", "a fellow member of a class at school or college", "noun", "He's my classmate.", "A2"));
-        words.add(new Word("clothes", "items worn to cover the body", "noun", "I bought some new clothes.", "A2"));
-        words.add(new Word("cloud", "a visible mass of water droplets suspended in the atmosphere", "noun", "There isn't a cloud in the sky.", "A2"));
-        words.add(new Word("coat", "an outer garment worn outdoors", "noun", "Put on your coat, it's cold.", "A2"));
-        words.add(new Word("coffee", "a hot drink made from roasted coffee beans", "noun", "I drink coffee every morning.", "A2"));
-        words.add(new Word("computer", "an electronic device for storing and processing data", "noun", "My computer is not working.", "A2"));
-        words.add(new Word("concert", "a musical performance given in public", "noun", "We went to a concert last night.", "A2"));
-        words.add(new Word("cook", "prepare (food) by combining and heating the ingredients", "verb", "My father is a great cook.", "A2"));
-        words.add(new Word("country", "a nation with its own government", "noun", "France is a beautiful country.", "A2"));
-        words.add(new Word("cousin", "a child of one's uncle or aunt", "noun", "My cousin is coming to visit.", "A2"));
-        words.add(new Word("cry", "shed tears, typically as an expression of distress or pain", "verb", "The baby started to cry.", "A2"));
-        words.add(new Word("cut", "make an opening or wound with a sharp-edged tool", "verb", "I cut my finger.", "A2"));
-        words.add(new Word("dance", "move rhythmically to music", "verb", "Do you want to dance?", "A2"));
-        words.add(new Word("dangerous", "able or likely to cause harm or injury", "adjective", "Driving too fast is dangerous.", "A2"));
-        words.add(new Word("dark", "with little or no light", "adjective", "It's getting dark outside.", "A2"));
-        words.add(new Word("date", "the day of the month or year as specified by a number", "noun", "What's the date today?", "A2"));
-        words.add(new Word("decide", "come to a resolution in the mind", "verb", "I can't decide what to wear.", "A2"));
-        words.add(new Word("delicious", "highly pleasant to the taste", "adjective", "This cake is delicious.", "A2"));
-        words.add(new Word("dentist", "a person qualified to treat teeth and gums", "noun", "I have an appointment with the dentist.", "A2"));
-        words.add(new Word("different", "not the same as another or each other", "adjective", "My brother and I have different hobbies.", "A2"));
-        words.add(new Word("difficult", "needing much effort or skill to accomplish", "adjective", "This exam is very difficult.", "A2"));
-        words.add(new Word("doctor", "a qualified practitioner of medicine", "noun", "You should see a doctor.", "A2"));
-        words.add(new Word("dress", "a one-piece garment for a woman or girl", "noun", "She is wearing a beautiful dress.", "A2"));
-        words.add(new Word("drive", "operate and control a motor vehicle", "verb", "I am learning to drive.", "A2"));
-        words.add(new Word("early", "happening or done before the usual time", "adverb", "I woke up early this morning.", "A2"));
-        words.add(new Word("easy", "achieved without great effort", "adjective", "The test was easy.", "A2"));
-        words.add(new Word("email", "messages distributed by electronic means", "noun", "I will send you an email.", "A2"));
-        words.add(new Word("enjoy", "take delight or pleasure in", "verb", "I enjoy reading.", "A2"));
-        words.add(new Word("enough", "as much or as many as is necessary", "determiner", "There is enough food for everyone.", "A2"));
-        words.add(new Word("evening", "the period of time at the end of the day", "noun", "What are you doing this evening?", "A2"));
-        words.add(new Word("example", "a thing characteristic of its kind", "noun", "Can you give me an example?", "A2"));
-        words.add(new Word("excited", "very enthusiastic and eager", "adjective", "I'm so excited about the trip.", "A2"));
-        words.add(new Word("expensive", "costing a lot of money", "adjective", "That car is too expensive.", "A2"));
-        words.add(new Word("explain", "make (an idea or situation) clear to someone", "verb", "Can you explain this to me?", "A2"));
-        words.add(new Word("fall", "move downwards rapidly and freely without control", "verb", "Be careful not to fall.", "A2"));
-        words.add(new Word("famous", "known about by many people", "adjective", "He is a famous actor.", "A2"));
-        words.add(new Word("fast", "moving or capable of moving at high speed", "adjective", "She is a fast runner.", "A2"));
-        words.add(new Word("feel", "experience an emotion or sensation", "verb", "How do you feel today?", "A2"));
-        words.add(new Word("film", "a story recorded by a camera as a set of moving images", "noun", "Have you seen that new film?", "A2"));
-        words.add(new Word("finish", "bring (a task or activity) to an end", "verb", "I will finish my homework later.", "A2"));
-        words.add(new Word("fire", "combustion or burning", "noun", "The fire is warm.", "A2"));
-        words.add(new Word("first", "coming before all others in time or order", "adjective", "This is my first time here.", "A2"));
-        words.add(new Word("fly", "move through the air", "verb", "I want to learn how to fly a plane.", "A2"));
-        words.add(new Word("follow", "go or come after (a person or thing)", "verb", "Follow me, please.", "A2"));
-        words.add(new Word("forget", "fail to remember", "verb", "Don't forget to lock the door.", "A2"));
-        words.add(new Word("friendly", "kind and pleasant", "adjective", "Everyone was very friendly.", "A2"));
-        words.add(new Word("fruit", "the sweet, fleshy product of a tree or other plant", "noun", "You should eat more fruit.", "A2"));
-        words.add(new Word("funny", "causing laughter or amusement", "adjective", "He told a funny story.", "A2"));
-        words.add(new Word("game", "an activity that one engages in for amusement", "noun", "Let's play a game.", "A2"));
-        words.add(new Word("garden", "a piece of ground adjoining a house, for growing flowers or vegetables", "noun", "My grandmother has a beautiful garden.", "A2"));
-        words.add(new Word("glass", "a hard, brittle, transparent substance", "noun", "a glass of water", "A2"));
-        words.add(new Word("great", "of an extent, amount, or intensity considerably above average", "adjective", "We had a great time.", "A2"));
-        words.add(new Word("group", "a number of people or things that are located together", "noun", "A group of students was waiting.", "A2"));
-        words.add(new Word("grow", "undergo natural development by increasing in size", "verb", "Children grow so quickly.", "A2"));
-
-        //B1 - words
-        words.add(new Word("ability", "the power or skill to do something", "noun", "She has the ability to solve complex problems.", "B1"));
-        words.add(new Word("abroad", "in or to a foreign country", "adverb", "He's currently living abroad.", "B1"));
-        words.add(new Word("accept", "consent to receive something offered", "verb", "Please accept my apology.", "B1"));
-        words.add(new Word("accident", "an unfortunate incident that happens unexpectedly", "noun", "He had a car accident yesterday.", "B1"));
-        words.add(new Word("achieve", "successfully bring about or reach by effort", "verb", "She worked hard to achieve her goals.", "B1"));
-        words.add(new Word("act", "take action; do something", "verb", "You must act now before it's too late.", "B1"));
-        words.add(new Word("advantage", "a condition giving a greater chance of success", "noun", "Her experience gave her an advantage.", "B1"));
-        words.add(new Word("adventure", "an unusual and exciting experience", "noun", "Traveling through the jungle was a great adventure.", "B1"));
-        words.add(new Word("advertise", "describe a product in a public medium to promote sales", "verb", "They will advertise their new product on TV.", "B1"));
-        words.add(new Word("advice", "guidance or recommendations offered", "noun", "Can you give me some advice?", "B1"));
-        words.add(new Word("affect", "have an effect on; make a difference to", "verb", "The weather will affect our plans.", "B1"));
-        words.add(new Word("allow", "permit someone to do something", "verb", "They don't allow smoking here.", "B1"));
-        words.add(new Word("although", "in spite of the fact that; though", "conjunction", "Although it was cold, we went for a walk.", "B1"));
-        words.add(new Word("appear", "come into sight; become visible", "verb", "A ship appeared on the horizon.", "B1"));
-        words.add(new Word("apply", "make a formal application or request", "verb", "I want to apply for that job.", "B1"));
-        words.add(new Word("argue", "give reasons or cite evidence in support of an idea", "verb", "They always argue about money.", "B1"));
-        words.add(new Word("arrange", "put things in a neat, attractive, or required order", "verb", "She arranged the flowers in a vase.", "B1"));
-        words.add(new Word("arrest", "seize someone by legal authority and take them into custody", "verb", "The police arrested the thief.", "B1"));
-        words.add(new Word("attend", "be present at an event, meeting, or function", "verb", "Are you going to attend the meeting?", "B1"));
-        words.add(new Word("attention", "notice taken of someone or something", "noun", "May I have your attention, please?", "B1"));
-        words.add(new Word("attractive", "pleasing or appealing to the senses", "adjective", "She wore an attractive dress.", "B1"));
-        words.add(new Word("audience", "the assembled spectators or listeners at a public event", "noun", "The audience clapped loudly.", "B1"));
-        words.add(new Word("average", "a number expressing the central or typical value in a set of data", "noun", "The average age of the students is 21.", "B1"));
-        words.add(new Word("avoid", "keep away from or stop oneself from doing something", "verb", "You should avoid eating fatty foods.", "B1"));
-        words.add(new Word("award", "a prize or other mark of recognition given in honor of an achievement", "noun", "He won an award for his book.", "B1"));
-        words.add(new Word("beautifully", "in a very attractive or pleasing way", "adverb", "She sings beautifully.", "B1"));
-        words.add(new Word("behaviour", "the way in which one acts or conducts oneself", "noun", "His behaviour was unacceptable.", "B1"));
-        words.add(new Word("belong", "be the property of", "verb", "This book belongs to me.", "B1"));
-        words.add(new Word("benefit", "an advantage or profit gained from something", "noun", "There are many benefits to exercise.", "B1"));
-        words.add(new Word("blame", "feel or declare that someone is responsible for a fault", "verb", "Don't blame me for your mistakes.", "B1"));
-        words.add(new Word("brilliant", "exceptionally clever or talented", "adjective", "That was a brilliant idea.", "B1"));
-        words.add(new Word("calm", "not showing or feeling nervousness, anger, or other emotions", "adjective", "Try to stay calm.", "B1"));
-        words.add(new Word("cancel", "decide that an arranged event will not take place", "verb", "They had to cancel the flight due to bad weather.", "B1"));
-        words.add(new Word("carefully", "in a way that deliberately avoids harm or errors", "adverb", "Please drive carefully.", "B1"));
-        words.add(new Word("cause", "a person or thing that gives rise to an action or condition", "noun", "What was the cause of the fire?", "B1"));
-        words.add(new Word("celebrate", "acknowledge a significant event with a social gathering", "verb", "We're going to celebrate his birthday.", "B1"));
-        words.add(new Word("certainly", "used to express agreement or affirmation", "adverb", "Certainly, I can help you with that.", "B1"));
-        words.add(new Word("chance", "a possibility of something happening", "noun", "Is there any chance of rain?", "B1"));
-        words.add(new Word("character", "the mental and moral qualities distinctive to an individual", "noun", "He has a very strong character.", "B1"));
-        words.add(new Word("chat", "talk in a friendly and informal way", "verb", "We were chatting for hours.", "B1"));
-        words.add(new Word("choice", "an act of selecting or making a decision", "noun", "You have a choice between these two options.", "B1"));
-        words.add(new Word("clear", "easy to perceive, understand, or interpret", "adjective", "The instructions are very clear.", "B1"));
-        words.add(new Word("clever", "quick to understand, learn, and devise or apply ideas", "adjective", "She is a very clever student.", "B1"));
-        words.add(new Word("collect", "bring or gather together", "verb", "He collects old stamps.", "B1"));
-        words.add(new Word("common", "occurring, found, or done often; prevalent", "adjective", "It's a common mistake.", "B1"));
-        words.add(new Word("communicate", "share or exchange information, news, or ideas", "verb", "How do you communicate with your friends?", "B1"));
-        words.add(new Word("company", "a commercial business", "noun", "He works for a large company.", "B1"));
-        words.add(new Word("compare", "estimate, measure, or note the similarity or dissimilarity between", "verb", "Let's compare the two cars.", "B1"));
-        words.add(new Word("complain", "express dissatisfaction or annoyance about something", "verb", "The customers complained about the slow service.", "B1"));
-        words.add(new Word("connect", "bring together or into contact so that a link is established", "verb", "The bridge connects the two cities.", "B1"));
-        words.add(new Word("contain", "have or hold someone or something within", "verb", "This box contains old photographs.", "B1"));
-        words.add(new Word("continue", "persist in an activity or process", "verb", "Please continue with your work.", "B1"));
-        words.add(new Word("correct", "free from error; in accordance with fact or truth", "adjective", "That's the correct answer.", "B1"));
-        words.add(new Word("couple", "two individuals of the same sort considered together", "noun", "A couple of my friends are coming.", "B1"));
-        words.add(new Word("creative", "relating to or involving the imagination or original ideas", "adjective", "She has a very creative mind.", "B1"));
-        words.add(new Word("crime", "an action or omission that constitutes an offense", "noun", "Theft is a serious crime.", "B1"));
-        words.add(new Word("crowd", "a large number of people gathered together", "noun", "A large crowd gathered in the square.", "B1"));
-        words.add(new Word("culture", "the arts and other manifestations of human intellectual achievement", "noun", "I'm interested in Japanese culture.", "B1"));
-        words.add(new Word("currently", "at the present time", "adverb", "He is currently unemployed.", "B1"));
-        words.add(new Word("custom", "a traditional and widely accepted way of behaving", "noun", "It's a custom to give gifts on birthdays.", "B1"));
-        words.add(new Word("damage", "physical harm that impairs the value, usefulness, or normal function", "noun", "The storm caused a lot of damage.", "B1"));
-        words.add(new Word("deal", "take part in commercial trading of a particular commodity", "verb", "I don't know how to deal with this problem.", "B1"));
-        words.add(new Word("deep", "extending far down from the top or surface", "adjective", "The ocean is very deep here.", "B1"));
-        words.add(new Word("definitely", "without doubt", "adverb", "I will definitely be there.", "B1"));
-        words.add(new Word("deliver", "bring and hand over a letter, parcel, or goods", "verb", "They will deliver the package tomorrow.", "B1"));
-        words.add(new Word("depend", "be controlled or determined by", "verb", "It depends on the weather.", "B1"));
-        words.add(new Word("describe", "give an account in words of someone or something", "verb", "Can you describe the man you saw?", "B1"));
-        words.add(new Word("design", "a plan or drawing produced to show the look and function of something", "noun", "I like the design of this building.", "B1"));
-        words.add(new Word("destroy", "end the existence of something by damaging it", "verb", "The fire destroyed the entire forest.", "B1"));
-        words.add(new Word("develop", "grow or cause to grow and become more mature or advanced", "verb", "The city has developed rapidly.", "B1"));
-        words.add(new Word("discover", "find something or someone unexpectedly", "verb", "They discovered a new species of frog.", "B1"));
-        words.add(new Word("discuss", "talk about something with another person or group", "verb", "We need to discuss our plans for the weekend.", "B1"));
-        words.add(new Word("disease", "an illness of people, animals, plants, etc.", "noun", "He is suffering from a rare disease.", "B1"));
-        words.add(new Word("download", "copy data from one computer system to another", "verb", "You can download the software for free.", "B1"));
-        words.add(new Word("dream", "a series of thoughts, images, and sensations occurring in a person's mind during sleep", "noun", "I had a strange dream last night.", "B1"));
-        words.add(new Word("during", "throughout the course or duration of a period of time", "preposition", "He fell asleep during the film.", "B1"));
-        words.add(new Word("earth", "the planet on which we live", "noun", "The Earth revolves around the Sun.", "B1"));
-        words.add(new Word("educate", "give intellectual, moral, and social instruction to someone", "verb", "It's important to educate children about the environment.", "B1"));
-        words.add(new Word("effect", "a change which is a result of an action", "noun", "The new law will have a positive effect.", "B1"));
-        words.add(new Word("effort", "a vigorous or determined attempt", "noun", "It will take a lot of effort to finish this project.", "B1"));
-        words.add(new Word("either", "used before the first of two alternatives", "conjunction", "You can have either tea or coffee.", "B1"));
-        words.add(new Word("elect", "choose someone to hold public office by voting", "verb", "They will elect a new president next year.", "B1"));
-        words.add(new Word("emotion", "a strong feeling deriving from one's circumstances, mood, or relationships", "noun", "He finds it hard to express his emotions.", "B1"));
-        words.add(new Word("encourage", "give support, confidence, or hope to someone", "verb", "My parents always encouraged me to study.", "B1"));
-        words.add(new Word("engine", "a machine with moving parts that converts power into motion", "noun", "There's a problem with the car's engine.", "B1"));
-        words.add(new Word("environment", "the surroundings or conditions in which a person, animal, or plant lives", "noun", "We need to protect the environment.", "B1"));
-        words.add(new Word("especially", "used to single out one person or thing over all others", "adverb", "I love ice cream, especially chocolate.", "B1"));
-        words.add(new Word("event", "a thing that happens, especially one of importance", "noun", "The wedding was a big event.", "B1"));
-        words.add(new Word("exact", "not approximated in any way; precise", "adjective", "What are the exact measurements?", "B1"));
-        words.add(new Word("except", "not including; other than", "preposition", "Everyone is here except John.", "B1"));
-        words.add(new Word("expect", "regard something as likely to happen", "verb", "I expect it will rain today.", "B1"));
-        words.add(new Word("experience", "practical contact with and observation of facts or events", "noun", "He has a lot of experience in marketing.", "B1"));
-        words.add(new Word("expert", "a person who has a comprehensive and authoritative knowledge of a particular area", "noun", "She is an expert in her field.", "B1"));
-        words.add(new Word("extra", "added to an existing or usual amount or number", "adjective", "Do you have any extra pens?", "B1"));
-        words.add(new Word("fail", "be unsuccessful in achieving one's goal", "verb", "He failed his driving test.", "B1"));
-
-        // B2 words
-        words.add(new Word("accomplish", "to achieve or complete successfully", "verb", "It's amazing what you can accomplish when you put your mind to it.", "B2"));
-        words.add(new Word("accurate", "correct in all details; exact", "adjective", "We need to have accurate information before making a decision.", "B2"));
-        words.add(new Word("adapt", "to become adjusted to new conditions", "verb", "He found it hard to adapt to the new working environment.", "B2"));
-        words.add(new Word("admire", "to regard with respect or warm approval", "verb", "I admire her for her courage and determination.", "B2"));
-        words.add(new Word("afford", "to have enough money to pay for", "verb", "I can't afford to buy a new car right now.", "B2"));
-        words.add(new Word("ambition", "a strong desire to do or achieve something", "noun", "Her ambition was to become a successful writer.", "B2"));
-        words.add(new Word("analyze", "to examine in detail the constitution of something", "verb", "The scientist will analyze the data from the experiment.", "B2"));
-        words.add(new Word("announce", "to make a public and formal proclamation", "verb", "They will announce the winner of the competition tomorrow.", "B2"));
-        words.add(new Word("apparent", "clearly visible or understood; obvious", "adjective", "It was apparent that he was not happy with the result.", "B2"));
-        words.add(new Word("approach", "a way of dealing with a situation or problem", "noun", "We need a new approach to tackle this issue.", "B2"));
-        words.add(new Word("approve", "to officially agree to or accept as satisfactory", "verb", "The manager has to approve all expenses.", "B2"));
-        words.add(new Word("aspect", "a particular part or feature of something", "noun", "The most important aspect of the job is communication.", "B2"));
-        words.add(new Word("assume", "to suppose to be the case, without proof", "verb", "I assume you have already read the report.", "B2"));
-        words.add(new Word("attempt", "an effort to achieve or complete a difficult task", "noun", "He made a brave attempt to rescue the child.", "B2"));
-        words.add(new Word("attitude", "a settled way of thinking or feeling about someone or something", "noun", "A positive attitude can make a big difference.", "B2"));
-        words.add(new Word("aware", "having knowledge or perception of a situation", "adjective", "Are you aware of the risks involved?", "B2"));
-        words.add(new Word("campaign", "a series of organized activities for a particular purpose", "noun", "They launched a campaign to raise awareness about climate change.", "B2"));
-        words.add(new Word("capable", "having the ability, fitness, or quality to do something", "adjective", "She is a very capable and experienced teacher.", "B2"));
-        words.add(new Word("circumstance", "a fact or condition connected with an event or action", "noun", "Under the circumstances, we had no other option.", "B2"));
-        words.add(new Word("claim", "to state or assert that something is the case", "verb", "He claims to have seen a ghost.", "B2"));
-        words.add(new Word("commit", "to carry out or perpetrate a mistake, crime, or immoral act", "verb", "He was sent to prison for a crime he didn't commit.", "B2"));
-        words.add(new Word("complex", "consisting of many different and connected parts", "adjective", "The instructions were too complex to understand.", "B2"));
-        words.add(new Word("concentrate", "to focus all one's attention on a particular object or activity", "verb", "I can't concentrate with all this noise.", "B2"));
-        words.add(new Word("concept", "an abstract idea; a general notion", "noun", "It's a difficult concept to grasp.", "B2"));
-        words.add(new Word("concerned", "worried, troubled, or anxious", "adjective", "I'm very concerned about her health.", "B2"));
-        words.add(new Word("conclude", "to bring something to an end", "verb", "The report concludes that the company needs to change its strategy.", "B2"));
-        words.add(new Word("confident", "feeling or showing confidence in oneself; self-assured", "adjective", "She feels confident about her chances of winning.", "B2"));
-        words.add(new Word("consequence", "a result or effect of an action or condition", "noun", "The accident was a tragic consequence of his carelessness.", "B2"));
-        words.add(new Word("consist", "to be composed or made up of", "verb", "The team consists of four men and two women.", "B2"));
-        words.add(new Word("construct", "to build or erect something", "verb", "They are planning to construct a new bridge.", "B2"));
-        words.add(new Word("contribute", "to give in order to help achieve or provide something", "verb", "Everyone should contribute to the discussion.", "B2"));
-        words.add(new Word("convince", "to cause someone to believe firmly in the truth of something", "verb", "I'm trying to convince him to see a doctor.", "B2"));
-        words.add(new Word("cope", "to deal effectively with something difficult", "verb", "She is finding it hard to cope with the stress.", "B2"));
-        words.add(new Word("critical", "expressing adverse or disapproving comments or judgments", "adjective", "Your support is critical to our success.", "B2"));
-        words.add(new Word("crucial", "decisive or critical, especially in the success or failure of something", "adjective", "It's crucial that we arrive on time.", "B2"));
-        words.add(new Word("debate", "a formal discussion on a particular topic", "noun", "There was a long debate about the new law.", "B2"));
-        words.add(new Word("demonstrate", "to clearly show the existence or truth of something", "verb", "The study demonstrates the link between smoking and cancer.", "B2"));
-        words.add(new Word("deny", "to state that one refuses to admit the truth or existence of", "verb", "He continues to deny the accusations.", "B2"));
-        words.add(new Word("deserve", "to do something or have or show qualities worthy of reward or punishment", "verb", "After all his hard work, he deserves a holiday.", "B2"));
-        words.add(new Word("despite", "without being affected by; in spite of", "preposition", "We went out despite the rain.", "B2"));
-        words.add(new Word("distinguish", "to recognize or treat someone or something as different", "verb", "It's important to distinguish between fact and opinion.", "B2"));
-        words.add(new Word("domestic", "relating to the running of a home or to family relations", "adjective", "The company hopes to attract both domestic and international investors.", "B2"));
-        words.add(new Word("dramatic", "relating to drama or the performance of drama", "adjective", "There has been a dramatic increase in crime.", "B2"));
-        words.add(new Word("efficient", "working in a well-organized and competent way", "adjective", "The new system is more efficient than the old one.", "B2"));
-        words.add(new Word("eliminate", "to completely remove or get rid of something", "verb", "We need to eliminate the possibility of error.", "B2"));
-        words.add(new Word("emerge", "to move out of or away from something and come into view", "verb", "The sun emerged from behind the clouds.", "B2"));
-        words.add(new Word("emphasis", "special importance, value, or prominence given to something", "noun", "The school places a strong emphasis on academic achievement.", "B2"));
-        words.add(new Word("enable", "to give someone or something the authority or means to do something", "verb", "This new software will enable us to work more efficiently.", "B2"));
-        words.add(new Word("encounter", "to unexpectedly be faced with or experience something", "verb", "We encountered a number of difficulties during the project.", "B2"));
-        words.add(new Word("engage", "to occupy, attract, or involve someone's interest or attention", "verb", "It's a book that will engage the reader's imagination.", "B2"));
-        words.add(new Word("enhance", "to intensify, increase, or further improve the quality of something", "verb", "Good lighting can enhance the appearance of a room.", "B2"));
-        words.add(new Word("enormous", "very large in size, quantity, or extent", "adjective", "The project was an enormous success.", "B2"));
-        words.add(new Word("ensure", "to make certain that something will occur or be the case", "verb", "Please ensure that all the lights are switched off.", "B2"));
-        words.add(new Word("establish", "to set up on a firm or permanent basis", "verb", "The company was established in 1950.", "B2"));
-        words.add(new Word("estimate", "to roughly calculate or judge the value, number, or quantity of", "verb", "It is estimated that the project will cost $10 million.", "B2"));
-        words.add(new Word("evaluate", "to form an idea of the amount, number, or value of; to assess", "verb", "We need to evaluate the success of the campaign.", "B2"));
-        words.add(new Word("evidence", "the available body of facts or information indicating whether a belief is true", "noun", "There is no scientific evidence to support his theory.", "B2"));
-        words.add(new Word("expand", "to become or make larger or more extensive", "verb", "The company is planning to expand its operations in Europe.", "B2"));
-        words.add(new Word("expose", "to make something visible by uncovering it", "verb", "He was exposed as a liar and a cheat.", "B2"));
-        words.add(new Word("extend", "to cause to cover a larger area; make longer or wider", "verb", "We plan to extend the kitchen.", "B2"));
-        words.add(new Word("factor", "a circumstance, fact, or influence that contributes to a result", "noun", "The weather was a major factor in their defeat.", "B2"));
-        words.add(new Word("feature", "a distinctive attribute or aspect of something", "noun", "The car has several new safety features.", "B2"));
-        words.add(new Word("financial", "relating to finance", "adjective", "He needs some financial advice.", "B2"));
-        words.add(new Word("focus", "the center of interest or activity", "noun", "The focus of the study is on the effects of pollution.", "B2"));
-        words.add(new Word("frequently", "often; regularly or habitually", "adverb", "They meet frequently to discuss the project.", "B2"));
-        words.add(new Word("generate", "to produce or create", "verb", "The new factory will generate hundreds of jobs.", "B2"));
-        words.add(new Word("global", "relating to the whole world; worldwide", "adjective", "Climate change is a global issue.", "B2"));
-        words.add(new Word("guarantee", "a formal promise or assurance that certain conditions will be fulfilled", "noun", "The television comes with a two-year guarantee.", "B2"));
-        words.add(new Word("highly", "to a high degree or level", "adverb", "She is a highly respected journalist.", "B2"));
-        words.add(new Word("illustrate", "to provide a book or text with pictures", "verb", "The book is beautifully illustrated.", "B2"));
-        words.add(new Word("impact", "the effect or influence of one person, thing, or action, on another", "noun", "The new law will have a significant impact on the economy.", "B2"));
-        words.add(new Word("implement", "to put a decision, plan, or agreement into effect", "verb", "The government will implement the new policy next year.", "B2"));
-        words.add(new Word("imply", "to strongly suggest the truth or existence of something not stated", "verb", "Are you implying that I am lying?", "B2"));
-        words.add(new Word("income", "money received, especially on a regular basis, for work", "noun", "He has a very high annual income.", "B2"));
-        words.add(new Word("indicate", "to point out; show", "verb", "The survey results indicate a change in public opinion.", "B2"));
-        words.add(new Word("initial", "existing or occurring at the beginning", "adjective", "My initial reaction was one of surprise.", "B2"));
-        words.add(new Word("insist", "to demand something forcefully, not accepting refusal", "verb", "He insisted on paying for the meal.", "B2"));
-        words.add(new Word("investigate", "to carry out research or study into a subject or problem", "verb", "The police are investigating the cause of the accident.", "B2"));
-        words.add(new Word("involve", "to have or include someone or something as a necessary part", "verb", "The job involves a lot of travelling.", "B2"));
-        words.add(new Word("issue", "an important topic or problem for debate or discussion", "noun", "Environmental issues are a major concern.", "B2"));
-        words.add(new Word("justify", "to show or prove to be right or reasonable", "verb", "How can you justify your actions?", "B2"));
-        words.add(new Word("launch", "to start or set in motion an activity or enterprise", "verb", "The company is planning to launch a new product.", "B2"));
-        words.add(new Word("legal", "relating to the law", "adjective", "You should get some legal advice.", "B2"));
-        words.add(new Word("maintain", "to cause or enable a condition or state to continue", "verb", "It's important to maintain a healthy diet.", "B2"));
-        words.add(new Word("manage", "to be in charge of; run", "verb", "She manages a large team of people.", "B2"));
-        words.add(new Word("negative", "consisting in or characterized by the absence rather than the presence of distinguishing features", "adjective", "The test results were negative.", "B2"));
-        words.add(new Word("objective", "a thing aimed at or sought; a goal", "noun", "The main objective of the course is to improve your writing skills.", "B2"));
-        words.add(new Word("obtain", "to get, acquire, or secure something", "verb", "I was unable to obtain the information I needed.", "B2"));
-        words.add(new Word("obvious", "easily perceived or understood; clear, self-evident, or apparent", "adjective", "It was obvious that he was not telling the truth.", "B2"));
-        words.add(new Word("occur", "to happen; take place", "verb", "The accident occurred at 3 p.m.", "B2"));
-        words.add(new Word("perceive", "to become aware or conscious of something; come to realize or understand", "verb", "I perceived a change in his behaviour.", "B2"));
-        words.add(new Word("potential", "having or showing the capacity to develop into something in the future", "adjective", "He is a potential leader of the party.", "B2"));
-        words.add(new Word("previous", "existing or occurring before in time or order", "adjective", "The previous owner of the house was a doctor.", "B2"));
-        words.add(new Word("primary", "of chief importance; principal", "adjective", "Our primary concern is the safety of our customers.", "B2"));
-        words.add(new Word("professional", "relating to or belonging to a profession", "adjective", "She is a very professional and efficient worker.", "B2"));
-        words.add(new Word("promote", "to further the progress of something; support or actively encourage", "verb", "The organization works to promote environmental awareness.", "B2"));
-        words.add(new Word("protect", "to keep safe from harm or injury", "verb", "It's important to protect your skin from the sun.", "B2"));
-        words.add(new Word("purchase", "to acquire something by paying for it; buy", "verb", "You can purchase tickets in advance online.", "B2"));
-        words.add(new Word("pursue", "to follow or chase someone or something", "verb", "She decided to pursue a career in medicine.", "B2"));
-        words.add(new Word("range", "the area of variation between upper and lower limits on a particular scale", "noun", "The price range is from $100 to $200.", "B2"));
-
-        //C1 words
-        words.add(new Word("abundant", "existing or available in large quantities; plentiful", "adjective", "Rainfall is abundant in the tropical rainforest.", "C1"));
-        words.add(new Word("accelerate", "to increase in rate, amount, or extent", "verb", "The government is taking steps to accelerate economic growth.", "C1"));
-        words.add(new Word("accommodate", "to provide lodging or sufficient space for", "verb", "The new stadium can accommodate up to 50,000 spectators.", "C1"));
-        words.add(new Word("accumulate", "to gather together or acquire an increasing number or quantity of", "verb", "Over the years, he had accumulated a vast collection of rare books.", "C1"));
-        words.add(new Word("adequate", "satisfactory or acceptable in quality or quantity", "adjective", "The current facilities are not adequate for the needs of the students.", "C1"));
-        words.add(new Word("advocate", "a person who publicly supports or recommends a particular cause or policy", "noun", "She is a passionate advocate for environmental protection.", "C1"));
-        words.add(new Word("alleviate", "to make suffering, deficiency, or a problem less severe", "verb", "The new medicine will help to alleviate the pain.", "C1"));
-        words.add(new Word("allocate", "to distribute resources or duties for a particular purpose", "verb", "The government has allocated funds for the new hospital.", "C1"));
-        words.add(new Word("ambiguous", "open to more than one interpretation; not having one obvious meaning", "adjective", "The instructions were ambiguous, and we didn't know what to do.", "C1"));
-        words.add(new Word("amend", "to make minor changes to a text, piece of legislation, etc.", "verb", "They voted to amend the constitution.", "C1"));
-        words.add(new Word("anticipate", "to regard as probable; expect or predict", "verb", "We anticipate that the project will be completed on time.", "C1"));
-        words.add(new Word("arbitrary", "based on random choice or personal whim, rather than any reason or system", "adjective", "The decision to close the factory was completely arbitrary.", "C1"));
-        words.add(new Word("articulate", "having or showing the ability to speak fluently and coherently", "adjective", "She is a highly articulate and intelligent speaker.", "C1"));
-        words.add(new Word("assert", "to state a fact or belief confidently and forcefully", "verb", "He continued to assert his innocence.", "C1"));
-        words.add(new Word("assess", "to evaluate or estimate the nature, ability, or quality of", "verb", "We need to assess the impact of the new policy.", "C1"));
-        words.add(new Word("attribute", "to regard something as being caused by someone or something", "verb", "He attributed his success to hard work.", "C1"));
-        words.add(new Word("authentic", "of undisputed origin; genuine", "adjective", "The painting is an authentic Picasso.", "C1"));
-        words.add(new Word("beneficial", "favorable or advantageous; resulting in good", "adjective", "Regular exercise is beneficial to your health.", "C1"));
-        words.add(new Word("bias", "prejudice in favor of or against one thing, person, or group", "noun", "The newspaper has a clear bias towards the government.", "C1"));
-        words.add(new Word("bolster", "to support or strengthen; prop up", "verb", "The new evidence will bolster the prosecution's case.", "C1"));
-        words.add(new Word("breakthrough", "a sudden, dramatic, and important discovery or development", "noun", "Scientists have made a major breakthrough in the treatment of cancer.", "C1"));
-        words.add(new Word("coincide", "to occur at or during the same time", "verb", "His visit was timed to coincide with the festival.", "C1"));
-        words.add(new Word("collaborate", "to work jointly on an activity, especially to produce or create something", "verb", "The two companies will collaborate on the new project.", "C1"));
-        words.add(new Word("compelling", "evoking interest, attention, or admiration in a powerfully irresistible way", "adjective", "The book tells a compelling story of a young woman's struggle for freedom.", "C1"));
-        words.add(new Word("complement", "a thing that completes or brings to perfection", "noun", "The wine is a perfect complement to the cheese.", "C1"));
-        words.add(new Word("comprehend", "to grasp mentally; understand", "verb", "I was unable to comprehend what he was saying.", "C1"));
-        words.add(new Word("comprise", "to consist of; be made up of", "verb", "The committee is comprised of representatives from all departments.", "C1"));
-        words.add(new Word("concise", "giving a lot of information clearly and in a few words; brief but comprehensive", "adjective", "Your summary should be as concise as possible.", "C1"));
-        words.add(new Word("condemn", "to express complete disapproval of, typically in public; censure", "verb", "The government condemned the terrorist attack.", "C1"));
-        words.add(new Word("confer", "to grant or bestow a title, degree, benefit, or right", "verb", "The university will confer honorary degrees on several distinguished guests.", "C1"));
-        words.add(new Word("confiscate", "to take or seize someone's property with authority", "verb", "The police confiscated his passport.", "C1"));
-        words.add(new Word("consensus", "a general agreement", "noun", "There is a growing consensus that the current system is not working.", "C1"));
-        words.add(new Word("constitute", "to be a part of a whole", "verb", "Women constitute a majority of the workforce.", "C1"));
-        words.add(new Word("contemplate", "to look thoughtfully for a long time at", "verb", "He contemplated the painting for a long time.", "C1"));
-        words.add(new Word("contradict", "to deny the truth of a statement by asserting the opposite", "verb", "The evidence seems to contradict his testimony.", "C1"));
-        words.add(new Word("controversial", "giving rise or likely to give rise to public disagreement", "adjective", "The new law is highly controversial.", "C1"));
-        words.add(new Word("convey", "to make an idea, impression, or feeling known or understandable to someone", "verb", "He was unable to convey the full extent of his feelings.", "C1"));
-        words.add(new Word("correspond", "to have a close similarity; match or agree almost exactly", "verb", "The two accounts of the event do not correspond.", "C1"));
-        words.add(new Word("credible", "able to be believed; convincing", "adjective", "The police have found a credible witness.", "C1"));
-        words.add(new Word("culminate", "to reach a climax or point of highest development", "verb", "The festival will culminate in a spectacular fireworks display.", "C1"));
-        words.add(new Word("cynical", "believing that people are motivated by self-interest; distrustful of human sincerity", "adjective", "He has a very cynical view of the world.", "C1"));
-        words.add(new Word("deduce", "to arrive at a fact or a conclusion by reasoning; draw as a logical conclusion", "verb", "From the evidence, we can deduce that he is guilty.", "C1"));
-        words.add(new Word("deficiency", "a lack or shortage of something", "noun", "The company has a serious deficiency of skilled workers.", "C1"));
-        words.add(new Word("deliberate", "done consciously and intentionally", "adjective", "The attack was a deliberate act of terrorism.", "C1"));
-        words.add(new Word("depict", "to represent by a drawing, painting, or other art form", "verb", "The painting depicts a scene from the Bible.", "C1"));
-        words.add(new Word("derive", "to obtain something from a specified source", "verb", "The word 'politics' is derived from a Greek word.", "C1"));
-        words.add(new Word("detrimental", "tending to cause harm", "adjective", "Smoking is detrimental to your health.", "C1"));
-        words.add(new Word("deviate", "to depart from an established course or accepted standard", "verb", "He refused to deviate from his original plan.", "C1"));
-        words.add(new Word("diminish", "to make or become less", "verb", "The company's profits have diminished in recent years.", "C1"));
-        words.add(new Word("discrepancy", "a lack of compatibility or similarity between two or more facts", "noun", "There is a discrepancy between the two reports.", "C1"));
-        words.add(new Word("discriminate", "to recognize a distinction; differentiate", "verb", "It is illegal to discriminate against someone because of their race or religion.", "C1"));
-        words.add(new Word("dismantle", "to take a machine or structure to pieces", "verb", "He dismantled the old engine to see how it worked.", "C1"));
-        words.add(new Word("dispose", "to get rid of by throwing away or giving or selling to someone else", "verb", "You should dispose of your old batteries responsibly.", "C1"));
-        words.add(new Word("diverse", "showing a great deal of variety; very different", "adjective", "The city has a very diverse population.", "C1"));
-        words.add(new Word("dominate", "to have a commanding influence on; exercise control over", "verb", "The company dominates the market for mobile phones.", "C1"));
-        words.add(new Word("dubious", "hesitating or doubting", "adjective", "I am dubious about his chances of success.", "C1"));
-        words.add(new Word("durable", "able to withstand wear, pressure, or damage; hard-wearing", "adjective", "The furniture is made from durable materials.", "C1"));
-        words.add(new Word("elaborate", "involving many carefully arranged parts or details; detailed and complicated", "adjective", "She had prepared an elaborate meal for her guests.", "C1"));
-        words.add(new Word("eligible", "having the right to do or obtain something; satisfying the appropriate conditions", "adjective", "Only people over 18 are eligible to vote.", "C1"));
-        words.add(new Word("eminent", "famous and respected within a particular sphere or profession", "adjective", "He is an eminent scientist.", "C1"));
-        words.add(new Word("encompass", "to surround and have or hold within", "verb", "The course will encompass a wide range of topics.", "C1"));
-        words.add(new Word("endorse", "to declare one's public approval or support of", "verb", "The celebrity endorsed the new brand of perfume.", "C1"));
-        words.add(new Word("endeavor", "to try hard to do or achieve something", "verb", "We will endeavor to provide the best possible service.", "C1"));
-        words.add(new Word("entail", "to involve something as a necessary or inevitable part or consequence", "verb", "The job entails a lot of travel.", "C1"));
-        words.add(new Word("envision", "to imagine as a future possibility; visualize", "verb", "He envisioned a future where everyone would have access to clean water.", "C1"));
-        words.add(new Word("eradicate", "to destroy completely; put an end to", "verb", "The organization is working to eradicate poverty.", "C1"));
-        words.add(new Word("erroneous", "wrong; incorrect", "adjective", "The report contained several erroneous statements.", "C1"));
-        words.add(new Word("evoke", "to bring or recall a feeling, memory, or image to the conscious mind", "verb", "The music evoked memories of his childhood.", "C1"));
-        words.add(new Word("exacerbate", "to make a problem, bad situation, or negative feeling worse", "verb", "The new policy will only exacerbate the problem.", "C1"));
-        words.add(new Word("excerpt", "a short extract from a film, broadcast, or piece of music or writing", "noun", "She read an excerpt from her new book.", "C1"));
-        words.add(new Word("exert", "to apply or bring to bear a force, influence, or quality", "verb", "He exerted all his strength to lift the heavy box.", "C1"));
-        words.add(new Word("feasible", "possible to do easily or conveniently", "adjective", "It is not feasible to complete the project in such a short time.", "C1"));
-        words.add(new Word("fluctuate", "to rise and fall irregularly in number or amount", "verb", "The price of oil continues to fluctuate.", "C1"));
-        words.add(new Word("foster", "to encourage or promote the development of something, typically something regarded as good", "verb", "The school aims to foster a love of learning in its students.", "C1"));
-        words.add(new Word("fraudulent", "obtained, done by, or involving deception, especially criminal deception", "adjective", "He was found guilty of fraudulent trading.", "C1"));
-        words.add(new Word("fundamental", "forming a necessary base or core; of central importance", "adjective", "There is a fundamental difference between our two approaches.", "C1"));
-        words.add(new Word("garner", "to gather or collect something, especially information or approval", "verb", "The film has garnered several awards.", "C1"));
-        words.add(new Word("generic", "characteristic of or relating to a class or group of things; not specific", "adjective", "The doctor prescribed a generic drug instead of the brand-name one.", "C1"));
-        words.add(new Word("genuine", "truly what something is said to be; authentic", "adjective", "The painting is a genuine masterpiece.", "C1"));
-        words.add(new Word("hazardous", "risky; dangerous", "adjective", "The factory produces hazardous waste.", "C1"));
-        words.add(new Word("hesitant", "tentative, unsure, or slow in acting or speaking", "adjective", "She was hesitant to accept the job offer.", "C1"));
-        words.add(new Word("hierarchy", "a system in which members of an organization or society are ranked according to status", "noun", "He is at the top of the corporate hierarchy.", "C1"));
-        words.add(new Word("hypothetical", "of, based on, or serving as a hypothesis", "adjective", "Let's consider a hypothetical situation.", "C1"));
-        words.add(new Word("illuminate", "to light up", "verb", "The candles illuminated the room.", "C1"));
-        words.add(new Word("imminent", "about to happen", "adjective", "A storm is imminent.", "C1"));
-        words.add(new Word("impede", "to delay or prevent someone or something by obstructing them; hinder", "verb", "The bad weather will impede our progress.", "C1"));
-        words.add(new Word("implicit", "suggested though not directly expressed", "adjective", "There was an implicit threat in his words.", "C1"));
-        words.add(new Word("impose", "to force an unwelcome decision or ruling on someone", "verb", "The government has imposed a new tax on cigarettes.", "C1"));
-        words.add(new Word("inadequate", "lacking the quality or quantity required; insufficient for a purpose", "adjective", "The food supplies are inadequate to meet the needs of the population.", "C1"));
-        words.add(new Word("incentive", "a thing that motivates or encourages one to do something", "noun", "The company is offering a financial incentive for employees who work extra hours.", "C1"));
-        words.add(new Word("incessant", "continuing without pause or interruption", "adjective", "The incessant noise from the construction site is driving me crazy.", "C1"));
-        words.add(new Word("inclined", "willing or disposed to do something", "adjective", "I am inclined to agree with you.", "C1"));
-        words.add(new Word("incompatible", "so different in nature as to be incapable of existing together", "adjective", "The two computer systems are incompatible.", "C1"));
-        words.add(new Word("incorporate", "to take in or contain something as part of a whole; include", "verb", "The new design will incorporate several new features.", "C1"));
-        words.add(new Word("incur", "to become subject to something unwelcome or unpleasant as a result of one's own behavior", "verb", "The company will incur heavy losses this year.", "C1"));
-        words.add(new Word("indispensable", "absolutely necessary", "adjective", "A computer is an indispensable tool for any writer.", "C1"));
-        words.add(new Word("induce", "to succeed in persuading or influencing someone to do something", "verb", "Nothing would induce me to vote for him.", "C1"));
-        words.add(new Word("inevitable", "certain to happen; unavoidable", "adjective", "It was inevitable that he would lose the election.", "C1"));
-
-        //C2 words
-        words.add(new Word("abate", "to become less intense or widespread", "verb", "The storm suddenly abated.", "C2"));
-        words.add(new Word("aberration", "a departure from what is normal, usual, or expected", "noun", "The single poor grade was an aberration in her otherwise stellar academic record.", "C2"));
-        words.add(new Word("abjure", "to solemnly renounce a belief, cause, or claim", "verb", "He abjured his former beliefs under pressure.", "C2"));
-        words.add(new Word("abnegation", "the act of renouncing or rejecting something", "noun", "Her abnegation of worldly pleasures was a part of her spiritual journey.", "C2"));
-        words.add(new Word("abstruse", "difficult to understand; obscure", "adjective", "The professor's lecture on quantum physics was too abstruse for most students.", "C2"));
-        words.add(new Word("acrimonious", "angry and bitter in tone or nature", "adjective", "The acrimonious debate lasted for hours.", "C2"));
-        words.add(new Word("adumbrate", "to report or represent in outline", "verb", "The author adumbrated the plot of his new novel.", "C2"));
-        words.add(new Word("alacrity", "brisk and cheerful readiness", "noun", "She accepted the invitation with alacrity.", "C2"));
-        words.add(new Word("anathema", "something or someone that one vehemently dislikes", "noun", "Racial prejudice is an anathema to me.", "C2"));
-        words.add(new Word("anomaly", "something that deviates from what is standard, normal, or expected", "noun", "There's a statistical anomaly in the data that we need to investigate.", "C2"));
-        words.add(new Word("antipathy", "a deep-seated feeling of dislike; aversion", "noun", "He felt a strong antipathy towards his rival.", "C2"));
-        words.add(new Word("aplomb", "self-confidence or assurance, especially when in a demanding situation", "noun", "She handled the difficult situation with great aplomb.", "C2"));
-        words.add(new Word("apocryphal", "of doubtful authenticity, although widely circulated as being true", "adjective", "The story about the president's secret life is likely apocryphal.", "C2"));
-        words.add(new Word("arcane", "understood by few; mysterious or secret", "adjective", "He was the only person who understood the arcane details of the ceremony.", "C2"));
-        words.add(new Word("ascetic", "characterized by severe self-discipline and abstention from all forms of indulgence", "adjective", "The monk lived a simple, ascetic life.", "C2"));
-        words.add(new Word("assiduous", "showing great care and perseverance", "adjective", "She was assiduous in her duties.", "C2"));
-        words.add(new Word("atrophy", "to waste away, typically due to the degeneration of cells", "verb", "Muscles will atrophy if they are not used.", "C2"));
-        words.add(new Word("auspicious", "conducive to success; favorable", "adjective", "It was an auspicious beginning to the new year.", "C2"));
-        words.add(new Word("banal", "so lacking in originality as to be obvious and boring", "adjective", "The plot of the movie was completely banal.", "C2"));
-        words.add(new Word("bellicose", "demonstrating aggression and willingness to fight", "adjective", "The bellicose rhetoric of the politician was concerning.", "C2"));
-        words.add(new Word("blandishment", "a flattering or pleasing statement or action used to persuade someone", "noun", "Despite his blandishments, she refused to change her mind.", "C2"));
-        words.add(new Word("bombastic", "high-sounding but with little meaning; inflated", "adjective", "His bombastic speech was full of empty promises.", "C2"));
-        words.add(new Word("bucolic", "relating to the pleasant aspects of the countryside and country life", "adjective", "The painting depicted a bucolic scene of shepherds and sheep.", "C2"));
-        words.add(new Word("burgeon", "to begin to grow or increase rapidly; flourish", "verb", "The city's population has burgeoned in recent years.", "C2"));
-        words.add(new Word("cacophony", "a harsh, discordant mixture of sounds", "noun", "The cacophony of the city streets was overwhelming.", "C2"));
-        words.add(new Word("cajole", "to persuade someone to do something by sustained coaxing or flattery", "verb", "He cajoled his friend into lending him the car.", "C2"));
-        words.add(new Word("calumny", "the making of false and defamatory statements about someone", "noun", "He was the victim of a vicious calumny.", "C2"));
-        words.add(new Word("capricious", "given to sudden and unaccountable changes of mood or behavior", "adjective", "The capricious weather made it difficult to plan our trip.", "C2"));
-        words.add(new Word("castigate", "to reprimand someone severely", "verb", "The judge castigated the lawyer for his unethical behavior.", "C2"));
-        words.add(new Word("censure", "to express severe disapproval of someone or something", "verb", "The politician was censured for his controversial remarks.", "C2"));
-        words.add(new Word("chicanery", "the use of trickery to achieve a political, financial, or legal purpose", "noun", "He was accused of financial chicanery.", "C2"));
-        words.add(new Word("circumspect", "wary and unwilling to take risks", "adjective", "The diplomat was circumspect in his dealings with the foreign government.", "C2"));
-        words.add(new Word("clandestine", "kept secret or done secretively, especially because illicit", "adjective", "The clandestine meeting took place in a remote location.", "C2"));
-        words.add(new Word("cogent", "clear, logical, and convincing", "adjective", "She presented a cogent argument for her proposal.", "C2"));
-        words.add(new Word("cognizant", "having knowledge or being aware of", "adjective", "He was cognizant of the risks involved.", "C2"));
-        words.add(new Word("concomitant", "naturally accompanying or associated", "adjective", "The rise in crime was a concomitant of the economic downturn.", "C2"));
-        words.add(new Word("conflagration", "an extensive fire that destroys a great deal of land or property", "noun", "The conflagration destroyed hundreds of homes.", "C2"));
-        words.add(new Word("construe", "to interpret a word or action in a particular way", "verb", "His words were construed as a threat.", "C2"));
-        words.add(new Word("contrite", "feeling or expressing remorse or penitence", "adjective", "He was contrite after his outburst.", "C2"));
-        words.add(new Word("conundrum", "a confusing and difficult problem or question", "noun", "The philosopher posed a difficult conundrum.", "C2"));
-        words.add(new Word("corpulent", "fat", "adjective", "The corpulent man had difficulty climbing the stairs.", "C2"));
-        words.add(new Word("corroborate", "to confirm or give support to a statement, theory, or finding", "verb", "The witness corroborated the victim's account of the incident.", "C2"));
-        words.add(new Word("cursory", "hasty and therefore not thorough or detailed", "adjective", "He gave the report a cursory glance.", "C2"));
-        words.add(new Word("dearth", "a scarcity or lack of something", "noun", "There is a dearth of affordable housing in the city.", "C2"));
-        words.add(new Word("debacle", "a sudden and ignominious failure; a fiasco", "noun", "The project was a complete debacle.", "C2"));
-        words.add(new Word("deleterious", "causing harm or damage", "adjective", "Smoking has a deleterious effect on your health.", "C2"));
-        words.add(new Word("demagogue", "a political leader who seeks support by appealing to popular desires and prejudices", "noun", "The demagogue's speeches incited violence.", "C2"));
-        words.add(new Word("denigrate", "to criticize unfairly; disparage", "verb", "He denigrated the work of his predecessor.", "C2"));
-        words.add(new Word("derisive", "expressing contempt or ridicule", "adjective", "She let out a short, derisive laugh.", "C2"));
-        words.add(new Word("desultory", "lacking a plan, purpose, or enthusiasm", "adjective", "He made a desultory attempt to clean his room.", "C2"));
-        words.add(new Word("diaphanous", "light, delicate, and translucent", "adjective", "The bride wore a diaphanous veil.", "C2"));
-        words.add(new Word("diatribe", "a forceful and bitter verbal attack against someone or something", "noun", "He launched into a long diatribe against the government.", "C2"));
-        words.add(new Word("didactic", "intended to teach, particularly in having moral instruction as an ulterior motive", "adjective", "The novel was too didactic for my taste.", "C2"));
-        words.add(new Word("diffident", "modest or shy because of a lack of self-confidence", "adjective", "She was diffident about her own abilities.", "C2"));
-        words.add(new Word("disparate", "essentially different in kind; not allowing comparison", "adjective", "The two cultures are so disparate that they have little in common.", "C2"));
-        words.add(new Word("dissemble", "to conceal one's true motives, feelings, or beliefs", "verb", "He dissembled his true intentions.", "C2"));
-        words.add(new Word("dissonance", "a lack of harmony among musical notes", "noun", "The dissonance in the music was unsettling.", "C2"));
-        words.add(new Word("ebullient", "cheerful and full of energy", "adjective", "She was in an ebullient mood.", "C2"));
-        words.add(new Word("egregious", "outstandingly bad; shocking", "adjective", "He made an egregious error of judgment.", "C2"));
-        words.add(new Word("enervate", "to cause someone to feel drained of energy or vitality; weaken", "verb", "The long hike enervated him.", "C2"));
-        words.add(new Word("enigmatic", "difficult to interpret or understand; mysterious", "adjective", "The enigmatic smile of the Mona Lisa has fascinated people for centuries.", "C2"));
-        words.add(new Word("ephemeral", "lasting for a very short time", "adjective", "Fame is ephemeral.", "C2"));
-        words.add(new Word("equivocate", "to use ambiguous language so as to conceal the truth or avoid committing oneself", "verb", "The politician equivocated when asked about his position on the issue.", "C2"));
-        words.add(new Word("erudite", "having or showing great knowledge or learning", "adjective", "He was an erudite scholar.", "C2"));
-        words.add(new Word("eschew", "to deliberately avoid using; abstain from", "verb", "He eschewed all forms of violence.", "C2"));
-        words.add(new Word("esoteric", "intended for or likely to be understood by only a small number of people", "adjective", "The book is full of esoteric references.", "C2"));
-        words.add(new Word("evanescent", "soon passing out of sight, memory, or existence; quickly fading or disappearing", "adjective", "The evanescent beauty of the sunset was breathtaking.", "C2"));
-        words.add(new Word("exculpate", "to show or declare that someone is not guilty of wrongdoing", "verb", "The evidence exculpated the defendant.", "C2"));
-        words.add(new Word("exigent", "pressing; demanding", "adjective", "The exigent circumstances required immediate action.", "C2"));
-        words.add(new Word("expeditious", "done with speed and efficiency", "adjective", "The company provided an expeditious response to our complaint.", "C2"));
-        words.add(new Word("extant", "still in existence; surviving", "adjective", "There are few extant copies of the original manuscript.", "C2"));
-        words.add(new Word("extol", "to praise enthusiastically", "verb", "The critic extolled the virtues of the new film.", "C2"));
-        words.add(new Word("facetious", "treating serious issues with deliberately inappropriate humor; flippant", "adjective", "His facetious remarks were not appreciated.", "C2"));
-        words.add(new Word("fatuous", "silly and pointless", "adjective", "He made a fatuous comment that annoyed everyone.", "C2"));
-        words.add(new Word("fecund", "producing or capable of producing an abundance of offspring or new growth; fertile", "adjective", "The fecund soil produced a bumper crop.", "C2"));
-        words.add(new Word("felicitous", "well chosen or suited to the circumstances", "adjective", "It was a felicitous choice of words.", "C2"));
-        words.add(new Word("forbearance", "patient self-control; restraint and tolerance", "noun", "He showed great forbearance in the face of provocation.", "C2"));
-        words.add(new Word("fortuitous", "happening by accident or chance rather than design", "adjective", "The fortuitous discovery of the ancient ruins changed the course of history.", "C2"));
-        words.add(new Word("fractious", "irritable and quarrelsome", "adjective", "The fractious child was difficult to manage.", "C2"));
-        words.add(new Word("garrulous", "excessively talkative, especially on trivial matters", "adjective", "The garrulous old man told us his life story.", "C2"));
-        words.add(new Word("hackneyed", "lacking significance through having been overused; unoriginal and trite", "adjective", "The plot of the novel was hackneyed and predictable.", "C2"));
-        words.add(new Word("harangue", "a lengthy and aggressive speech", "noun", "He delivered a long harangue against the government.", "C2"));
-        words.add(new Word("iconoclast", "a person who attacks cherished beliefs or institutions", "noun", "The artist was an iconoclast who challenged traditional notions of beauty.", "C2"));
-        words.add(new Word("idiosyncrasy", "a mode of behavior or way of thought peculiar to an individual", "noun", "One of his idiosyncrasies was his habit of wearing mismatched socks.", "C2"));
-        words.add(new Word("ignominious", "deserving or causing public disgrace or shame", "adjective", "The team suffered an ignominious defeat.", "C2"));
-        words.add(new Word("impecunious", "having little or no money", "adjective", "The impecunious student could not afford to buy textbooks.", "C2"));
-        words.add(new Word("imperious", "assuming power or authority without justification; arrogant and domineering", "adjective", "The imperious manager was not popular with his employees.", "C2"));
-        words.add(new Word("impertinent", "not showing proper respect; rude", "adjective", "The impertinent child was sent to his room.", "C2"));
-        words.add(new Word("impetuous", "acting or done quickly and without thought or care", "adjective", "He made an impetuous decision that he later regretted.", "C2"));
-        words.add(new Word("inchoate", "just begun and so not fully formed or developed; rudimentary", "adjective", "The project is still in its inchoate stages.", "C2"));
-        words.add(new Word("incongruous", "not in harmony or keeping with the surroundings or other aspects of something", "adjective", "The modern building looked incongruous in the historic town square.", "C2"));
-        words.add(new Word("indefatigable", "persisting tirelessly", "adjective", "She was an indefatigable campaigner for human rights.", "C2"));
-        words.add(new Word("ineffable", "too great or extreme to be expressed or described in words", "adjective", "The ineffable beauty of the sunset left us speechless.", "C2"));
-        words.add(new Word("inexorable", "impossible to stop or prevent", "adjective", "The inexorable advance of technology has changed our lives forever.", "C2"));
-        words.add(new Word("ingenuous", "innocent and unsuspecting", "adjective", "She had an ingenuous smile that charmed everyone.", "C2"));
-        words.add(new Word("inimical", "tending to obstruct or harm", "adjective", "The new policy was inimical to the interests of small businesses.", "C2"));
-        words.add(new Word("innocuous", "not harmful or offensive", "adjective", "The comment was innocuous, but she took offense.", "C2"));
-        words.add(new Word("inscrutable", "impossible to understand or interpret", "adjective", "His expression was inscrutable.", "C2"));
-        words.add(new Word("insipid", "lacking flavor; weak or tasteless", "adjective", "The soup was insipid and watery.", "C2"));
-        words.add(new Word("intransigent", "unwilling or refusing to change one's views or to agree about something", "adjective", "The government remained intransigent in its opposition to the proposal.", "C2"));
+    }
 
-        return words;
+    // Applies a newer seed corpus to installs created from an older one.
+    // Progress is published through SeedImporter.getProgress().
+    private static RoomDatabase.Callback createSeedCallback(final Context appContext) {
+        return new RoomDatabase.Callback() {
+            @Override
+            public void onOpen(@NonNull SupportSQLiteDatabase db) {
+                super.onOpen(db);
+                StartupTimeline.mark("database_open");
+                tuneWal(db);
+                // The prepackaged database has the table but not the triggers.
+                WordCounters.install(db);
+                databaseWriteExecutor.execute(() -> {
+                    // Check if INSTANCE is not null before accessing it
+                    if (INSTANCE != null) {
+                        StartupTimeline.mark("seed_sync:start");
+                        boolean corpusChanged = SeedImporter.syncWithCorpus(appContext, INSTANCE);
+                        StartupTimeline.mark("seed_sync:end");
+                        // The recount scans every word, so it only runs after the words
+                        // were rewritten in bulk. Otherwise the triggers keep the counters
+                        // exact; WordRepository.verifyWordCounters() checks on demand.
+                        if ((corpusChanged || sMigrated) && !INSTANCE.wordCounterDao().verify()) {
+                            Log.w("WordRoomDatabase", "word_counters were out of date and have been rebuilt");
+                        }
+                    }
+                });
+            }
+        };
     }
 }
@@ -0,0 +1,121 @@
+package com.example.vocabularybuilder.data;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.room.RoomDatabase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Coalesces small fire-and-forget writes (toggling a word, linking it to a
+ * category, ...) into shared transactions on the single writer thread.
+ *
+ * Writes queued while the writer is busy are committed together, up to
+ * MAX_BATCH per transaction, so a burst of taps costs one commit instead of
+ * one each. If anything in a batch fails, the batch is rolled back and its
+ * writes are replayed one transaction each, so one bad write can't take the
+ * others with it. Because of that replay, queued writes must only touch the
+ * database; follow-up work belongs on the returned future, which completes
+ * once the write has committed. Work that must see writes in commit order (the
+ * WordChangeFeed) goes in the afterCommit callback instead: it runs on the
+ * writer thread right after the commit, before the next transaction starts.
+ */
+final class WriteBatcher {
+
+    private static final String TAG = "WriteBatcher";
+    private static final int MAX_BATCH = 64;
+
+    private static final class Write {
+        final Runnable action;
+        @Nullable final Runnable afterCommit;
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        Write(Runnable action, @Nullable Runnable afterCommit) {
+            this.action = action;
+            this.afterCommit = afterCommit;
+        }
+
+        void committed() {
+            if (afterCommit != null) {
+                try {
+                    afterCommit.run();
+                } catch (RuntimeException e) {
+                    // The write itself is in; don't fail its future over a listener.
+                    Log.e(TAG, "After-commit callback failed", e);
+                }
+            }
+            done.complete(null);
+        }
+    }
+
+    private final RoomDatabase mDatabase;
+    private final Executor mWriter;
+    private final ConcurrentLinkedQueue<Write> mQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean mDrainScheduled = new AtomicBoolean();
+
+    WriteBatcher(@NonNull RoomDatabase database, @NonNull Executor writer) {
+        mDatabase = database;
+        mWriter = writer;
+    }
+
+    @NonNull
+    CompletableFuture<Void> enqueue(@NonNull Runnable action, @Nullable Runnable afterCommit) {
+        Write write = new Write(action, afterCommit);
+        mQueue.add(write);
+        if (mDrainScheduled.compareAndSet(false, true)) {
+            mWriter.execute(this::drain);
+        }
+        return write.done;
+    }
+
+    private void drain() {
+        List<Write> batch = new ArrayList<>();
+        Write write;
+        while (batch.size() < MAX_BATCH && (write = mQueue.poll()) != null) {
+            batch.add(write);
+        }
+
+        if (batch.size() == 1) {
+            runAlone(batch.get(0));
+        } else if (!batch.isEmpty()) {
+            try {
+                mDatabase.runInTransaction(() -> {
+                    for (Write w : batch) {
+                        w.action.run();
+                    }
+                });
+                for (Write w : batch) {
+                    w.committed();
+                }
+            } catch (RuntimeException e) {
+                Log.w(TAG, "Batch of " + batch.size() + " writes rolled back; replaying one by one", e);
+                for (Write w : batch) {
+                    runAlone(w);
+                }
+            }
+        }
+
+        mDrainScheduled.set(false);
+        // Anything queued after the poll loop gets its own drain.
+        if (!mQueue.isEmpty() && mDrainScheduled.compareAndSet(false, true)) {
+            mWriter.execute(this::drain);
+        }
+    }
+
+    private void runAlone(Write write) {
+        try {
+            mDatabase.runInTransaction(write.action);
+            write.committed();
+        } catch (RuntimeException e) {
+            Log.e(TAG, "Write failed", e);
+            write.done.completeExceptionally(e);
+        }
+    }
+}
@@ -18,14 +18,17 @@ public interface CategoryDao {
     // These are one-off actions, so they don't need LiveData.
     // The Repository will call these on a background thread.
 
-    @Insert(onConflict = OnConflictStrategy.REPLACE)
-    void insert(@NonNull Category category);
+    // IGNORE, not REPLACE: on a name clash REPLACE deletes the existing category
+    // and inserts a new row under a new id, and the ON DELETE CASCADE takes every
+    // word filed under it along. Returns the new row id, or -1 if the name exists.
+    @Insert(onConflict = OnConflictStrategy.IGNORE)
+    long insert(@NonNull Category category);
 
-    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    @Insert(onConflict = OnConflictStrategy.IGNORE)
     void insertAll(@NonNull List<Category> categories);
 
-    @Query("DELETE FROM categories WHERE name = :name")
-    void deleteCategory(@NonNull String name);
+    @Query("DELETE FROM categories WHERE id = :categoryId")
+    void deleteCategory(int categoryId);
 
     // --- Read Operations ---
     // These return LiveData to be observed by the UI.
@@ -34,6 +37,7 @@ public interface CategoryDao {
     @Query("SELECT * FROM categories ORDER BY name ASC")
     LiveData<List<Category>> getAllCategories();
 
-    @Query("SELECT * FROM categories WHERE name = :name")
-    LiveData<Category> getCategoryByName(@NonNull String name);
+    // Synchronous version for the home-screen prefetch.
+    @Query("SELECT * FROM categories ORDER BY name ASC")
+    List<Category> getAllCategoriesNow();
 }
@@ -1,7 +1,6 @@
 package com.example.vocabularybuilder.data.dao;
 
 import androidx.annotation.NonNull;
-import androidx.lifecycle.LiveData;
 import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
@@ -9,7 +8,6 @@ import androidx.room.Query;
 import androidx.room.Transaction;
 import com.example.vocabularybuilder.data.model.QuizQuestion;
 import com.example.vocabularybuilder.data.model.QuizResult;
-import com.example.vocabularybuilder.data.model.QuizResultWithQuestions; // Added import
 
 import java.util.List;
 
@@ -22,8 +20,35 @@ public interface QuizDao {
     @Insert(onConflict = OnConflictStrategy.REPLACE)
     void insertQuestions(@NonNull List<QuizQuestion> questions);
 
-    // This query is now correct because QuizResultWithQuestions exists.
+    /**
+     * Writes a finished quiz and its questions in one transaction, so a crash
+     * can't leave a result without its questions, and the whole quiz costs a
+     * single commit. insertQuestions binds every row through one reused
+     * prepared statement. Returns the new result id.
+     */
     @Transaction
-    @Query("SELECT * FROM quiz_results ORDER BY date DESC")
-    LiveData<List<QuizResultWithQuestions>> getQuizHistory();
-}
\ No newline at end of file
+    default long insertQuiz(@NonNull QuizResult quizResult, @NonNull List<QuizQuestion> questions) {
+        long resultId = insertResult(quizResult);
+        for (QuizQuestion question : questions) {
+            question.setQuizResultId(resultId);
+        }
+        insertQuestions(questions);
+        return resultId;
+    }
+
+    // --- Quiz history (QuizHistoryPagingSource) ---
+    // Newest first, keyed on (date, id) so pages seek on index_quiz_results_date
+    // instead of using OFFSET. Only quiz_results is read; the question and
+    // correct counts are stored on each row.
+
+    @Query("SELECT * FROM quiz_results ORDER BY date DESC, id DESC LIMIT :limit")
+    List<QuizResult> getHistoryFirstPage(int limit);
+
+    @Query("SELECT * FROM quiz_results WHERE date < :date OR (date = :date AND id < :id) "
+            + "ORDER BY date DESC, id DESC LIMIT :limit")
+    List<QuizResult> getHistoryPageAfter(long date, long id, int limit);
+
+    // Loaded only when a history card is expanded.
+    @Query("SELECT * FROM quiz_questions WHERE quizResultId = :quizResultId ORDER BY id")
+    List<QuizQuestion> getQuestionsForResult(long quizResultId);
+}
@@ -0,0 +1,46 @@
+package com.example.vocabularybuilder.data.dao;
+
+import androidx.annotation.NonNull;
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+
+import com.example.vocabularybuilder.data.model.CefrLevel;
+import com.example.vocabularybuilder.data.model.SeedState;
+
+import java.util.List;
+
+@Dao
+public interface SeedDao {
+
+    // Primary-key lookup; replaces counting word_table on every open.
+    @Query("SELECT * FROM seed_state WHERE id = " + SeedState.SINGLETON_ID)
+    SeedState getState();
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void saveState(@NonNull SeedState state);
+
+    // --- Corpus diff (used by SeedImporter) ---
+    // None of these touch is_learned, so the user's progress survives corpus updates.
+
+    // Moves a seeded headword to its new level. Its text needs no update: the row
+    // stores none, it is read from the base lexicon (see LexiconMerger). Rows that
+    // already match are filtered out by the WHERE clause, so unchanged words cost
+    // no write. A user-added word with the same spelling is the user's own entry
+    // and is left alone.
+    @Query("UPDATE word_table SET cefr_level = :level WHERE word = :word AND is_prebuilt = 1 AND cefr_level != :level")
+    int updatePrebuiltLevel(@NonNull String word, @NonNull CefrLevel level);
+
+    @Query("SELECT word FROM word_table WHERE is_prebuilt = 1")
+    List<String> getPrebuiltHeadwords();
+
+    // Retired words nobody has learned or filed in a category can simply go.
+    @Query("DELETE FROM word_table WHERE word IN (:words) AND is_learned = 0 AND id NOT IN (SELECT wordId FROM word_category_cross_ref)")
+    void deleteUnusedWords(@NonNull List<String> words);
+
+    // The rest are kept as the user's own words so their learned state and categories survive.
+    // Their text stays in the lexicon, as a retired record.
+    @Query("UPDATE word_table SET is_prebuilt = 0, is_user_added = 1, cefr_level = " + CefrLevel.NONE + " WHERE word IN (:words)")
+    void retireWords(@NonNull List<String> words);
+}
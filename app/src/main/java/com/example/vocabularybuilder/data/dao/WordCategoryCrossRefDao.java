@@ -7,16 +7,28 @@ import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
 import com.example.vocabularybuilder.data.model.WordCategoryCrossRef;
+import java.util.List;
 
 @Dao
 public interface WordCategoryCrossRefDao {
 
-    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    // IGNORE, not REPLACE: a REPLACE would skip the word_counters delete trigger
+    // (see WordCounters) and count the link twice.
+    @Insert(onConflict = OnConflictStrategy.IGNORE)
     void insert(@NonNull WordCategoryCrossRef wordCategoryCrossRef);
 
     @Query("DELETE FROM word_category_cross_ref WHERE wordId = :wordId AND categoryId = :categoryId")
     void delete(int wordId, int categoryId);
 
+    // --- Bulk Operations ---
+    // insertAll reuses one prepared statement for every row; links that already
+    // exist are left alone and come back as -1.
+    @Insert(onConflict = OnConflictStrategy.IGNORE)
+    List<Long> insertAll(@NonNull List<WordCategoryCrossRef> crossRefs);
+
+    @Query("DELETE FROM word_category_cross_ref WHERE categoryId = :categoryId AND wordId IN (:wordIds)")
+    int deleteAll(int categoryId, @NonNull List<Integer> wordIds);
+
     // --- Count Query (FIXED) ---
     // Returns 'int' and is wrapped in CompletableFuture by the Repository.
     @Query("SELECT COUNT(*) FROM word_category_cross_ref WHERE wordId = :wordId AND categoryId = :categoryId")
@@ -0,0 +1,88 @@
+package com.example.vocabularybuilder.data.dao;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.LiveData;
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.Query;
+import androidx.room.Transaction;
+import com.example.vocabularybuilder.data.model.CategoryCounts;
+import com.example.vocabularybuilder.data.model.WordCounter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads of the trigger-maintained word_counters table. Every read is a
+ * primary-key lookup (or a scan of the few counter rows), never a count
+ * over word_table. Observed queries re-run only when a counter changes.
+ */
+@Dao
+public interface WordCounterDao {
+
+    @Query("SELECT IFNULL((SELECT learned FROM word_counters WHERE scope = 'all' AND scope_id = 0), 0)")
+    LiveData<Integer> getLearnedWordCount();
+
+    // Learned words plus the user-added words that are not learned yet.
+    @Query("SELECT IFNULL((SELECT learned FROM word_counters WHERE scope = 'all' AND scope_id = 0), 0) "
+            + "+ IFNULL((SELECT total - learned FROM word_counters WHERE scope = 'user' AND scope_id = 0), 0)")
+    LiveData<Integer> getLearnedAndUserAddedWordCount();
+
+    // Counts for every category on the home grid, in the shape of CategoryCounts.
+    // quiz_eligible follows the quiz id queries in WordDao (learned words for a
+    // level, every word otherwise).
+    String CATEGORY_COUNTS_QUERY = "SELECT CASE scope WHEN 'category' THEN scope_id ELSE 0 END AS category_id, "
+            + "CASE scope WHEN 'level' THEN scope_id ELSE 0 END AS cefr_level, "
+            + "total, learned, "
+            + "CASE scope WHEN 'level' THEN learned ELSE total END AS quiz_eligible "
+            + "FROM word_counters WHERE scope != 'all'";
+
+    @Query(CATEGORY_COUNTS_QUERY)
+    LiveData<List<CategoryCounts>> getCategoryCounts();
+
+    // Synchronous version for the home-screen prefetch.
+    @Query(CATEGORY_COUNTS_QUERY)
+    List<CategoryCounts> getCategoryCountsNow();
+
+    // --- Consistency check ---
+
+    @Query("SELECT * FROM word_counters")
+    List<WordCounter> getAllNow();
+
+    @Query(WordCounter.RECOUNT_QUERY)
+    List<WordCounter> recount();
+
+    @Query("DELETE FROM word_counters")
+    void deleteAll();
+
+    @Insert
+    void insertAll(@NonNull List<WordCounter> counters);
+
+    /**
+     * Recounts every scope from the words and compares the result with the
+     * stored counters. If they differ, the counters are rebuilt from the
+     * recount. Returns whether they matched. This scans word_table, so it is
+     * only run in the background (see WordRoomDatabase).
+     */
+    @Transaction
+    default boolean verify() {
+        Set<WordCounter> expected = new HashSet<>(recount());
+        Set<WordCounter> stored = new HashSet<>();
+        for (WordCounter counter : getAllNow()) {
+            // Scopes whose last word went away keep an all-zero row.
+            boolean empty = counter.getTotal() == 0 && counter.getLearned() == 0
+                    && !WordCounter.SCOPE_ALL.equals(counter.getScope());
+            if (!empty) {
+                stored.add(counter);
+            }
+        }
+        if (stored.equals(expected)) {
+            return true;
+        }
+        deleteAll();
+        insertAll(new ArrayList<>(expected));
+        return false;
+    }
+}
@@ -7,16 +7,21 @@ import androidx.room.Delete;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.RawQuery;
 import androidx.room.Transaction;
 import androidx.room.Update;
+import androidx.sqlite.db.SupportSQLiteQuery;
+import com.example.vocabularybuilder.data.model.CefrLevel;
 import com.example.vocabularybuilder.data.model.Word;
+import com.example.vocabularybuilder.data.model.WordSummary;
 import java.util.List;
 
 @Dao
 public interface WordDao {
 
+    // Returns the new row id, or -1 if the headword is already stored.
     @Insert(onConflict = OnConflictStrategy.IGNORE)
-    void insert(@NonNull Word word);
+    long insert(@NonNull Word word);
 
     @Insert(onConflict = OnConflictStrategy.IGNORE)
     void insertAll(@NonNull List<Word> words);
@@ -27,15 +32,37 @@ public interface WordDao {
     @Delete
     void delete(@NonNull Word word);
 
-    @Query("DELETE FROM word_table")
-    void deleteAll();
+    // --- Bulk Operations (multi-select in the word lists) ---
+    // One statement per call. Callers keep id lists under SQLite's bound-variable
+    // limit and wrap the calls in one transaction (see WordRepository).
+    // Rows that already have the target value are not rewritten.
 
-    @Query("SELECT * FROM word_table ORDER BY word ASC")
-    LiveData<List<Word>> getAllWords();
+    @Query("UPDATE word_table SET is_learned = :learned WHERE id IN (:ids) AND is_learned != :learned")
+    int setLearned(@NonNull List<Integer> ids, boolean learned);
+
+    // A whole level in one statement, through index_word_table_cefr_level_is_learned.
+    @Query("UPDATE word_table SET is_learned = :learned WHERE cefr_level = :level AND is_learned != :learned")
+    int setLearnedForLevel(@NonNull CefrLevel level, boolean learned);
+
+    // Seeded words are never deleted; their ids are skipped. Category links go
+    // with the words (ON DELETE CASCADE).
+    @Query("DELETE FROM word_table WHERE id IN (:ids) AND is_user_added = 1")
+    int deleteUserAdded(@NonNull List<Integer> ids);
+
+    // --- List screens ---
+    // These select only the WordSummary columns; see WordSummary.
+
+    // Pages of the dictionary and category lists, built by WordKeysetPagingSource.
+    // Observation is done by the paging source itself, so no observedEntities here.
+    @RawQuery
+    List<WordSummary> getWordSummaries(@NonNull SupportSQLiteQuery query);
 
     @Query("SELECT * FROM word_table WHERE id = :wordId")
     LiveData<Word> getWordById(int wordId);
 
+    @Query("SELECT * FROM word_table WHERE id = :wordId")
+    Word getWordByIdNow(int wordId);
+
     // --- IMPROVEMENT (CRITICAL FIX): ---
     // Added a synchronous 'getWordByName' query.
     // This is required by the repository to check if a searched word
@@ -43,47 +70,71 @@ public interface WordDao {
     @Query("SELECT * FROM word_table WHERE word = :word LIMIT 1")
     Word getWordByName(@NonNull String word);
 
-    @Query("SELECT * FROM word_table WHERE cefr_level = 'User Added' ORDER BY word ASC")
-    LiveData<List<Word>> getUserAddedWords();
+    /**
+     * Inserts the word unless its headword is already stored, and returns the
+     * stored row either way. A new word costs the INSERT alone (its id is the
+     * returned rowid); only a conflict reads the existing row back, through the
+     * unique index on "word". Atomic, so concurrent callers can't both insert.
+     */
+    @Transaction
+    default Word insertOrGet(@NonNull Word word) {
+        long id = insert(word);
+        if (id != -1) {
+            word.setId((int) id);
+            return word;
+        }
+        return getWordByName(word.getWord());
+    }
 
-    @Query("SELECT * FROM word_table WHERE cefr_level = :level ORDER BY word ASC")
-    LiveData<List<Word>> getWordsByCefrLevel(@NonNull String level);
+    // Loaded once by LearnedWordsLiveData, which then follows the WordChangeFeed.
+    @Query("SELECT id, word, meaning, is_learned FROM word_table WHERE is_learned = 1 ORDER BY word ASC")
+    List<WordSummary> getLearnedWordsNow();
 
-    @Query("SELECT * FROM word_table WHERE is_learned = 1 ORDER BY word ASC")
-    LiveData<List<Word>> getLearnedWords();
+    // --- Change feed (WordRepository reads the rows a bulk write touched) ---
 
-    // --- Quiz Generation Queries ---
-    @Query("SELECT * FROM word_table WHERE cefr_level = :level AND (is_learned = 1 OR cefr_level = 'User Added') ORDER BY RANDOM() LIMIT :limit")
-    List<Word> getQuizWordsForCefrLevel(@NonNull String level, int limit);
+    // The rows setLearned is about to change; words already in that state are skipped.
+    @Query("SELECT id, word, meaning, is_learned FROM word_table WHERE id IN (:ids) AND is_learned != :learned")
+    List<WordSummary> getWordsToMark(@NonNull List<Integer> ids, boolean learned);
+
+    // The rows setLearnedForLevel is about to change.
+    @Query("SELECT id, word, meaning, is_learned FROM word_table WHERE cefr_level = :level AND is_learned != :learned")
+    List<WordSummary> getLevelWordsToMark(@NonNull CefrLevel level, boolean learned);
 
-    @Query("SELECT * FROM word_table WHERE is_learned = 1 OR cefr_level = 'User Added' ORDER BY RANDOM() LIMIT :limit")
-    List<Word> getQuizWordsForLearnedAndUserAdded(int limit);
+    @Query("SELECT id FROM word_table WHERE id IN (:ids) AND is_user_added = 1")
+    List<Integer> getUserAddedIds(@NonNull List<Integer> ids);
 
+    // --- Quiz Generation Queries ---
+    // Only ids, unsorted: QuizWordSampler caches them and draws the random subset itself.
+    @Query("SELECT id FROM word_table WHERE cefr_level = :level AND is_learned = 1")
+    List<Integer> getQuizWordIdsForCefrLevel(@NonNull CefrLevel level);
 
-    // --- Count Queries (FIXED) ---
-    // These return 'int' and are wrapped in CompletableFuture by the Repository.
-    // This is the correct pattern.
+    @Query("SELECT id FROM word_table WHERE is_user_added = 1")
+    List<Integer> getQuizWordIdsForUserAdded();
 
-    @Query("SELECT COUNT(*) FROM word_table WHERE is_learned = 1 OR cefr_level = 'User Added'")
-    int getLearnedAndUserAddedWordCount();
+    @Query("SELECT id FROM word_table WHERE is_learned = 1 OR is_user_added = 1")
+    List<Integer> getQuizWordIdsForLearnedAndUserAdded();
 
-    @Query("SELECT COUNT(*) FROM word_table WHERE is_learned = 1")
-    int getLearnedWordCount();
+    @Query("SELECT * FROM word_table WHERE id IN (:ids)")
+    List<Word> getWordsByIds(@NonNull List<Integer> ids);
 
-    @Query("SELECT COUNT(*) FROM word_table WHERE cefr_level = :category AND (is_learned = 1 OR cefr_level = 'User Added')")
-    int getWordCountForCategory(@NonNull String category);
 
-    @Query("SELECT COUNT(*) FROM word_table w INNER JOIN word_category_cross_ref c ON w.id = c.wordId INNER JOIN categories cat ON c.categoryId = cat.id WHERE cat.name = :categoryName")
-    int getWordCountForCategoryName(@NonNull String categoryName);
+    // Word counts (learned, per level, per category) are not counted here: they
+    // are read from the trigger-maintained word_counters table (WordCounterDao).
 
     // --- Many-to-Many Relationship ---
-    @Transaction
-    @Query("SELECT w.* FROM word_table w INNER JOIN word_category_cross_ref c ON w.id = c.wordId INNER JOIN categories cat ON c.categoryId = cat.id WHERE cat.name = :categoryName")
-    LiveData<List<Word>> getWordsByCategory(@NonNull String categoryName);
+    // Goes straight through index_word_category_cross_ref_categoryId; no lookup by name.
+    @Query("SELECT wordId FROM word_category_cross_ref WHERE categoryId = :categoryId")
+    List<Integer> getQuizWordIdsForCategory(int categoryId);
+
+    // --- Word of the Day (used by WordOfTheDayService) ---
+    // All three are primary-key lookups; no sort over the table.
+
+    @Query("SELECT IFNULL(MIN(id), 0) FROM word_table")
+    int getMinWordId();
 
-    @Query("SELECT * FROM word_table ORDER BY RANDOM() LIMIT 1")
-    LiveData<Word> getWordOfTheDay();
+    @Query("SELECT IFNULL(MAX(id), -1) FROM word_table")
+    int getMaxWordId();
 
-    @Query("SELECT COUNT(*) FROM word_table")
-    int getWordCount();
+    @Query("SELECT * FROM word_table WHERE id >= :id ORDER BY id ASC LIMIT 1")
+    Word getFirstWordFromId(int id);
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.example.vocabularybuilder.data.dao;
+
+import androidx.annotation.NonNull;
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+
+import com.example.vocabularybuilder.data.model.WordOfTheDay;
+
+@Dao
+public interface WordOfTheDayDao {
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insert(@NonNull WordOfTheDay entry);
+
+    @Query("SELECT * FROM word_of_the_day_history WHERE date = :date")
+    WordOfTheDay getForDate(@NonNull String date);
+}
@@ -0,0 +1,40 @@
+package com.example.vocabularybuilder.data.dao;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.LiveData;
+import androidx.room.Dao;
+import androidx.room.Query;
+
+import com.example.vocabularybuilder.data.model.WordSearchHit;
+import com.example.vocabularybuilder.data.model.WordSummary;
+
+import java.util.List;
+
+@Dao
+public interface WordSearchDao {
+
+    // Ranked full-text search over word_fts (see WordFts).
+    // Each argument is an FTS4 MATCH expression restricted to one column, e.g.
+    // "word:colo* word:blin*"; WordRepository.searchWords builds them.
+    // A word ranks by the best column it matches in: headword, then meaning,
+    // then example; ties go to the shorter headword, so an exact match comes first.
+    // Every branch is a lookup in the full-text index, so the cost follows the
+    // number of matches rather than the size of the dictionary.
+    // The rank is returned so WordRepository can merge in the base-lexicon matches.
+    @Query("SELECT w.id, w.word, w.meaning, w.is_learned, m.rank FROM ("
+            + "SELECT word_id, MIN(rank) AS rank FROM ("
+            + "SELECT rowid AS word_id, 0 AS rank FROM word_fts WHERE word_fts MATCH :wordMatch "
+            + "UNION ALL SELECT rowid AS word_id, 1 AS rank FROM word_fts WHERE word_fts MATCH :meaningMatch "
+            + "UNION ALL SELECT rowid AS word_id, 2 AS rank FROM word_fts WHERE word_fts MATCH :exampleMatch"
+            + ") GROUP BY word_id) m "
+            + "INNER JOIN word_table w ON w.id = m.word_id "
+            + "ORDER BY m.rank, length(w.word), w.word "
+            + "LIMIT :limit")
+    LiveData<List<WordSearchHit>> search(@NonNull String wordMatch, @NonNull String meaningMatch,
+                                         @NonNull String exampleMatch, int limit);
+
+    // The rows of base-lexicon search matches, through the unique index on "word".
+    // Only rows that take their text from the lexicon; any other row's text is in word_fts.
+    @Query("SELECT id, word, meaning, is_learned FROM word_table WHERE word IN (:words) AND meaning = ''")
+    List<WordSummary> getLexiconRows(@NonNull List<String> words);
+}
@@ -0,0 +1,101 @@
+package com.example.vocabularybuilder.data.model;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.room.ColumnInfo;
+
+/**
+ * One row of WordCounterDao.getCategoryCounts(): the word counts of one category on
+ * the home grid. This is a projection, NOT an @Entity.
+ *
+ * A row is either a custom category (categoryId > 0), a CEFR level (level set),
+ * or "User Added" (neither). getKey() / keyOf(Category) match rows to the
+ * grid's Category objects the same way WordRepository resolves a category.
+ */
+public class CategoryCounts {
+
+    @ColumnInfo(name = "category_id")
+    private final int categoryId;
+
+    @Nullable
+    @ColumnInfo(name = "cefr_level")
+    private final CefrLevel level;
+
+    @ColumnInfo(name = "total")
+    private final int total;
+
+    @ColumnInfo(name = "learned")
+    private final int learned;
+
+    // Words a quiz on this category can draw from (see QuizWordSampler).
+    @ColumnInfo(name = "quiz_eligible")
+    private final int quizEligible;
+
+    // This is the constructor Room will use.
+    public CategoryCounts(int categoryId, @Nullable CefrLevel level, int total, int learned, int quizEligible) {
+        this.categoryId = categoryId;
+        this.level = level;
+        this.total = total;
+        this.learned = learned;
+        this.quizEligible = quizEligible;
+    }
+
+    @NonNull
+    public String getKey() {
+        return key(categoryId, level);
+    }
+
+    @NonNull
+    public static String keyOf(@NonNull Category category) {
+        return key(category.getId(), category.getId() > 0 ? null : CefrLevel.fromName(category.getName()));
+    }
+
+    private static String key(int categoryId, @Nullable CefrLevel level) {
+        if (categoryId > 0) {
+            return "category:" + categoryId;
+        }
+        return level != null ? "level:" + level.getCode() : Word.USER_ADDED_CATEGORY;
+    }
+
+    // --- Getters ---
+
+    public int getCategoryId() {
+        return categoryId;
+    }
+
+    @Nullable
+    public CefrLevel getLevel() {
+        return level;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getLearned() {
+        return learned;
+    }
+
+    public int getQuizEligible() {
+        return quizEligible;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CategoryCounts)) return false;
+        CategoryCounts other = (CategoryCounts) o;
+        return categoryId == other.categoryId && level == other.level && total == other.total
+                && learned == other.learned && quizEligible == other.quizEligible;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = categoryId;
+        result = 31 * result + (level != null ? level.hashCode() : 0);
+        result = 31 * result + total;
+        result = 31 * result + learned;
+        result = 31 * result + quizEligible;
+        return result;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.vocabularybuilder.data.model;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * CEFR level of a word. Stored in word_table.cefr_level as a small integer
+ * (see CefrLevelConverter); 0 means "no level", which is what user-added
+ * words have.
+ */
+public enum CefrLevel {
+    A1(1), A2(2), B1(3), B2(4), C1(5), C2(6);
+
+    public static final int NONE = 0;
+
+    private static final CefrLevel[] BY_CODE = {null, A1, A2, B1, B2, C1, C2};
+
+    private final int code;
+
+    CefrLevel(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Returns the level for a stored code, or null for NONE or an unknown code.
+     */
+    @Nullable
+    public static CefrLevel fromCode(int code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+
+    /**
+     * Returns the level for a display name such as "B2", or null if the name is
+     * not a CEFR level (e.g. "User Added" or a custom category).
+     */
+    @Nullable
+    public static CefrLevel fromName(@Nullable String name) {
+        if (name == null || name.length() != 2) {
+            return null;
+        }
+        switch (name) {
+            case "A1": return A1;
+            case "A2": return A2;
+            case "B1": return B1;
+            case "B2": return B2;
+            case "C1": return C1;
+            case "C2": return C2;
+            default: return null;
+        }
+    }
+
+    @NonNull
+    public String getLabel() {
+        return name();
+    }
+}
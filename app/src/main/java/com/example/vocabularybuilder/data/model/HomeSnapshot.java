@@ -0,0 +1,51 @@
+package com.example.vocabularybuilder.data.model;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Everything MainActivity needs for its first frame, loaded at process start
+ * by AppContainer.prefetchHomeScreen(). This is NOT an @Entity.
+ */
+public class HomeSnapshot {
+
+    @Nullable
+    private final Word wordOfTheDay;
+    @NonNull
+    private final List<Category> customCategories;
+    @NonNull
+    private final List<CategoryCounts> categoryCounts;
+    private final int streakCount;
+
+    public HomeSnapshot(@Nullable Word wordOfTheDay, @Nullable List<Category> customCategories,
+                        @Nullable List<CategoryCounts> categoryCounts, int streakCount) {
+        this.wordOfTheDay = wordOfTheDay;
+        this.customCategories = customCategories != null
+                ? Collections.unmodifiableList(customCategories) : Collections.emptyList();
+        this.categoryCounts = categoryCounts != null
+                ? Collections.unmodifiableList(categoryCounts) : Collections.emptyList();
+        this.streakCount = streakCount;
+    }
+
+    @Nullable
+    public Word getWordOfTheDay() {
+        return wordOfTheDay;
+    }
+
+    @NonNull
+    public List<Category> getCustomCategories() {
+        return customCategories;
+    }
+
+    @NonNull
+    public List<CategoryCounts> getCategoryCounts() {
+        return categoryCounts;
+    }
+
+    public int getStreakCount() {
+        return streakCount;
+    }
+}
@@ -4,6 +4,7 @@ import androidx.annotation.NonNull;
 import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import androidx.room.Ignore;
+import androidx.room.Index;
 import androidx.room.PrimaryKey;
 import androidx.room.TypeConverters;
 
@@ -11,7 +12,9 @@ import com.example.vocabularybuilder.data.DateConverter;
 
 import java.util.Date;
 
-@Entity(tableName = "quiz_results")
+// The date index serves the history pages (QuizDao.getHistoryPage*), which seek
+// on (date, id) newest first.
+@Entity(tableName = "quiz_results", indices = {@Index("date")})
 @TypeConverters(DateConverter.class) // This is correct!
 public class QuizResult {
 
@@ -27,6 +30,14 @@ public class QuizResult {
     @ColumnInfo(name = "date")
     private Date date;
 
+    // Summary of the quiz's questions, stored so the history list never has to
+    // read quiz_questions. Set by WordRepository.saveQuizResult.
+    @ColumnInfo(name = "question_count", defaultValue = "0")
+    private int questionCount;
+
+    @ColumnInfo(name = "correct_count", defaultValue = "0")
+    private int correctCount;
+
     // IMPROVEMENT 2 (CRITICAL FIX):
     // You MUST provide a no-argument (default) constructor for Room.
     public QuizResult() {
@@ -68,4 +79,20 @@ public class QuizResult {
     public void setDate(@NonNull Date date) {
         this.date = date;
     }
-}
\ No newline at end of file
+
+    public int getQuestionCount() {
+        return questionCount;
+    }
+
+    public void setQuestionCount(int questionCount) {
+        this.questionCount = questionCount;
+    }
+
+    public int getCorrectCount() {
+        return correctCount;
+    }
+
+    public void setCorrectCount(int correctCount) {
+        this.correctCount = correctCount;
+    }
+}
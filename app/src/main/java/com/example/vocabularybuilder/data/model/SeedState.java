@@ -0,0 +1,88 @@
+package com.example.vocabularybuilder.data.model;
+
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Ignore;
+import androidx.room.PrimaryKey;
+
+/**
+ * Single-row seed manifest and import checkpoint.
+ * corpus_version records which words.tsv version this database holds, so opening
+ * the database only compares two numbers. SeedImporter rewrites the row in the same
+ * transaction as each batch of words, so an interrupted import resumes from the
+ * last committed batch.
+ */
+@Entity(tableName = "seed_state")
+public class SeedState {
+
+    // There is only ever one row.
+    public static final int SINGLETON_ID = 1;
+
+    @PrimaryKey
+    private int id;
+
+    // Index of the first corpus record that has not been committed yet.
+    @ColumnInfo(name = "next_record")
+    private int nextRecord;
+
+    // Size of the corpus this checkpoint belongs to.
+    @ColumnInfo(name = "record_count")
+    private int recordCount;
+
+    // Corpus version the checkpoint belongs to (0 for databases seeded before versioning).
+    @ColumnInfo(name = "corpus_version", defaultValue = "0")
+    private int corpusVersion;
+
+    public SeedState() {
+        this.id = SINGLETON_ID;
+    }
+
+    @Ignore
+    public SeedState(int nextRecord, int recordCount, int corpusVersion) {
+        this.id = SINGLETON_ID;
+        this.nextRecord = nextRecord;
+        this.recordCount = recordCount;
+        this.corpusVersion = corpusVersion;
+    }
+
+    // --- Getters and Setters ---
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public int getNextRecord() {
+        return nextRecord;
+    }
+
+    public void setNextRecord(int nextRecord) {
+        this.nextRecord = nextRecord;
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    public void setRecordCount(int recordCount) {
+        this.recordCount = recordCount;
+    }
+
+    public int getCorpusVersion() {
+        return corpusVersion;
+    }
+
+    public void setCorpusVersion(int corpusVersion) {
+        this.corpusVersion = corpusVersion;
+    }
+
+    /**
+     * True if this database already holds every word of the given corpus version.
+     */
+    public boolean isComplete(int version) {
+        return corpusVersion == version && nextRecord >= recordCount;
+    }
+}
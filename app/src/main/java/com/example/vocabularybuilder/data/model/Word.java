@@ -1,6 +1,7 @@
 package com.example.vocabularybuilder.data.model;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import androidx.room.Ignore;
@@ -10,9 +11,25 @@ import androidx.room.PrimaryKey;
 // IMPROVEMENT 1: Added a unique index.
 // This ensures that two words cannot have the same text (e.g., two "hello"s),
 // which is critical for a vocabulary app.
-@Entity(tableName = "word_table", indices = {@Index(value = {"word"}, unique = true)})
+//
+// The other indexes follow the WordDao access paths:
+// - (cefr_level, word): level lists come back already sorted, no temp B-tree.
+// - (is_learned, word) and (is_user_added, word): same for the learned and
+//   "User Added" lists.
+// - (cefr_level, is_learned): covers the level/learned counts and the quiz id
+//   queries, so they never read the table rows.
+@Entity(tableName = "word_table", indices = {
+        @Index(value = {"word"}, unique = true),
+        @Index(value = {"cefr_level", "word"}),
+        @Index(value = {"is_learned", "word"}),
+        @Index(value = {"is_user_added", "word"}),
+        @Index(value = {"cefr_level", "is_learned"})
+})
 public class Word {
 
+    // Name of the built-in category that lists is_user_added words.
+    public static final String USER_ADDED_CATEGORY = "User Added";
+
     @PrimaryKey(autoGenerate = true)
     private int id;
 
@@ -35,9 +52,13 @@ public class Word {
     @ColumnInfo(name = "example")
     private String example;
 
-    @NonNull
+    // Stored as a small integer (CefrLevelConverter); null for words without a level.
+    @Nullable
     @ColumnInfo(name = "cefr_level")
-    private String cefrLevel; // (e.g., "A1", "B2", "User Added")
+    private CefrLevel cefrLevel;
+
+    @ColumnInfo(name = "is_user_added")
+    private boolean userAdded;
 
     @ColumnInfo(name = "is_learned")
     private boolean learned;
@@ -53,34 +74,40 @@ public class Word {
         this.meaning = "";
         this.partOfSpeech = "";
         this.example = "";
-        this.cefrLevel = "";
-        // booleans default to false, which is correct
+        // cefrLevel stays null and booleans default to false, which is correct
     }
 
     // IMPROVEMENT 4: Added @Ignore to this constructor.
     // This is now a "convenience" constructor for you to use in your code.
     // Room will use the default constructor above.
     @Ignore
-    public Word(@NonNull String word, @NonNull String meaning, @NonNull String partOfSpeech, @NonNull String example, @NonNull String cefrLevel, boolean learned, boolean isPrebuilt) {
+    public Word(@NonNull String word, @NonNull String meaning, @NonNull String partOfSpeech, @NonNull String example, @Nullable CefrLevel cefrLevel, boolean userAdded, boolean learned, boolean isPrebuilt) {
         this.word = word;
         this.meaning = meaning;
         this.partOfSpeech = partOfSpeech;
         this.example = example;
         this.cefrLevel = cefrLevel;
+        this.userAdded = userAdded;
         this.learned = learned;
         this.isPrebuilt = isPrebuilt;
     }
 
     // Convenience constructor for pre-built words (hidden from Room)
     @Ignore
-    public Word(@NonNull String word, @NonNull String meaning, @NonNull String partOfSpeech, @NonNull String example, @NonNull String cefrLevel) {
-        this(word, meaning, partOfSpeech, example, cefrLevel, false, true);
+    public Word(@NonNull String word, @NonNull String meaning, @NonNull String partOfSpeech, @NonNull String example, @NonNull CefrLevel cefrLevel) {
+        this(word, meaning, partOfSpeech, example, cefrLevel, false, false, true);
+    }
+
+    // Convenience constructor for user-added words with a definition (hidden from Room)
+    @Ignore
+    public Word(@NonNull String word, @NonNull String meaning, @NonNull String partOfSpeech, @NonNull String example) {
+        this(word, meaning, partOfSpeech, example, null, true, false, false);
     }
 
     // Convenience constructor for user-added words (hidden from Room)
     @Ignore
     public Word(@NonNull String word) {
-        this(word, "", "", "", "User Added", false, false);
+        this(word, "", "", "");
     }
 
     // --- Getters and Setters ---
@@ -130,15 +157,23 @@ public class Word {
         this.example = example;
     }
 
-    @NonNull
-    public String getCefrLevel() {
+    @Nullable
+    public CefrLevel getCefrLevel() {
         return cefrLevel;
     }
 
-    public void setCefrLevel(@NonNull String cefrLevel) {
+    public void setCefrLevel(@Nullable CefrLevel cefrLevel) {
         this.cefrLevel = cefrLevel;
     }
 
+    public boolean isUserAdded() {
+        return userAdded;
+    }
+
+    public void setUserAdded(boolean userAdded) {
+        this.userAdded = userAdded;
+    }
+
     public boolean isLearned() {
         return learned;
     }
@@ -0,0 +1,122 @@
+package com.example.vocabularybuilder.data.model;
+
+import androidx.annotation.NonNull;
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Ignore;
+
+/**
+ * One precomputed word count: how many words a scope holds and how many of
+ * them are learned. Rows are kept exact by triggers on word_table,
+ * word_category_cross_ref and categories (see WordCounters), so reading a
+ * count is a primary-key lookup instead of a COUNT(*) over the words.
+ *
+ * Scopes: SCOPE_ALL (id 0), SCOPE_LEVEL (id = CEFR level code),
+ * SCOPE_USER_ADDED (id 0) and SCOPE_CATEGORY (id = category id).
+ */
+@Entity(tableName = "word_counters", primaryKeys = {"scope", "scope_id"})
+public class WordCounter {
+
+    public static final String SCOPE_ALL = "all";
+    public static final String SCOPE_LEVEL = "level";
+    public static final String SCOPE_USER_ADDED = "user";
+    public static final String SCOPE_CATEGORY = "category";
+
+    // What the counters must equal, computed from the words themselves. Used to
+    // build the table and by WordCounterDao.verify(). Scopes without words have
+    // no row here; their stored rows, if any, are all zero.
+    public static final String RECOUNT_QUERY =
+            "SELECT 'all' AS scope, 0 AS scope_id, COUNT(*) AS total, IFNULL(SUM(is_learned), 0) AS learned "
+            + "FROM word_table "
+            + "UNION ALL "
+            + "SELECT 'level', cefr_level, COUNT(*), SUM(is_learned) FROM word_table WHERE cefr_level > 0 GROUP BY cefr_level "
+            + "UNION ALL "
+            + "SELECT 'user', 0, COUNT(*), SUM(is_learned) FROM word_table WHERE is_user_added = 1 GROUP BY is_user_added "
+            + "UNION ALL "
+            + "SELECT 'category', c.categoryId, COUNT(*), SUM(w.is_learned) "
+            + "FROM word_category_cross_ref c INNER JOIN word_table w ON w.id = c.wordId GROUP BY c.categoryId";
+
+    @NonNull
+    @ColumnInfo(name = "scope")
+    private String scope;
+
+    @ColumnInfo(name = "scope_id")
+    private int scopeId;
+
+    @ColumnInfo(name = "total")
+    private int total;
+
+    @ColumnInfo(name = "learned")
+    private int learned;
+
+    public WordCounter() {
+        this.scope = SCOPE_ALL;
+    }
+
+    @Ignore
+    public WordCounter(@NonNull String scope, int scopeId, int total, int learned) {
+        this.scope = scope;
+        this.scopeId = scopeId;
+        this.total = total;
+        this.learned = learned;
+    }
+
+    // --- Getters and Setters ---
+
+    @NonNull
+    public String getScope() {
+        return scope;
+    }
+
+    public void setScope(@NonNull String scope) {
+        this.scope = scope;
+    }
+
+    public int getScopeId() {
+        return scopeId;
+    }
+
+    public void setScopeId(int scopeId) {
+        this.scopeId = scopeId;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getLearned() {
+        return learned;
+    }
+
+    public void setLearned(int learned) {
+        this.learned = learned;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof WordCounter)) return false;
+        WordCounter other = (WordCounter) o;
+        return scope.equals(other.scope) && scopeId == other.scopeId && total == other.total
+                && learned == other.learned;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = scope.hashCode();
+        result = 31 * result + scopeId;
+        result = 31 * result + total;
+        result = 31 * result + learned;
+        return result;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return scope + ":" + scopeId + " total=" + total + " learned=" + learned;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.vocabularybuilder.data.model;
+
+import androidx.annotation.NonNull;
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Fts4;
+import androidx.room.FtsOptions;
+import androidx.room.PrimaryKey;
+
+/**
+ * Full-text index over the searchable text of word_table, used by WordSearchDao.
+ *
+ * This is an external-content FTS4 table: it stores only the index, not a
+ * second copy of the text, and Room keeps it in sync with word_table through
+ * the room_fts_content_sync_word_fts_* triggers. rowid is word_table.id.
+ *
+ * unicode61 folds case and diacritics for non-ASCII letters too; the prefix
+ * indexes make the 2- and 3-letter prefix queries typed while searching cheap.
+ *
+ * Prebuilt words store no text in word_table (see LexiconMerger), so only
+ * their headword is indexed here; their meaning and example are searched in
+ * the base lexicon's token index instead (WordRepository.searchWords).
+ */
+@Fts4(contentEntity = Word.class, tokenizer = FtsOptions.TOKENIZER_UNICODE61, prefix = {2, 3})
+@Entity(tableName = "word_fts")
+public class WordFts {
+
+    @PrimaryKey
+    @ColumnInfo(name = "rowid")
+    private int rowId;
+
+    @NonNull
+    @ColumnInfo(name = "word")
+    private String word;
+
+    @NonNull
+    @ColumnInfo(name = "meaning")
+    private String meaning;
+
+    @NonNull
+    @ColumnInfo(name = "example")
+    private String example;
+
+    public WordFts() {
+        this.word = "";
+        this.meaning = "";
+        this.example = "";
+    }
+
+    // --- Getters and Setters ---
+
+    public int getRowId() {
+        return rowId;
+    }
+
+    public void setRowId(int rowId) {
+        this.rowId = rowId;
+    }
+
+    @NonNull
+    public String getWord() {
+        return word;
+    }
+
+    public void setWord(@NonNull String word) {
+        this.word = word;
+    }
+
+    @NonNull
+    public String getMeaning() {
+        return meaning;
+    }
+
+    public void setMeaning(@NonNull String meaning) {
+        this.meaning = meaning;
+    }
+
+    @NonNull
+    public String getExample() {
+        return example;
+    }
+
+    public void setExample(@NonNull String example) {
+        this.example = example;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.vocabularybuilder.data.model;
+
+import androidx.annotation.NonNull;
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.ForeignKey;
+import androidx.room.Ignore;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+
+/**
+ * One row per local calendar day: the word that was shown as word of the day.
+ * If the word is deleted the row goes with it (CASCADE) and a new word is
+ * picked for that day the next time it is asked for.
+ */
+@Entity(tableName = "word_of_the_day_history",
+        foreignKeys = @ForeignKey(entity = Word.class,
+                parentColumns = "id",
+                childColumns = "word_id",
+                onDelete = ForeignKey.CASCADE),
+        indices = {@Index(value = "word_id")})
+public class WordOfTheDay {
+
+    // Local date as yyyy-MM-dd.
+    @PrimaryKey
+    @NonNull
+    @ColumnInfo(name = "date")
+    private String date;
+
+    @ColumnInfo(name = "word_id")
+    private int wordId;
+
+    public WordOfTheDay() {
+        this.date = "";
+    }
+
+    @Ignore
+    public WordOfTheDay(@NonNull String date, int wordId) {
+        this.date = date;
+        this.wordId = wordId;
+    }
+
+    // --- Getters and Setters ---
+
+    @NonNull
+    public String getDate() {
+        return date;
+    }
+
+    public void setDate(@NonNull String date) {
+        this.date = date;
+    }
+
+    public int getWordId() {
+        return wordId;
+    }
+
+    public void setWordId(int wordId) {
+        this.wordId = wordId;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.vocabularybuilder.data.model;
+
+import androidx.annotation.NonNull;
+import androidx.room.ColumnInfo;
+
+import java.util.Comparator;
+
+/**
+ * One row of WordSearchDao.search(): a WordSummary with the rank of the best
+ * column it matched in (0 headword, 1 meaning, 2 example). This is a
+ * projection, NOT an @Entity.
+ *
+ * The rank lets WordRepository merge these with the matches found in the base
+ * lexicon, whose text is not in word_fts.
+ */
+public class WordSearchHit {
+
+    // Same order as the search query: rank, then the shorter headword, then the
+    // headword. length() in SQLite counts characters, hence code points here.
+    public static final Comparator<WordSearchHit> BY_RANK = Comparator
+            .comparingInt(WordSearchHit::getRank)
+            .thenComparingInt(hit -> hit.getWord().codePointCount(0, hit.getWord().length()))
+            .thenComparing(WordSearchHit::getWord);
+
+    @ColumnInfo(name = "id")
+    private final int id;
+
+    @NonNull
+    @ColumnInfo(name = "word")
+    private final String word;
+
+    @NonNull
+    @ColumnInfo(name = "meaning")
+    private final String meaning;
+
+    @ColumnInfo(name = "is_learned")
+    private final boolean learned;
+
+    @ColumnInfo(name = "rank")
+    private final int rank;
+
+    // This is the constructor Room will use.
+    public WordSearchHit(int id, @NonNull String word, @NonNull String meaning, boolean learned, int rank) {
+        this.id = id;
+        this.word = word;
+        this.meaning = meaning;
+        this.learned = learned;
+        this.rank = rank;
+    }
+
+    @NonNull
+    public WordSummary toSummary() {
+        return new WordSummary(id, word, meaning, learned);
+    }
+
+    // --- Getters ---
+
+    public int getId() {
+        return id;
+    }
+
+    @NonNull
+    public String getWord() {
+        return word;
+    }
+
+    @NonNull
+    public String getMeaning() {
+        return meaning;
+    }
+
+    public boolean isLearned() {
+        return learned;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.vocabularybuilder.data.model;
+
+import androidx.annotation.NonNull;
+import androidx.room.ColumnInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is a projection of word_table, NOT an @Entity.
+ * List screens only show the word, its meaning and whether it is learned, so
+ * their queries select just these columns instead of SELECT *. That keeps the
+ * long example strings out of the cursor window and out of memory; the full
+ * Word is only loaded by WordDetailActivity.
+ */
+public class WordSummary {
+
+    @ColumnInfo(name = "id")
+    private final int id;
+
+    @NonNull
+    @ColumnInfo(name = "word")
+    private final String word;
+
+    @NonNull
+    @ColumnInfo(name = "meaning")
+    private final String meaning;
+
+    @ColumnInfo(name = "is_learned")
+    private final boolean learned;
+
+    // This is the constructor Room will use.
+    public WordSummary(int id, @NonNull String word, @NonNull String meaning, boolean learned) {
+        this.id = id;
+        this.word = word;
+        this.meaning = meaning;
+        this.learned = learned;
+    }
+
+    // For lists built in memory (e.g. API search results) rather than by a query.
+    @NonNull
+    public static WordSummary from(@NonNull Word word) {
+        return new WordSummary(word.getId(), word.getWord(), word.getMeaning(), word.isLearned());
+    }
+
+    @NonNull
+    public static List<WordSummary> fromWords(@NonNull List<Word> words) {
+        List<WordSummary> summaries = new ArrayList<>(words.size());
+        for (Word word : words) {
+            summaries.add(from(word));
+        }
+        return summaries;
+    }
+
+    // --- Getters ---
+
+    public int getId() {
+        return id;
+    }
+
+    @NonNull
+    public String getWord() {
+        return word;
+    }
+
+    @NonNull
+    public String getMeaning() {
+        return meaning;
+    }
+
+    public boolean isLearned() {
+        return learned;
+    }
+}
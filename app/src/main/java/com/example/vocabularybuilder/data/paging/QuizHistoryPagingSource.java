@@ -0,0 +1,93 @@
+package com.example.vocabularybuilder.data.paging;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.paging.ListenableFuturePagingSource;
+import androidx.paging.PagingState;
+import androidx.room.InvalidationTracker;
+
+import com.example.vocabularybuilder.data.WordRoomDatabase;
+import com.example.vocabularybuilder.data.dao.QuizDao;
+import com.example.vocabularybuilder.data.model.QuizResult;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import java.util.List;
+import java.util.Set;
+
+import kotlin.Unit;
+
+/**
+ * Pages the quiz history newest first. Like WordKeysetPagingSource, each page
+ * seeks past the last row of the previous one instead of using OFFSET; the key
+ * is that row's (date, id). History only grows at the top, so pages are only
+ * appended and a refresh starts again from the newest quiz.
+ */
+public class QuizHistoryPagingSource extends ListenableFuturePagingSource<QuizHistoryPagingSource.Key, QuizResult> {
+
+    /** Position just after a quiz_results row in (date DESC, id DESC) order. */
+    public static final class Key {
+        final long date;
+        final long id;
+
+        Key(long date, long id) {
+            this.date = date;
+            this.id = id;
+        }
+    }
+
+    private static final ListeningExecutorService sExecutor =
+            MoreExecutors.listeningDecorator(WordRoomDatabase.databaseReadExecutor);
+
+    private final QuizDao mQuizDao;
+
+    public QuizHistoryPagingSource(@NonNull WordRoomDatabase db) {
+        mQuizDao = db.quizDao();
+
+        InvalidationTracker.Observer observer = new InvalidationTracker.Observer("quiz_results") {
+            @Override
+            public void onInvalidated(@NonNull Set<String> tables) {
+                invalidate();
+            }
+        };
+        db.getInvalidationTracker().addObserver(observer);
+        registerInvalidatedCallback(() -> {
+            db.getInvalidationTracker().removeObserver(observer);
+            return Unit.INSTANCE;
+        });
+    }
+
+    @NonNull
+    @Override
+    public ListenableFuture<LoadResult<Key, QuizResult>> loadFuture(@NonNull LoadParams<Key> params) {
+        return sExecutor.submit(() -> {
+            try {
+                return load(params);
+            } catch (RuntimeException e) {
+                return new LoadResult.Error<>(e);
+            }
+        });
+    }
+
+    private LoadResult<Key, QuizResult> load(LoadParams<Key> params) {
+        Key key = params.getKey();
+        int loadSize = params.getLoadSize();
+        List<QuizResult> page = key == null
+                ? mQuizDao.getHistoryFirstPage(loadSize)
+                : mQuizDao.getHistoryPageAfter(key.date, key.id, loadSize);
+
+        Key nextKey = null;
+        if (page.size() == loadSize) {
+            QuizResult last = page.get(page.size() - 1);
+            nextKey = new Key(last.getDate().getTime(), last.getId());
+        }
+        return new LoadResult.Page<>(page, null, nextKey);
+    }
+
+    @Nullable
+    @Override
+    public Key getRefreshKey(@NonNull PagingState<Key, QuizResult> state) {
+        return null;
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.vocabularybuilder.data.paging;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.paging.ListenableFuturePagingSource;
+import androidx.paging.PagingState;
+import androidx.room.InvalidationTracker;
+import androidx.sqlite.db.SimpleSQLiteQuery;
+
+import com.example.vocabularybuilder.data.WordRoomDatabase;
+import com.example.vocabularybuilder.data.dao.WordDao;
+import com.example.vocabularybuilder.data.model.WordSummary;
+import com.example.vocabularybuilder.data.seed.LexiconMerger;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import kotlin.Unit;
+
+/**
+ * Pages an alphabetical word list by keyset instead of OFFSET.
+ *
+ * The key is a headword (unique in word_table): an append loads the words
+ * after the last one shown, a prepend the words before the first one. Each
+ * page is a range seek on an index ending in "word", so its cost does not grow
+ * with how far the user has scrolled. Nothing is ever counted, so the list
+ * has no placeholders.
+ *
+ * A new source is created for every invalidation of word_table or
+ * word_category_cross_ref.
+ */
+public class WordKeysetPagingSource extends ListenableFuturePagingSource<String, WordSummary> {
+
+    private static final String COLUMNS = "SELECT id, word, meaning, is_learned FROM word_table WHERE ";
+
+    private static final ListeningExecutorService sExecutor =
+            MoreExecutors.listeningDecorator(WordRoomDatabase.databaseReadExecutor);
+
+    private final WordDao mWordDao;
+    private final LexiconMerger mMerger;
+    private final WordListFilter mFilter;
+
+    public WordKeysetPagingSource(@NonNull WordRoomDatabase db, @NonNull LexiconMerger merger,
+                                  @NonNull WordListFilter filter) {
+        mWordDao = db.wordDao();
+        mMerger = merger;
+        mFilter = filter;
+
+        InvalidationTracker.Observer observer = new InvalidationTracker.Observer("word_table", "word_category_cross_ref") {
+            @Override
+            public void onInvalidated(@NonNull Set<String> tables) {
+                invalidate();
+            }
+        };
+        db.getInvalidationTracker().addObserver(observer);
+        registerInvalidatedCallback(() -> {
+            db.getInvalidationTracker().removeObserver(observer);
+            return Unit.INSTANCE;
+        });
+    }
+
+    @NonNull
+    @Override
+    public ListenableFuture<LoadResult<String, WordSummary>> loadFuture(@NonNull LoadParams<String> params) {
+        return sExecutor.submit(() -> {
+            try {
+                return load(params);
+            } catch (RuntimeException e) {
+                return new LoadResult.Error<>(e);
+            }
+        });
+    }
+
+    private LoadResult<String, WordSummary> load(LoadParams<String> params) {
+        String key = params.getKey();
+        int loadSize = params.getLoadSize();
+
+        if (params instanceof LoadParams.Append) {
+            List<WordSummary> page = query("word > ? ORDER BY word ASC", key, loadSize);
+            String nextKey = page.size() < loadSize ? null : last(page);
+            return new LoadResult.Page<>(page, null, nextKey);
+        }
+
+        if (params instanceof LoadParams.Prepend) {
+            List<WordSummary> page = query("word < ? ORDER BY word DESC", key, loadSize);
+            Collections.reverse(page);
+            String prevKey = page.size() < loadSize ? null : first(page);
+            return new LoadResult.Page<>(page, prevKey, null);
+        }
+
+        // Refresh: start at the key, or at the top. The list has no placeholders,
+        // so nothing is counted; the rows on either side are loaded by the same
+        // keyset seeks as the user scrolls.
+        List<WordSummary> page = key == null
+                ? new ArrayList<>()
+                : query("word >= ? ORDER BY word ASC", key, loadSize);
+        // Nothing at or after the key (e.g. the tail was deleted): start from the top.
+        boolean fromTop = page.isEmpty();
+        if (fromTop) {
+            page = query("1 ORDER BY word ASC", null, loadSize);
+        }
+        String prevKey = fromTop ? null : first(page);
+        String nextKey = page.size() < loadSize ? null : last(page);
+        return new LoadResult.Page<>(page, prevKey, nextKey);
+    }
+
+    @Nullable
+    @Override
+    public String getRefreshKey(@NonNull PagingState<String, WordSummary> state) {
+        Integer anchor = state.getAnchorPosition();
+        if (anchor == null) {
+            return null;
+        }
+        WordSummary item = state.closestItemToPosition(anchor);
+        return item != null ? item.getWord() : null;
+    }
+
+    private List<WordSummary> query(String keyset, @Nullable String key, int limit) {
+        List<Object> args = new ArrayList<>();
+        Collections.addAll(args, mFilter.getArgs());
+        if (key != null) {
+            args.add(key);
+        }
+        args.add(limit);
+        String sql = COLUMNS + "(" + mFilter.getWhere() + ") AND " + keyset + " LIMIT ?";
+        // The prebuilt rows' meanings come from the base lexicon (see LexiconMerger).
+        return mMerger.mergeSummaries(mWordDao.getWordSummaries(new SimpleSQLiteQuery(sql, args.toArray())));
+    }
+
+    // Empty pages never reach these: an empty page has no neighbours to key on.
+    private static String first(List<WordSummary> page) {
+        return page.isEmpty() ? null : page.get(0).getWord();
+    }
+
+    private static String last(List<WordSummary> page) {
+        return page.isEmpty() ? null : page.get(page.size() - 1).getWord();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.vocabularybuilder.data.paging;
+
+import androidx.annotation.NonNull;
+
+import com.example.vocabularybuilder.data.model.CefrLevel;
+
+/**
+ * The WHERE condition of a paged word list, kept separate from the keyset
+ * condition that WordKeysetPagingSource adds. Every filter here is served by
+ * one of the word_table indexes that lead with (..., word).
+ */
+public final class WordListFilter {
+
+    private final String mWhere;
+    private final Object[] mArgs;
+
+    private WordListFilter(@NonNull String where, @NonNull Object... args) {
+        mWhere = where;
+        mArgs = args;
+    }
+
+    public static WordListFilter all() {
+        return new WordListFilter("1");
+    }
+
+    public static WordListFilter level(@NonNull CefrLevel level) {
+        return new WordListFilter("cefr_level = ?", level.getCode());
+    }
+
+    public static WordListFilter userAdded() {
+        return new WordListFilter("is_user_added = 1");
+    }
+
+    public static WordListFilter learned() {
+        return new WordListFilter("is_learned = 1");
+    }
+
+    public static WordListFilter category(int categoryId) {
+        return new WordListFilter("id IN (SELECT wordId FROM word_category_cross_ref WHERE categoryId = ?)", categoryId);
+    }
+
+    @NonNull
+    String getWhere() {
+        return mWhere;
+    }
+
+    @NonNull
+    Object[] getArgs() {
+        return mArgs;
+    }
+}
@@ -1,7 +1,5 @@
 package com.example.vocabularybuilder.data.repository;
 
-import android.app.Application;
-
 import androidx.annotation.NonNull;
 import androidx.lifecycle.LiveData;
 
@@ -14,26 +12,26 @@ import java.util.concurrent.CompletableFuture;
 
 public class CategoryRepository {
 
+    private final WordRoomDatabase mDatabase;
     private final CategoryDao mCategoryDao;
 
-    public CategoryRepository(Application application) {
-        WordRoomDatabase db = WordRoomDatabase.getDatabase(application);
+    public CategoryRepository(WordRoomDatabase db) {
+        mDatabase = db;
         mCategoryDao = db.categoryDao();
     }
 
     // --- Write Operations (Async) ---
     // These are one-off actions, so we use CompletableFuture (or void).
 
-    public void insert(@NonNull Category category) {
-        WordRoomDatabase.databaseWriteExecutor.execute(() -> {
-            mCategoryDao.insert(category);
-        });
+    // Completes with the new category's id, or -1 if one with that name exists.
+    public CompletableFuture<Long> insert(@NonNull Category category) {
+        long[] id = new long[1];
+        return mDatabase.enqueueWrite(() -> id[0] = mCategoryDao.insert(category))
+                .thenApply(v -> id[0]);
     }
 
-    public void deleteCategory(@NonNull String name) {
-        WordRoomDatabase.databaseWriteExecutor.execute(() -> {
-            mCategoryDao.deleteCategory(name);
-        });
+    public void deleteCategory(int categoryId) {
+        mDatabase.enqueueWrite(() -> mCategoryDao.deleteCategory(categoryId));
     }
 
     // --- Read Operations (Observable) ---
@@ -44,7 +42,7 @@ public class CategoryRepository {
         return mCategoryDao.getAllCategories();
     }
 
-    public LiveData<Category> getCategoryByName(@NonNull String name) {
-        return mCategoryDao.getCategoryByName(name);
+    public CompletableFuture<List<Category>> loadAllCategories() {
+        return CompletableFuture.supplyAsync(mCategoryDao::getAllCategoriesNow, WordRoomDatabase.databaseReadExecutor);
     }
 }
\ No newline at end of file
@@ -0,0 +1,157 @@
+package com.example.vocabularybuilder.data.repository;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.LiveData;
+
+import com.example.vocabularybuilder.data.WordChangeFeed;
+import com.example.vocabularybuilder.data.WordRoomDatabase;
+import com.example.vocabularybuilder.data.dao.WordDao;
+import com.example.vocabularybuilder.data.model.WordSummary;
+import com.example.vocabularybuilder.data.seed.LexiconMerger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The learned words, alphabetically, kept current from the WordChangeFeed.
+ *
+ * The list is queried once, on first observation. After that each change is
+ * patched into the in-memory copy (rows are dropped, replaced or inserted in
+ * order), so marking a word learned costs no query at all. Only a feed reset
+ * reloads the list.
+ */
+class LearnedWordsLiveData extends LiveData<List<WordSummary>> implements WordChangeFeed.Listener {
+
+    // Same order as the query. ORDER BY word compares UTF-8 bytes, which only
+    // differs from String order for characters outside the BMP.
+    private static final Comparator<WordSummary> BY_WORD = Comparator.comparing(WordSummary::getWord);
+
+    private static final class Change {
+        final List<WordSummary> changed;
+        final Collection<Integer> deletedIds;
+
+        Change(List<WordSummary> changed, Collection<Integer> deletedIds) {
+            this.changed = changed;
+            this.deletedIds = deletedIds;
+        }
+    }
+
+    private final WordDao mWordDao;
+    private final LexiconMerger mMerger;
+
+    // All guarded by 'this'. mWords is null until the first load completes.
+    private List<WordSummary> mWords;
+    private boolean mLoading;
+    // Changes published while a load is running; replayed onto its result.
+    // Patching is idempotent, so a change the load already saw is harmless.
+    private final List<Change> mPending = new ArrayList<>();
+    private boolean mResetWhileLoading;
+
+    LearnedWordsLiveData(@NonNull WordRoomDatabase db, @NonNull LexiconMerger merger) {
+        mWordDao = db.wordDao();
+        mMerger = merger;
+        db.getWordChangeFeed().addListener(this);
+    }
+
+    @Override
+    protected void onActive() {
+        synchronized (this) {
+            if (mWords != null) {
+                return;
+            }
+        }
+        load();
+    }
+
+    private void load() {
+        synchronized (this) {
+            if (mLoading) {
+                return;
+            }
+            mLoading = true;
+            mResetWhileLoading = false;
+            mPending.clear();
+        }
+        WordRoomDatabase.databaseReadExecutor.execute(() -> {
+            List<WordSummary> words = mMerger.mergeSummaries(mWordDao.getLearnedWordsNow());
+            List<WordSummary> snapshot;
+            synchronized (this) {
+                mLoading = false;
+                if (mResetWhileLoading) {
+                    // The result may predate the reset.
+                    load();
+                    return;
+                }
+                mWords = words;
+                for (Change change : mPending) {
+                    patch(change.changed, change.deletedIds);
+                }
+                mPending.clear();
+                snapshot = new ArrayList<>(mWords);
+            }
+            postValue(snapshot);
+        });
+    }
+
+    @Override
+    public void onWordsChanged(@NonNull List<WordSummary> changed, @NonNull Collection<Integer> deletedIds) {
+        List<WordSummary> snapshot;
+        synchronized (this) {
+            if (mLoading) {
+                mPending.add(new Change(changed, deletedIds));
+                return;
+            }
+            if (mWords == null) {
+                // Never loaded; the first load will see this change.
+                return;
+            }
+            if (!patch(changed, deletedIds)) {
+                return;
+            }
+            snapshot = new ArrayList<>(mWords);
+        }
+        postValue(snapshot);
+    }
+
+    @Override
+    public void onReset() {
+        synchronized (this) {
+            if (mLoading) {
+                mResetWhileLoading = true;
+                return;
+            }
+            if (mWords == null) {
+                return;
+            }
+        }
+        load();
+    }
+
+    // Returns whether the list changed.
+    private boolean patch(List<WordSummary> changed, Collection<Integer> deletedIds) {
+        Set<Integer> stale = new HashSet<>(deletedIds);
+        for (WordSummary word : changed) {
+            stale.add(word.getId());
+        }
+        int sizeBefore = mWords.size();
+        mWords.removeIf(word -> stale.contains(word.getId()));
+        boolean modified = mWords.size() != sizeBefore;
+
+        boolean added = false;
+        for (WordSummary word : changed) {
+            if (word.isLearned()) {
+                mWords.add(word);
+                added = true;
+            }
+        }
+        if (added) {
+            // Nearly sorted already, so this is close to a single pass.
+            mWords.sort(BY_WORD);
+        }
+        return modified || added;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.vocabularybuilder.data.repository;
+
+import androidx.annotation.NonNull;
+import androidx.room.InvalidationTracker;
+
+import com.example.vocabularybuilder.data.WordRoomDatabase;
+import com.example.vocabularybuilder.data.dao.WordDao;
+import com.example.vocabularybuilder.data.model.Word;
+import com.example.vocabularybuilder.data.seed.LexiconMerger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Draws random quiz words without ORDER BY RANDOM().
+ *
+ * For each quiz filter the matching ids are loaded once (an id-only query, no
+ * sort) and kept in memory. A draw is a partial Fisher-Yates shuffle of that
+ * array followed by a primary-key lookup of the chosen ids, so its cost grows
+ * with the number of words asked for, not with the size of word_table. The id
+ * lists are dropped whenever Room reports a write to word_table or
+ * word_category_cross_ref (the category pools are read from the latter).
+ *
+ * Must be called on a background thread.
+ */
+class QuizWordSampler {
+
+    // Stay well below SQLite's bound-variable limit for the IN (...) lookup.
+    private static final int MAX_IDS_PER_QUERY = 500;
+
+    private final WordDao mWordDao;
+    private final LexiconMerger mMerger;
+    private final Random mRandom = new Random();
+
+    // Filter key -> ids of the words matching it. Guarded by 'this'.
+    private final Map<String, int[]> mIdPools = new HashMap<>();
+
+    QuizWordSampler(@NonNull WordRoomDatabase db, @NonNull LexiconMerger merger) {
+        mWordDao = db.wordDao();
+        mMerger = merger;
+        db.getInvalidationTracker().addObserver(new InvalidationTracker.Observer("word_table", "word_category_cross_ref") {
+            @Override
+            public void onInvalidated(@NonNull Set<String> tables) {
+                synchronized (QuizWordSampler.this) {
+                    mIdPools.clear();
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns up to {@code limit} distinct words, in random order, from the
+     * ids that {@code idLoader} returns for the filter named {@code key}.
+     */
+    @NonNull
+    List<Word> sample(@NonNull String key, @NonNull Supplier<List<Integer>> idLoader, int limit) {
+        int[] chosen;
+        synchronized (this) {
+            int[] pool = mIdPools.get(key);
+            if (pool == null) {
+                pool = toArray(idLoader.get());
+                mIdPools.put(key, pool);
+            }
+            int count = Math.min(limit, pool.length);
+            // Partial Fisher-Yates: after i swaps, pool[0..i) is a uniform sample.
+            for (int i = 0; i < count; i++) {
+                int j = i + mRandom.nextInt(pool.length - i);
+                int tmp = pool[i];
+                pool[i] = pool[j];
+                pool[j] = tmp;
+            }
+            chosen = new int[count];
+            System.arraycopy(pool, 0, chosen, 0, count);
+        }
+        return loadInOrder(chosen);
+    }
+
+    private List<Word> loadInOrder(int[] ids) {
+        Map<Integer, Word> byId = new HashMap<>();
+        for (int start = 0; start < ids.length; start += MAX_IDS_PER_QUERY) {
+            int end = Math.min(start + MAX_IDS_PER_QUERY, ids.length);
+            List<Integer> batch = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                batch.add(ids[i]);
+            }
+            for (Word word : mWordDao.getWordsByIds(batch)) {
+                byId.put(word.getId(), mMerger.merge(word));
+            }
+        }
+        // IN (...) returns rows in id order; restore the sampled order.
+        List<Word> words = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            Word word = byId.get(id);
+            if (word != null) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static int[] toArray(List<Integer> ids) {
+        int[] array = new int[ids.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = ids.get(i);
+        }
+        return array;
+    }
+}
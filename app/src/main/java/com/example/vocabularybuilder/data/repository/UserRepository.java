@@ -23,8 +23,8 @@ public class UserRepository {
     private final MutableLiveData<User> mCurrentUser = new MutableLiveData<>();
     // Removed mApplication as it's no longer needed after constructor
 
-    public UserRepository(Application application) {
-        WordRoomDatabase db = WordRoomDatabase.getDatabase(application);
+    // Created once per process by AppContainer, so the current user is loaded only once.
+    public UserRepository(Application application, WordRoomDatabase db) {
         mUserDao = db.userDao();
 
         // IMPROVEMENT 1: Use the Constants class for the file key
@@ -41,7 +41,7 @@ public class UserRepository {
             String currentUsername = mSharedPreferences.getString(Constants.CURRENT_USERNAME_KEY, null);
             if (currentUsername != null) {
                 // This async query is correct
-                CompletableFuture.supplyAsync(() -> mUserDao.findByUsername(currentUsername), WordRoomDatabase.databaseWriteExecutor)
+                CompletableFuture.supplyAsync(() -> mUserDao.findByUsername(currentUsername), WordRoomDatabase.databaseReadExecutor)
                         .thenAccept(user -> {
                             if (user != null) {
                                 mCurrentUser.postValue(user);
@@ -60,7 +60,7 @@ public class UserRepository {
     }
 
     public CompletableFuture<User> findByUsername(@NonNull String username) {
-        return CompletableFuture.supplyAsync(() -> mUserDao.findByUsername(username), WordRoomDatabase.databaseWriteExecutor);
+        return CompletableFuture.supplyAsync(() -> mUserDao.findByUsername(username), WordRoomDatabase.databaseReadExecutor);
     }
 
     // IMPROVEMENT 2 (DAO MISMATCH):
@@ -71,7 +71,7 @@ public class UserRepository {
     // This is the new public login method. It asynchronously checks
     // credentials against the database.
     public CompletableFuture<User> login(@NonNull String username, @NonNull String password) {
-        return CompletableFuture.supplyAsync(() -> mUserDao.getUser(username, password), WordRoomDatabase.databaseWriteExecutor)
+        return CompletableFuture.supplyAsync(() -> mUserDao.getUser(username, password), WordRoomDatabase.databaseReadExecutor)
                 .thenApply(user -> {
                     if (user != null) {
                         // If user is found, save login state
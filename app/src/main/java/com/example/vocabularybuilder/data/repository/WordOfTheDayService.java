@@ -0,0 +1,224 @@
+package com.example.vocabularybuilder.data.repository;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import com.example.vocabularybuilder.data.WordChangeFeed;
+import com.example.vocabularybuilder.data.WordRoomDatabase;
+import com.example.vocabularybuilder.data.dao.WordDao;
+import com.example.vocabularybuilder.data.dao.WordOfTheDayDao;
+import com.example.vocabularybuilder.data.model.Word;
+import com.example.vocabularybuilder.data.model.WordOfTheDay;
+import com.example.vocabularybuilder.data.model.WordSummary;
+import com.example.vocabularybuilder.data.seed.LexiconMerger;
+
+import java.text.SimpleDateFormat;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Picks the word of the day once per local calendar day and serves it from memory.
+ *
+ * The pick is derived from the date, not from RANDOM(): the date is hashed to a
+ * point in the id range and the first word at or after it is taken, which is an
+ * index seek on the primary key rather than a sort of the whole table. The choice
+ * is stored in word_of_the_day_history, so it also survives process restarts.
+ * Edits to the chosen word arrive through the WordChangeFeed and are applied
+ * to the in-memory copy without a query.
+ *
+ * The lookup runs on a reader; the result is handed to the writer thread, which
+ * is also where the change feed is delivered, so the current word is only ever
+ * read and replaced there. The day is re-checked on every load(), which the
+ * home screen calls when it starts and when the date changes.
+ */
+public class WordOfTheDayService {
+
+    // A load that keeps racing writes gives up re-reading after this many tries.
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final WordRoomDatabase mDatabase;
+    private final WordDao mWordDao;
+    private final WordOfTheDayDao mWordOfTheDayDao;
+    private final LexiconMerger mMerger;
+
+    private final MutableLiveData<Word> mWordOfTheDay = new MutableLiveData<>();
+
+    // The word being served. Writer thread only.
+    private Word mCurrent;
+    // Bumped on the writer for every change event. A load that sees it move while
+    // it was reading may hold a stale copy, so it reads again.
+    private volatile int mChangeCount;
+
+    // Guarded by 'this'. mLoadDate is the day mLoad was started for.
+    private String mLoadDate;
+    private CompletableFuture<Word> mLoad;
+
+    public WordOfTheDayService(@NonNull WordRoomDatabase db, @NonNull LexiconMerger merger) {
+        mDatabase = db;
+        mWordDao = db.wordDao();
+        mWordOfTheDayDao = db.wordOfTheDayDao();
+        mMerger = merger;
+        db.getWordChangeFeed().addListener(new WordChangeFeed.Listener() {
+            @Override
+            public void onWordsChanged(@NonNull List<WordSummary> changed, @NonNull Collection<Integer> deletedIds) {
+                mChangeCount++;
+                for (WordSummary word : changed) {
+                    onWordChanged(word);
+                }
+                for (int wordId : deletedIds) {
+                    onWordDeleted(wordId);
+                }
+            }
+
+            @Override
+            public void onReset() {
+                mChangeCount++;
+                // The word may have been rewritten or retired; resolve it again.
+                reload();
+            }
+        });
+    }
+
+    /**
+     * Observed by MainActivity. Refreshes the value if the day has changed.
+     */
+    public LiveData<Word> getWordOfTheDay() {
+        load();
+        return mWordOfTheDay;
+    }
+
+    /**
+     * Completes with today's word. Only the first call each day touches the database.
+     */
+    public synchronized CompletableFuture<Word> load() {
+        final String today = todayKey();
+        if (mLoad != null && today.equals(mLoadDate)) {
+            return mLoad;
+        }
+        mLoadDate = today;
+        mLoad = load(today, MAX_LOAD_ATTEMPTS);
+        return mLoad;
+    }
+
+    private CompletableFuture<Word> load(@NonNull String date, int attempts) {
+        final int changeCount = mChangeCount;
+        return CompletableFuture.supplyAsync(() -> resolve(date), WordRoomDatabase.databaseReadExecutor)
+                .thenComposeAsync(word -> {
+                    if (mChangeCount != changeCount && attempts > 1) {
+                        return load(date, attempts - 1);
+                    }
+                    if (isLoading(date)) {
+                        mCurrent = word;
+                        mWordOfTheDay.postValue(word);
+                    }
+                    if (word == null) {
+                        // Nothing to pick yet (empty table); try again on the next call.
+                        forget(date);
+                    }
+                    return CompletableFuture.completedFuture(word);
+                }, WordRoomDatabase.databaseWriteExecutor);
+    }
+
+    // Writer thread.
+    private void onWordChanged(@NonNull WordSummary summary) {
+        Word current = mCurrent;
+        if (current == null || current.getId() != summary.getId()) {
+            return;
+        }
+        // A copy, so observers holding the old value don't see it change under them.
+        Word updated = new Word(summary.getWord(), summary.getMeaning(), current.getPartOfSpeech(),
+                current.getExample(), current.getCefrLevel(), current.isUserAdded(), summary.isLearned(),
+                current.isPrebuilt());
+        updated.setId(current.getId());
+        mCurrent = updated;
+        mWordOfTheDay.postValue(updated);
+        synchronized (this) {
+            if (mLoadDate != null) {
+                mLoad = CompletableFuture.completedFuture(updated);
+            }
+        }
+    }
+
+    /**
+     * Called on the writer after a word is deleted. The history row is removed by
+     * the foreign key; this drops the in-memory copy so a replacement is picked.
+     */
+    private void onWordDeleted(int wordId) {
+        if (mCurrent != null && mCurrent.getId() == wordId) {
+            mCurrent = null;
+            reload();
+        }
+    }
+
+    private void reload() {
+        synchronized (this) {
+            mLoad = null;
+            mLoadDate = null;
+        }
+        load();
+    }
+
+    private synchronized boolean isLoading(@NonNull String date) {
+        return date.equals(mLoadDate);
+    }
+
+    private synchronized void forget(String date) {
+        if (date != null && date.equals(mLoadDate)) {
+            mLoad = null;
+            mLoadDate = null;
+        }
+    }
+
+    // Runs on a reader, so the lookup never queues behind other writes. Only a
+    // new pick writes anything: its history row, queued on the writer without
+    // waiting for it. The pick is a function of the date and the id range, so a
+    // second resolve before that commit picks the same word.
+    @Nullable
+    private Word resolve(@NonNull String date) {
+        WordOfTheDay entry = mWordOfTheDayDao.getForDate(date);
+        if (entry != null) {
+            Word word = mWordDao.getWordByIdNow(entry.getWordId());
+            if (word != null) {
+                return mMerger.merge(word);
+            }
+        }
+
+        Word word = pick(date);
+        if (word != null) {
+            WordOfTheDay history = new WordOfTheDay(date, word.getId());
+            mDatabase.enqueueWrite(() -> mWordOfTheDayDao.insert(history));
+        }
+        return mMerger.merge(word);
+    }
+
+    @Nullable
+    private Word pick(@NonNull String date) {
+        int minId = mWordDao.getMinWordId();
+        int maxId = mWordDao.getMaxWordId();
+        if (maxId < minId) {
+            return null;
+        }
+        long span = (long) maxId - minId + 1;
+        int target = (int) (minId + Long.remainderUnsigned(mix(date.hashCode()), span));
+
+        Word word = mWordDao.getFirstWordFromId(target);
+        // Gaps at the end of the id range wrap around to the first word.
+        return word != null ? word : mWordDao.getFirstWordFromId(minId);
+    }
+
+    // SplitMix64 finaliser: spreads consecutive dates across the whole id range.
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static String todayKey() {
+        return new SimpleDateFormat("yyyy-MM-dd", Locale.US).format(new Date());
+    }
+}
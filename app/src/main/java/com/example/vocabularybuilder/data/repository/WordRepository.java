@@ -6,25 +6,51 @@ import android.content.SharedPreferences;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MediatorLiveData;
 import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.Transformations;
+import androidx.paging.Pager;
+import androidx.paging.PagingConfig;
 import com.example.vocabularybuilder.api.ApiClient;
+import com.example.vocabularybuilder.data.WordChangeFeed;
 import com.example.vocabularybuilder.data.WordRoomDatabase;
 import com.example.vocabularybuilder.data.dao.QuizDao;
 import com.example.vocabularybuilder.data.dao.WordDao;
 import com.example.vocabularybuilder.data.dao.WordCategoryCrossRefDao;
-import com.example.vocabularybuilder.data.model.QuizResultWithQuestions;
+import com.example.vocabularybuilder.data.dao.WordCounterDao;
+import com.example.vocabularybuilder.data.dao.WordSearchDao;
+import com.example.vocabularybuilder.data.model.Category;
+import com.example.vocabularybuilder.data.model.CategoryCounts;
+import com.example.vocabularybuilder.data.model.CefrLevel;
 import com.example.vocabularybuilder.data.model.QuizQuestion;
 import com.example.vocabularybuilder.data.model.QuizResult;
 import com.example.vocabularybuilder.data.model.Word;
 import com.example.vocabularybuilder.data.model.WordCategoryCrossRef;
+import com.example.vocabularybuilder.data.model.WordSearchHit;
+import com.example.vocabularybuilder.data.model.WordSummary;
+import com.example.vocabularybuilder.data.paging.QuizHistoryPagingSource;
+import com.example.vocabularybuilder.data.paging.WordKeysetPagingSource;
+import com.example.vocabularybuilder.data.paging.WordListFilter;
+import com.example.vocabularybuilder.data.seed.BaseLexicon;
+import com.example.vocabularybuilder.data.seed.LexiconMerger;
+import com.example.vocabularybuilder.data.seed.SeedImporter;
+import com.example.vocabularybuilder.data.seed.SeedProgress;
 import com.example.vocabularybuilder.utils.Constants;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import retrofit2.Call;
 import retrofit2.Callback;
@@ -32,28 +58,61 @@ import retrofit2.Response;
 
 public class WordRepository {
 
+    private static final int SEARCH_RESULT_LIMIT = 100;
+
+    // A page is roughly three screens of rows; the first load covers two pages
+    // and the next page is requested a full page before the end is reached.
+    private static final int PAGE_SIZE = 50;
+    private static final int HISTORY_PAGE_SIZE = 20;
+
+    // Bulk operations split id lists into statements of at most this many ids,
+    // well below SQLite's bound-variable limit (999 before Android 11).
+    private static final int MAX_IDS_PER_STATEMENT = 500;
+
+    private final WordRoomDatabase mDatabase;
+    // Prebuilt rows keep their text in the base lexicon; see LexiconMerger.
+    private final LexiconMerger mMerger;
     private final WordDao mWordDao;
+    private final WordSearchDao mWordSearchDao;
     private final QuizDao mQuizDao;
     private final WordCategoryCrossRefDao mWordCategoryCrossRefDao;
-    private final LiveData<List<Word>> mAllWords;
+    private final WordCounterDao mWordCounterDao;
     private final ApiClient.ApiService mApiService;
     private final SharedPreferences mSharedPreferences;
 
     // LiveData for Streak Count (observed by Profile)
     private final MutableLiveData<Integer> mStreakCount = new MutableLiveData<>();
-
-
-    public WordRepository(Application application) {
-        WordRoomDatabase db = WordRoomDatabase.getDatabase(application);
+    private final CompletableFuture<Integer> mStreakLoad;
+
+    private final WordChangeFeed mChangeFeed;
+    private final WordOfTheDayService mWordOfTheDayService;
+    private final QuizWordSampler mQuizWordSampler;
+    private final LiveData<List<CategoryCounts>> mCategoryCounts;
+    private final LearnedWordsLiveData mLearnedWords;
+    private volatile CompletableFuture<Long> mLastQuizSave;
+    // findOrInsertWord calls still running, by normalized headword.
+    private final Map<String, CompletableFuture<Word>> mWordLookups = new ConcurrentHashMap<>();
+
+
+    // Created once per process by AppContainer; ViewModels share this instance.
+    public WordRepository(Application application, WordRoomDatabase db, ApiClient.ApiService apiService) {
+        mDatabase = db;
+        mMerger = new LexiconMerger(application);
         mWordDao = db.wordDao();
+        mWordSearchDao = db.wordSearchDao();
         mQuizDao = db.quizDao();
         mWordCategoryCrossRefDao = db.wordCategoryCrossRefDao();
-        mAllWords = mWordDao.getAllWords();
-        mApiService = ApiClient.getClient().create(ApiClient.ApiService.class);
+        mWordCounterDao = db.wordCounterDao();
+        mChangeFeed = db.getWordChangeFeed();
+        mWordOfTheDayService = new WordOfTheDayService(db, mMerger);
+        mQuizWordSampler = new QuizWordSampler(db, mMerger);
+        mCategoryCounts = mWordCounterDao.getCategoryCounts();
+        mLearnedWords = new LearnedWordsLiveData(db, mMerger);
+        mApiService = apiService;
         mSharedPreferences = application.getSharedPreferences(Constants.PREFERENCE_FILE_KEY, Context.MODE_PRIVATE);
 
         // Load the initial streak count
-        loadStreakCount();
+        mStreakLoad = loadStreakCount();
     }
 
     // --- Streak Logic ---
@@ -65,15 +124,23 @@ public class WordRepository {
         return mStreakCount;
     }
 
+    /**
+     * Completes with the streak as it was when the repository was created.
+     */
+    public CompletableFuture<Integer> loadStreak() {
+        return mStreakLoad;
+    }
+
     /**
      * Loads the current streak from SharedPreferences on a background thread
      * and posts the value to the LiveData.
      */
-    private void loadStreakCount() {
-        WordRoomDatabase.databaseWriteExecutor.execute(() -> {
+    private CompletableFuture<Integer> loadStreakCount() {
+        return CompletableFuture.supplyAsync(() -> {
             int streak = mSharedPreferences.getInt(Constants.CURRENT_STREAK_KEY, 0);
             mStreakCount.postValue(streak);
-        });
+            return streak;
+        }, WordRoomDatabase.databaseReadExecutor);
     }
 
     /**
@@ -121,102 +188,331 @@ public class WordRepository {
 
     // --- Word Read Operations (LiveData) ---
 
-    public LiveData<List<Word>> getAllWords() {
-        return mAllWords;
+    /**
+     * Queried once, then patched from the change feed (see LearnedWordsLiveData).
+     */
+    public LiveData<List<WordSummary>> getLearnedWords() {
+        return mLearnedWords;
     }
 
-    public LiveData<List<Word>> getWordsByCefrLevel(@NonNull String level) {
-        return mWordDao.getWordsByCefrLevel(level);
+    /**
+     * An alphabetical, keyset-paged list of the words matching the filter.
+     * The ViewModel turns this into LiveData<PagingData> and caches it.
+     */
+    public Pager<String, WordSummary> getWordPager(@NonNull WordListFilter filter) {
+        // No placeholders: they would need a COUNT(*) over the filter on every refresh.
+        PagingConfig config = new PagingConfig(PAGE_SIZE, PAGE_SIZE, false, PAGE_SIZE * 2);
+        return new Pager<>(config, () -> new WordKeysetPagingSource(mDatabase, mMerger, filter));
     }
 
-    public LiveData<List<Word>> getWordsByCategory(@NonNull String categoryName) {
-        return mWordDao.getWordsByCategory(categoryName);
+    public LiveData<Word> getWordOfTheDay() {
+        return mWordOfTheDayService.getWordOfTheDay();
     }
 
-    public LiveData<List<Word>> getLearnedWords() {
-        return mWordDao.getLearnedWords();
+    public CompletableFuture<Word> loadWordOfTheDay() {
+        return mWordOfTheDayService.load();
     }
 
-    public LiveData<List<Word>> getUserAddedWords() {
-        return mWordDao.getUserAddedWords();
+    public LiveData<Word> getWordById(int wordId) {
+        return Transformations.map(mWordDao.getWordById(wordId), mMerger::merge);
     }
 
-    public LiveData<Word> getWordOfTheDay() {
-        return mWordDao.getWordOfTheDay();
+    /**
+     * Progress of the background seed import, so screens can show each
+     * CEFR level as soon as it has been committed.
+     */
+    public LiveData<SeedProgress> getSeedProgress() {
+        return SeedImporter.getProgress();
     }
 
-    public LiveData<Word> getWordById(int wordId) {
-        return mWordDao.getWordById(wordId);
+    /**
+     * Full-text search for the dictionary: every word of the query is matched as
+     * a prefix, in the headword, meaning or example.
+     *
+     * The stored text is searched through word_fts (see WordSearchDao), which
+     * Room re-runs on its own executor whenever the words change. The text of
+     * the prebuilt words is only in the base lexicon, so its token index is
+     * searched too, once per query, and the two ranked lists are merged on a
+     * reader, never on the main thread.
+     */
+    public LiveData<List<WordSummary>> searchWords(@NonNull String query) {
+        List<String> terms = new ArrayList<>();
+        // Only letters and digits reach MATCH, so user input can't form FTS operators.
+        for (String token : query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                terms.add(token + "*");
+            }
+        }
+        if (terms.isEmpty()) {
+            return new MutableLiveData<>(new ArrayList<>());
+        }
+        LiveData<List<WordSearchHit>> storedHits = mWordSearchDao.search(matchInColumn("word", terms),
+                matchInColumn("meaning", terms), matchInColumn("example", terms), SEARCH_RESULT_LIMIT);
+        CompletableFuture<Map<String, Integer>> lexiconHits = CompletableFuture.supplyAsync(
+                () -> mMerger.search(BaseLexicon.tokenize(query), SEARCH_RESULT_LIMIT), WordRoomDatabase.databaseReadExecutor);
+
+        MediatorLiveData<List<WordSummary>> results = new MediatorLiveData<>();
+        // Merges can finish out of order; only the latest one is posted.
+        AtomicInteger latest = new AtomicInteger();
+        results.addSource(storedHits, hits -> {
+            int run = latest.incrementAndGet();
+            lexiconHits.thenApplyAsync(baseHits -> mergeSearchHits(hits, baseHits), WordRoomDatabase.databaseReadExecutor)
+                    .thenAccept(merged -> {
+                        if (latest.get() == run) {
+                            results.postValue(merged);
+                        }
+                    });
+        });
+        return results;
+    }
+
+    // Both lists are ranked the same way (WordSearchHit.BY_RANK); a prebuilt word
+    // can be in both, as word_fts still indexes its headword, and keeps its best rank.
+    private List<WordSummary> mergeSearchHits(List<WordSearchHit> storedHits, Map<String, Integer> lexiconHits) {
+        Map<Integer, WordSearchHit> best = new HashMap<>();
+        for (WordSearchHit hit : storedHits) {
+            best.put(hit.getId(), hit);
+        }
+        if (!lexiconHits.isEmpty()) {
+            for (WordSummary row : mWordSearchDao.getLexiconRows(new ArrayList<>(lexiconHits.keySet()))) {
+                int rank = lexiconHits.get(row.getWord());
+                WordSearchHit hit = best.get(row.getId());
+                if (hit == null || rank < hit.getRank()) {
+                    best.put(row.getId(), new WordSearchHit(row.getId(), row.getWord(), row.getMeaning(), row.isLearned(), rank));
+                }
+            }
+        }
+        List<WordSearchHit> ranked = new ArrayList<>(best.values());
+        ranked.sort(WordSearchHit.BY_RANK);
+        List<WordSummary> results = new ArrayList<>(Math.min(ranked.size(), SEARCH_RESULT_LIMIT));
+        for (WordSearchHit hit : ranked.subList(0, Math.min(ranked.size(), SEARCH_RESULT_LIMIT))) {
+            results.add(mMerger.merge(hit.toSummary()));
+        }
+        return results;
+    }
+
+    // "word:colo* word:blin*": all terms, all in the given column.
+    private static String matchInColumn(String column, List<String> terms) {
+        StringBuilder match = new StringBuilder();
+        for (String term : terms) {
+            if (match.length() > 0) {
+                match.append(' ');
+            }
+            match.append(column).append(':').append(term);
+        }
+        return match.toString();
     }
 
     /**
      * This is the smart method for the WordList.
-     * It checks the category name and calls the correct DAO method.
+     * Custom categories carry their database id (> 0); the built-in ones
+     * ("User Added" and the CEFR levels) have id 0 and are matched by name.
      */
-    public LiveData<List<Word>> getWordsForCategoryList(@NonNull String category) {
-        if ("User Added".equals(category)) {
-            return getUserAddedWords();
-        } else if (isCefrLevel(category)) {
-            return getWordsByCefrLevel(category);
-        } else {
+    public Pager<String, WordSummary> getWordPagerForCategory(@NonNull Category category) {
+        if (category.getId() > 0) {
             // This is a custom user category (e.g., "My Nouns")
-            return getWordsByCategory(category);
+            return getWordPager(WordListFilter.category(category.getId()));
+        }
+        CefrLevel level = CefrLevel.fromName(category.getName());
+        if (level != null) {
+            return getWordPager(WordListFilter.level(level));
         }
+        return getWordPager(WordListFilter.userAdded());
     }
 
     // --- Word Write Operations (Async) ---
+    // Every write to word_table made here publishes the rows it changed on the
+    // WordChangeFeed once it has committed, on the writer thread, so listeners
+    // see changes in commit order. Writes that go through enqueueWrite publish
+    // from its afterCommit callback; they may be replayed (see WriteBatcher), so
+    // they collect those rows afresh on each run.
 
     public void insert(Word word) {
-        WordRoomDatabase.databaseWriteExecutor.execute(() -> mWordDao.insert(word));
+        List<WordSummary> changed = new ArrayList<>(1);
+        mDatabase.enqueueWrite(() -> {
+            changed.clear();
+            long id = mWordDao.insert(word);
+            if (id != -1) {
+                changed.add(new WordSummary((int) id, word.getWord(), word.getMeaning(), word.isLearned()));
+            }
+        }, () -> mChangeFeed.publishChanged(changed));
     }
 
     /**
-     * This new method checks if a word exists. If it does, it returns it.
-     * If not, it inserts it and *then* returns it.
-     * This guarantees we get a valid Word with its ID for SearchActivity.
+     * Returns the stored word with this headword, inserting it first if needed,
+     * so SearchActivity always gets a Word with its ID.
+     * One upsert (WordDao.insertOrGet) instead of a lookup, insert and re-read.
+     * Repeated calls for the same word while one is running share its result.
+     * They are matched on the exact headword, as the unique index on "word"
+     * (BINARY collation) does: "Apple" and "apple" are two words.
      */
     public CompletableFuture<Word> findOrInsertWord(Word word) {
-        return CompletableFuture.supplyAsync(() -> {
-            // Check if the word already exists
-            Word existingWord = mWordDao.getWordByName(word.getWord());
-            if (existingWord != null) {
-                // It exists! Return the existing word with its ID.
-                return existingWord;
+        String key = word.getWord();
+        CompletableFuture<Word> lookup = new CompletableFuture<>();
+        CompletableFuture<Word> running = mWordLookups.putIfAbsent(key, lookup);
+        if (running != null) {
+            return running;
+        }
+
+        CompletableFuture.supplyAsync(() -> {
+            // Prefer the curated base entry over the API result. Only used if
+            // the word is new; the lexicon is memory-mapped, not a query. Its
+            // row is stored without the text, which stays in the lexicon.
+            Word baseWord = mMerger.findBaseWord(word.getWord());
+            Word newRow = baseWord != null ? mMerger.toStored(baseWord) : word;
+            Word stored = mMerger.merge(mWordDao.insertOrGet(newRow));
+            if (stored == newRow) {
+                // Inserted rather than found.
+                mChangeFeed.publishChanged(Collections.singletonList(WordSummary.from(stored)));
+            }
+            return stored;
+        }, WordRoomDatabase.databaseWriteExecutor).whenComplete((result, error) -> {
+            // Removed before completing, so a later call starts a fresh lookup.
+            mWordLookups.remove(key, lookup);
+            if (error != null) {
+                lookup.completeExceptionally(error);
             } else {
-                // It's a new word. Insert it.
-                mWordDao.insert(word);
-                // Fetch the word we just inserted to get its ID.
-                return mWordDao.getWordByName(word.getWord());
+                lookup.complete(result);
             }
-        }, WordRoomDatabase.databaseWriteExecutor);
+        });
+        return lookup;
     }
 
     public void update(Word word) {
-        WordRoomDatabase.databaseWriteExecutor.execute(() -> mWordDao.update(word));
+        WordSummary summary = WordSummary.from(word);
+        mDatabase.enqueueWrite(() -> mWordDao.update(mMerger.toStored(word)),
+                () -> mChangeFeed.publishChanged(Collections.singletonList(summary)));
     }
 
     public void delete(Word word) {
-        WordRoomDatabase.databaseWriteExecutor.execute(() -> mWordDao.delete(word));
+        int wordId = word.getId();
+        mDatabase.enqueueWrite(() -> mWordDao.delete(word),
+                () -> mChangeFeed.publishDeleted(Collections.singletonList(wordId)));
     }
 
     // --- Category Cross-Ref Operations (Async) ---
 
     public void insertWordCategoryCrossRef(WordCategoryCrossRef crossRef) {
-        WordRoomDatabase.databaseWriteExecutor.execute(() -> mWordCategoryCrossRefDao.insert(crossRef));
+        mDatabase.enqueueWrite(() -> mWordCategoryCrossRefDao.insert(crossRef));
     }
 
     public void deleteWordCategoryCrossRef(WordCategoryCrossRef crossRef) {
-        WordRoomDatabase.databaseWriteExecutor.execute(() -> mWordCategoryCrossRefDao.delete(crossRef.wordId, crossRef.categoryId));
+        mDatabase.enqueueWrite(() -> mWordCategoryCrossRefDao.delete(crossRef.wordId, crossRef.categoryId));
     }
 
     public CompletableFuture<Integer> getCrossRefCount(int wordId, int categoryId) {
         return CompletableFuture.supplyAsync(() -> mWordCategoryCrossRefDao.getCrossRefCount(wordId, categoryId),
-                WordRoomDatabase.databaseWriteExecutor);
+                WordRoomDatabase.databaseReadExecutor);
+    }
+
+    // --- Bulk Word Operations (Async) ---
+    // Each call is one transaction on the writer thread (see enqueueWrite), so
+    // the lists and counts refresh once, whatever the number of words.
+    // The futures complete after the commit with the number of words changed.
+
+    public CompletableFuture<Integer> setLearned(@NonNull Collection<Integer> wordIds, boolean learned) {
+        List<List<Integer>> chunks = chunk(wordIds);
+        List<WordSummary> changed = new ArrayList<>();
+        return mDatabase.enqueueWrite(() -> {
+            changed.clear();
+            for (List<Integer> ids : chunks) {
+                // Primary-key lookups of the rows the UPDATE will change, for the
+                // change feed and the count.
+                for (WordSummary word : mWordDao.getWordsToMark(ids, learned)) {
+                    changed.add(mMerger.merge(new WordSummary(word.getId(), word.getWord(), word.getMeaning(), learned)));
+                }
+                mWordDao.setLearned(ids, learned);
+            }
+        }, () -> mChangeFeed.publishChanged(changed)).thenApply(v -> changed.size());
+    }
+
+    /**
+     * Marks every word of a CEFR level learned (or not) with a single UPDATE.
+     */
+    public CompletableFuture<Integer> setLearnedForLevel(@NonNull CefrLevel level, boolean learned) {
+        List<WordSummary> changed = new ArrayList<>();
+        return mDatabase.enqueueWrite(() -> {
+            changed.clear();
+            for (WordSummary word : mWordDao.getLevelWordsToMark(level, learned)) {
+                changed.add(mMerger.merge(new WordSummary(word.getId(), word.getWord(), word.getMeaning(), learned)));
+            }
+            mWordDao.setLearnedForLevel(level, learned);
+        }, () -> mChangeFeed.publishChanged(changed)).thenApply(v -> changed.size());
+    }
+
+    // Completes with the number of new links; words already in the category
+    // are not counted.
+    public CompletableFuture<Integer> addWordsToCategory(@NonNull Collection<Integer> wordIds, int categoryId) {
+        List<WordCategoryCrossRef> crossRefs = new ArrayList<>(wordIds.size());
+        for (int wordId : wordIds) {
+            crossRefs.add(new WordCategoryCrossRef(wordId, categoryId));
+        }
+        int[] added = new int[1];
+        return mDatabase.enqueueWrite(() -> {
+            added[0] = 0;
+            for (long rowId : mWordCategoryCrossRefDao.insertAll(crossRefs)) {
+                if (rowId != -1) {
+                    added[0]++;
+                }
+            }
+        }).thenApply(v -> added[0]);
+    }
+
+    public CompletableFuture<Integer> removeWordsFromCategory(@NonNull Collection<Integer> wordIds, int categoryId) {
+        List<List<Integer>> chunks = chunk(wordIds);
+        int[] removed = new int[1];
+        return mDatabase.enqueueWrite(() -> {
+            removed[0] = 0;
+            for (List<Integer> ids : chunks) {
+                removed[0] += mWordCategoryCrossRefDao.deleteAll(categoryId, ids);
+            }
+        }).thenApply(v -> removed[0]);
+    }
+
+    /**
+     * Deletes the user-added words among {@code wordIds}; seeded words are kept.
+     */
+    public CompletableFuture<Integer> deleteUserAddedWords(@NonNull Collection<Integer> wordIds) {
+        List<List<Integer>> chunks = chunk(wordIds);
+        List<Integer> deleted = new ArrayList<>();
+        return mDatabase.enqueueWrite(() -> {
+            deleted.clear();
+            for (List<Integer> ids : chunks) {
+                // Only these are actually deleted; the feed must not drop the others.
+                deleted.addAll(mWordDao.getUserAddedIds(ids));
+                mWordDao.deleteUserAdded(ids);
+            }
+        }, () -> mChangeFeed.publishDeleted(deleted)).thenApply(v -> deleted.size());
+    }
+
+    private static List<List<Integer>> chunk(Collection<Integer> ids) {
+        List<Integer> all = new ArrayList<>(ids);
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += MAX_IDS_PER_STATEMENT) {
+            chunks.add(all.subList(from, Math.min(all.size(), from + MAX_IDS_PER_STATEMENT)));
+        }
+        return chunks;
     }
 
     // --- API Network Operation ---
 
     public void fetchWordFromApi(String word) {
+        WordRoomDatabase.databaseWriteExecutor.execute(() -> {
+            // Base headwords are served from the bundled lexicon; no network round trip.
+            Word baseWord = mMerger.findBaseWord(word);
+            if (baseWord != null) {
+                long id = mWordDao.insert(mMerger.toStored(baseWord));
+                if (id != -1) {
+                    baseWord.setId((int) id);
+                    mChangeFeed.publishChanged(Collections.singletonList(WordSummary.from(baseWord)));
+                }
+            } else {
+                enqueueApiLookup(word);
+            }
+        });
+    }
+
+    private void enqueueApiLookup(String word) {
         mApiService.getWordDefinition(word).enqueue(new Callback<List<ApiClient.ApiWord>>() {
             @Override
             public void onResponse(@NonNull Call<List<ApiClient.ApiWord>> call, @NonNull Response<List<ApiClient.ApiWord>> response) {
@@ -230,10 +526,7 @@ public class WordRepository {
                                 apiWord.getWord(),
                                 firstDefinition.getDefinition(),
                                 firstMeaning.getPartOfSpeech(),
-                                firstDefinition.getExample() != null ? firstDefinition.getExample() : "", // Handle null example
-                                "User Added",
-                                false,
-                                false
+                                firstDefinition.getExample() != null ? firstDefinition.getExample() : "" // Handle null example
                         );
                         insert(newWord);
                     } catch (Exception e) {
@@ -256,52 +549,112 @@ public class WordRepository {
     // --- Quiz Generation Operations (Async) ---
 
     public CompletableFuture<List<Word>> getLearnedAndUserAddedWords(int limit) {
-        return CompletableFuture.supplyAsync(() -> mWordDao.getQuizWordsForLearnedAndUserAdded(limit), WordRoomDatabase.databaseWriteExecutor);
+        return CompletableFuture.supplyAsync(() -> mQuizWordSampler.sample("learned+user",
+                mWordDao::getQuizWordIdsForLearnedAndUserAdded, limit), WordRoomDatabase.databaseReadExecutor);
     }
 
-    public CompletableFuture<List<Word>> getWordsByCefrLevel(String cefrLevel, int limit) {
-        return CompletableFuture.supplyAsync(() -> mWordDao.getQuizWordsForCefrLevel(cefrLevel, limit), WordRoomDatabase.databaseWriteExecutor);
+    /**
+     * Quiz words for a category: a custom one by id, a CEFR level (learned words only)
+     * or "User Added".
+     */
+    public CompletableFuture<List<Word>> getWordsForCategory(String category, int categoryId, int limit) {
+        if (categoryId > 0) {
+            return CompletableFuture.supplyAsync(() -> mQuizWordSampler.sample("category:" + categoryId,
+                    () -> mWordDao.getQuizWordIdsForCategory(categoryId), limit), WordRoomDatabase.databaseReadExecutor);
+        }
+        if (Word.USER_ADDED_CATEGORY.equals(category)) {
+            return CompletableFuture.supplyAsync(() -> mQuizWordSampler.sample("user",
+                    mWordDao::getQuizWordIdsForUserAdded, limit), WordRoomDatabase.databaseReadExecutor);
+        }
+        CefrLevel level = CefrLevel.fromName(category);
+        if (level == null) {
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        }
+        return CompletableFuture.supplyAsync(() -> mQuizWordSampler.sample("level:" + level.getCode(),
+                () -> mWordDao.getQuizWordIdsForCefrLevel(level), limit), WordRoomDatabase.databaseReadExecutor);
     }
 
-    // --- Profile/Count Operations (Async) ---
+    // --- Profile/Count Operations ---
+    // All counts come from word_counters, which triggers keep exact, so each
+    // one is a primary-key read rather than a COUNT(*) over word_table.
 
-    public CompletableFuture<Integer> getLearnedAndUserAddedWordCount() {
-        return CompletableFuture.supplyAsync(mWordDao::getLearnedAndUserAddedWordCount, WordRoomDatabase.databaseWriteExecutor);
+    public LiveData<Integer> getLearnedAndUserAddedWordCount() {
+        return mWordCounterDao.getLearnedAndUserAddedWordCount();
     }
 
-    public CompletableFuture<Integer> getWordCountForCategory(String category) {
-        if (isCefrLevel(category)) {
-            return CompletableFuture.supplyAsync(() -> mWordDao.getWordCountForCategory(category), WordRoomDatabase.databaseWriteExecutor);
-        } else {
-            return CompletableFuture.supplyAsync(() -> mWordDao.getWordCountForCategoryName(category), WordRoomDatabase.databaseWriteExecutor);
-        }
+    /**
+     * Total, learned and quiz-eligible counts for every category on the home
+     * grid, read from the counter rows. Shared by all screens and kept current by Room.
+     */
+    public LiveData<List<CategoryCounts>> getCategoryCounts() {
+        return mCategoryCounts;
     }
 
-    public boolean isCefrLevel(String category) {
-        return "A1".equals(category) || "A2".equals(category) ||
-                "B1".equals(category) || "B2".equals(category) ||
-                "C1".equals(category) || "C2".equals(category) ||
-                "User Added".equals(category);
+    /**
+     * One-shot read of the same counts, for the home-screen prefetch.
+     */
+    public CompletableFuture<List<CategoryCounts>> loadCategoryCounts() {
+        return CompletableFuture.supplyAsync(mWordCounterDao::getCategoryCountsNow, WordRoomDatabase.databaseReadExecutor);
     }
 
     // --- Quiz History Operations ---
 
-    public void saveQuizResult(QuizResult result, List<QuizQuestion> questions) {
-        WordRoomDatabase.databaseWriteExecutor.execute(() -> {
-            long resultId = mQuizDao.insertResult(result);
-            for (QuizQuestion question : questions) {
-                question.setQuizResultId(resultId);
+    /**
+     * Saves a finished quiz and its questions atomically (QuizDao.insertQuiz).
+     * The future completes with the new result id once the transaction has
+     * committed; it is also kept as the last quiz save for QuizScoreActivity.
+     */
+    public CompletableFuture<Long> saveQuizResult(QuizResult result, List<QuizQuestion> questions) {
+        // The history list shows these instead of loading the questions.
+        int correct = 0;
+        for (QuizQuestion question : questions) {
+            if (question.isCorrect()) {
+                correct++;
             }
-            mQuizDao.insertQuestions(questions);
-        });
+        }
+        result.setQuestionCount(questions.size());
+        result.setCorrectCount(correct);
+
+        List<QuizQuestion> snapshot = new ArrayList<>(questions);
+        CompletableFuture<Long> save = CompletableFuture.supplyAsync(
+                () -> mQuizDao.insertQuiz(result, snapshot), WordRoomDatabase.databaseWriteExecutor);
+        mLastQuizSave = save;
+        return save;
+    }
+
+    /**
+     * The most recent saveQuizResult call in this process, or null if none.
+     */
+    @Nullable
+    public CompletableFuture<Long> getLastQuizSave() {
+        return mLastQuizSave;
     }
 
-    public LiveData<List<QuizResultWithQuestions>> getQuizHistory() {
-        return mQuizDao.getQuizHistory();
+    /**
+     * The quiz history, newest first, one page of summaries at a time.
+     */
+    public Pager<QuizHistoryPagingSource.Key, QuizResult> getQuizHistoryPager() {
+        PagingConfig config = new PagingConfig(HISTORY_PAGE_SIZE, HISTORY_PAGE_SIZE, false);
+        return new Pager<>(config, () -> new QuizHistoryPagingSource(mDatabase));
     }
 
-    public CompletableFuture<Integer> getLearnedWordCount() {
-        return CompletableFuture.supplyAsync(mWordDao::getLearnedWordCount, WordRoomDatabase.databaseWriteExecutor);
+    /**
+     * The questions of one quiz, for an expanded history card.
+     */
+    public CompletableFuture<List<QuizQuestion>> loadQuizQuestions(long quizResultId) {
+        return CompletableFuture.supplyAsync(() -> mQuizDao.getQuestionsForResult(quizResultId), WordRoomDatabase.databaseReadExecutor);
+    }
+
+    public LiveData<Integer> getLearnedWordCount() {
+        return mWordCounterDao.getLearnedWordCount();
+    }
+
+    /**
+     * Recounts the words and repairs word_counters if they differ. Completes
+     * with whether they already matched. Scans word_table; for diagnostics.
+     */
+    public CompletableFuture<Boolean> verifyWordCounters() {
+        return CompletableFuture.supplyAsync(mWordCounterDao::verify, WordRoomDatabase.databaseWriteExecutor);
     }
 
     public CompletableFuture<Integer> getWordsLearnedTodayCount() {
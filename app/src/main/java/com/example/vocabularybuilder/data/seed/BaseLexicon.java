@@ -0,0 +1,403 @@
+package com.example.vocabularybuilder.data.seed;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.vocabularybuilder.data.model.CefrLevel;
+import com.example.vocabularybuilder.data.model.Word;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Read-only view of the predefined vocabulary (assets/seed/corpus.bin),
+ * memory-mapped straight out of the APK.
+ *
+ * This is where the text of the prebuilt words lives: their word_table rows
+ * keep only the headword, the level and the user's state, and LexiconMerger
+ * fills the text back in when they are read.
+ *
+ * Records are fixed-width, so looking one up by number or binary-searching the
+ * headwords touches only the pages it needs and never decodes the whole file.
+ * Strings are only materialized when a caller asks for them. See
+ * CompileSeedCorpusTask in app/build.gradle.kts for the file layout.
+ */
+public final class BaseLexicon {
+
+    public static final String ASSET_PATH = "seed/corpus.bin";
+
+    // Columns of a token posting, as in word_fts.
+    public static final int COLUMN_WORD = 1;
+    public static final int COLUMN_MEANING = 2;
+    public static final int COLUMN_EXAMPLE = 4;
+
+    private static final int MAGIC = 0x56425343; // "VBSC"
+    private static final int FORMAT_VERSION = 4;
+    private static final int HEADER_SIZE = 32;
+    private static final int LEVEL_ENTRY_SIZE = 12;
+    private static final int RECORD_SIZE = 20;
+    private static final int TOKEN_ENTRY_SIZE = 12;
+    // A posting is the record number with the column bits on top.
+    private static final int POSTING_COLUMN_SHIFT = 29;
+    private static final int POSTING_RECORD_MASK = (1 << POSTING_COLUMN_SHIFT) - 1;
+
+    private static volatile BaseLexicon INSTANCE;
+
+    private final ByteBuffer mBuffer;
+    private final int mCorpusVersion;
+    private final int mRecordCount;
+    private final int mRetiredCount;
+    private final int mLevelCount;
+    private final int mTokenCount;
+    private final int mRecordsOffset;
+    private final int mWordOrderOffset;
+    private final int mTokensOffset;
+    private final int mPostingsOffset;
+    private final int mPoolOffset;
+
+    public static BaseLexicon getInstance(@NonNull Context context) throws IOException {
+        if (INSTANCE == null) {
+            synchronized (BaseLexicon.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = open(context.getApplicationContext());
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    private static BaseLexicon open(Context context) throws IOException {
+        // Requires the asset to be stored uncompressed (androidResources.noCompress).
+        try (AssetFileDescriptor afd = context.getAssets().openFd(ASSET_PATH);
+             FileInputStream input = afd.createInputStream()) {
+            FileChannel channel = input.getChannel();
+            // The mapping stays valid after the channel is closed.
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, afd.getStartOffset(), afd.getLength());
+            return new BaseLexicon(buffer);
+        }
+    }
+
+    private BaseLexicon(ByteBuffer buffer) throws IOException {
+        mBuffer = buffer;
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a seed corpus file");
+        }
+        int formatVersion = buffer.getInt(4);
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported seed corpus format " + formatVersion);
+        }
+        mCorpusVersion = buffer.getInt(8);
+        mRecordCount = buffer.getInt(12);
+        mRetiredCount = buffer.getInt(16);
+        mLevelCount = buffer.getInt(20);
+        mTokenCount = buffer.getInt(24);
+        int postingCount = buffer.getInt(28);
+        int allRecords = mRecordCount + mRetiredCount;
+        mRecordsOffset = HEADER_SIZE + mLevelCount * LEVEL_ENTRY_SIZE;
+        mWordOrderOffset = mRecordsOffset + allRecords * RECORD_SIZE;
+        mTokensOffset = mWordOrderOffset + allRecords * 4;
+        mPostingsOffset = mTokensOffset + mTokenCount * TOKEN_ENTRY_SIZE;
+        mPoolOffset = mPostingsOffset + postingCount * 4;
+    }
+
+    /**
+     * The "# version: N" declared in words.tsv. Compared against seed_state on open.
+     */
+    public int getCorpusVersion() {
+        return mCorpusVersion;
+    }
+
+    // --- Records ---
+
+    /**
+     * The number of words in the corpus: records 0 to size() - 1. Retired records
+     * come after them.
+     */
+    public int size() {
+        return mRecordCount;
+    }
+
+    /**
+     * True for a word that was removed from the corpus ("retired" in words.tsv).
+     * Its text is kept for installs that still hold it as their own word.
+     */
+    public boolean isRetired(int record) {
+        return record >= mRecordCount;
+    }
+
+    @NonNull
+    public String getWord(int record) {
+        return readString(field(record, 0));
+    }
+
+    @NonNull
+    public String getMeaning(int record) {
+        return readString(field(record, 4));
+    }
+
+    @NonNull
+    public String getPartOfSpeech(int record) {
+        return readString(field(record, 8));
+    }
+
+    @NonNull
+    public String getExample(int record) {
+        return readString(field(record, 12));
+    }
+
+    @NonNull
+    public String getLevel(int record) {
+        int level = mBuffer.getShort(mRecordsOffset + record * RECORD_SIZE + 16) & 0xFFFF;
+        return getLevelName(level);
+    }
+
+    /**
+     * The record's level as stored in word_table. The compile task only accepts A1-C2.
+     * Not defined for retired records.
+     */
+    @NonNull
+    public CefrLevel getCefrLevel(int record) {
+        CefrLevel level = CefrLevel.fromName(getLevel(record));
+        if (level == null) {
+            throw new IllegalStateException("Unknown CEFR level in corpus: " + getLevel(record));
+        }
+        return level;
+    }
+
+    /**
+     * Builds a prebuilt Word for the record, text included. It has no id until it
+     * is stored in Room.
+     */
+    @NonNull
+    public Word toWord(int record) {
+        return new Word(getWord(record), getMeaning(record), getPartOfSpeech(record), getExample(record), getCefrLevel(record));
+    }
+
+    /**
+     * The word_table row for the record: headword and level, no text.
+     */
+    @NonNull
+    public Word toStoredWord(int record) {
+        return new Word(getWord(record), "", "", "", getCefrLevel(record));
+    }
+
+    // --- Level index (records are grouped by CEFR level) ---
+
+    public int getLevelCount() {
+        return mLevelCount;
+    }
+
+    @NonNull
+    public String getLevelName(int level) {
+        return readString(mBuffer.getInt(HEADER_SIZE + level * LEVEL_ENTRY_SIZE));
+    }
+
+    public int getLevelStart(int level) {
+        return mBuffer.getInt(HEADER_SIZE + level * LEVEL_ENTRY_SIZE + 4);
+    }
+
+    public int getLevelSize(int level) {
+        return mBuffer.getInt(HEADER_SIZE + level * LEVEL_ENTRY_SIZE + 8);
+    }
+
+    // --- Headword lookup ---
+
+    /**
+     * Returns the record number for an exact headword, retired ones included, or -1.
+     * Compares the UTF-8 bytes in place, the same order as SQLite's BINARY collation.
+     */
+    public int indexOf(@NonNull String word) {
+        byte[] key = word.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = mRecordCount + mRetiredCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int record = mBuffer.getInt(mWordOrderOffset + mid * 4);
+            int cmp = compareString(field(record, 0), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return record;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The corpus word with this headword, or null. Retired words are not part of it.
+     */
+    @Nullable
+    public Word find(@NonNull String word) {
+        int record = indexOf(word);
+        return record >= 0 && !isRetired(record) ? toWord(record) : null;
+    }
+
+    // --- Token index (prefix search over word, meaning and example) ---
+
+    /**
+     * Splits text into search tokens the way the compile task indexed it: case and
+     * diacritics folded, split on anything that is not a letter or digit. This is
+     * how word_fts's unicode61 tokenizer treats Latin text.
+     */
+    @NonNull
+    public static List<String> tokenize(@NonNull String text) {
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : folded.split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Records that contain every one of {@code prefixes} as the start of a token,
+     * with the COLUMN_* bits of the columns that contain all of them (the same
+     * rule as "meaning:colo* meaning:blin*" in word_fts). Retired records are
+     * included. Prefixes must come from tokenize().
+     */
+    @NonNull
+    public Map<Integer, Integer> matchPrefixes(@NonNull List<String> prefixes) {
+        Map<Integer, Integer> result = null;
+        for (String prefix : prefixes) {
+            Map<Integer, Integer> matches = matchPrefix(prefix.getBytes(StandardCharsets.UTF_8));
+            if (result == null) {
+                result = matches;
+            } else {
+                Iterator<Map.Entry<Integer, Integer>> it = result.entrySet().iterator();
+                while (it.hasNext()) {
+                    Map.Entry<Integer, Integer> entry = it.next();
+                    Integer columns = matches.get(entry.getKey());
+                    int both = columns != null ? entry.getValue() & columns : 0;
+                    if (both == 0) {
+                        it.remove();
+                    } else {
+                        entry.setValue(both);
+                    }
+                }
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result != null ? result : new HashMap<>();
+    }
+
+    // Tokens are sorted by their UTF-8 bytes, so the ones starting with the
+    // prefix are one contiguous run.
+    private Map<Integer, Integer> matchPrefix(byte[] prefix) {
+        Map<Integer, Integer> matches = new HashMap<>();
+        for (int token = firstTokenNotBelow(prefix); token < mTokenCount; token++) {
+            int entry = mTokensOffset + token * TOKEN_ENTRY_SIZE;
+            if (!startsWith(mBuffer.getInt(entry), prefix)) {
+                break;
+            }
+            int first = mBuffer.getInt(entry + 4);
+            int count = mBuffer.getInt(entry + 8);
+            for (int i = first; i < first + count; i++) {
+                int posting = mBuffer.getInt(mPostingsOffset + i * 4);
+                matches.merge(posting & POSTING_RECORD_MASK, posting >>> POSTING_COLUMN_SHIFT, (a, b) -> a | b);
+            }
+        }
+        return matches;
+    }
+
+    private int firstTokenNotBelow(byte[] key) {
+        int low = 0;
+        int high = mTokenCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareString(mBuffer.getInt(mTokensOffset + mid * TOKEN_ENTRY_SIZE), key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // --- String pool ---
+
+    private int field(int record, int fieldOffset) {
+        return mBuffer.getInt(mRecordsOffset + record * RECORD_SIZE + fieldOffset);
+    }
+
+    private String readString(int offset) {
+        int position = mPoolOffset + offset;
+        int length = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = mBuffer.get(position++) & 0xFF;
+            length |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        byte[] bytes = new byte[length];
+        ByteBuffer view = mBuffer.duplicate();
+        view.position(position);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int compareString(int offset, byte[] key) {
+        int position = mPoolOffset + offset;
+        int length = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = mBuffer.get(position++) & 0xFF;
+            length |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int diff = (mBuffer.get(position + i) & 0xFF) - (key[i] & 0xFF);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return length - key.length;
+    }
+
+    private boolean startsWith(int offset, byte[] prefix) {
+        int position = mPoolOffset + offset;
+        int length = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = mBuffer.get(position++) & 0xFF;
+            length |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        if (length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (mBuffer.get(position + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.vocabularybuilder.data.seed;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.vocabularybuilder.data.model.Word;
+import com.example.vocabularybuilder.data.model.WordSearchHit;
+import com.example.vocabularybuilder.data.model.WordSummary;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Merges word_table rows with the BaseLexicon.
+ *
+ * For the prebuilt words, word_table is only an overlay of what the user can
+ * change: the row keeps the id (which categories, quiz history and the word of
+ * the day refer to), the headword, the level and is_learned, and stores empty
+ * text. A row read with an empty meaning gets its meaning, part of speech and
+ * example from the lexicon record with the same headword; any other row is the
+ * user's own word and is returned as stored. Writes go the other way through
+ * toStored(), so the lexicon text is never copied into the database.
+ *
+ * A merge is a binary search over the mapped file, cheap enough for the main
+ * thread (WordRepository.getWordById maps its LiveData with it).
+ */
+public final class LexiconMerger {
+
+    private static final String TAG = "LexiconMerger";
+
+    private final Context mContext;
+    private volatile BaseLexicon mLexicon;
+
+    public LexiconMerger(@NonNull Context context) {
+        mContext = context.getApplicationContext();
+    }
+
+    // Null if the asset can't be opened; rows are then shown as stored.
+    // SeedImporter maps the lexicon when the database opens, so this rarely
+    // has to do it itself.
+    @Nullable
+    private BaseLexicon lexicon() {
+        BaseLexicon lexicon = mLexicon;
+        if (lexicon == null) {
+            try {
+                lexicon = BaseLexicon.getInstance(mContext);
+                mLexicon = lexicon;
+            } catch (IOException e) {
+                Log.e(TAG, "Base lexicon unavailable", e);
+            }
+        }
+        return lexicon;
+    }
+
+    // --- Reads ---
+
+    /**
+     * Fills in the text of a row that keeps it in the lexicon, in place. Null-safe,
+     * so it can map a LiveData of a row that may not exist.
+     */
+    @Nullable
+    public Word merge(@Nullable Word row) {
+        if (row == null || !row.getMeaning().isEmpty()) {
+            return row;
+        }
+        BaseLexicon lexicon = lexicon();
+        int record = lexicon != null ? lexicon.indexOf(row.getWord()) : -1;
+        if (record >= 0) {
+            row.setMeaning(lexicon.getMeaning(record));
+            row.setPartOfSpeech(lexicon.getPartOfSpeech(record));
+            row.setExample(lexicon.getExample(record));
+        }
+        return row;
+    }
+
+    @NonNull
+    public WordSummary merge(@NonNull WordSummary row) {
+        if (!row.getMeaning().isEmpty()) {
+            return row;
+        }
+        BaseLexicon lexicon = lexicon();
+        int record = lexicon != null ? lexicon.indexOf(row.getWord()) : -1;
+        if (record < 0) {
+            return row;
+        }
+        return new WordSummary(row.getId(), row.getWord(), lexicon.getMeaning(record), row.isLearned());
+    }
+
+    @NonNull
+    public List<WordSummary> mergeSummaries(@NonNull List<WordSummary> rows) {
+        List<WordSummary> merged = new ArrayList<>(rows.size());
+        for (WordSummary row : rows) {
+            merged.add(merge(row));
+        }
+        return merged;
+    }
+
+    /**
+     * The corpus word with this headword, text included, or null.
+     */
+    @Nullable
+    public Word findBaseWord(@NonNull String word) {
+        BaseLexicon lexicon = lexicon();
+        return lexicon != null ? lexicon.find(word) : null;
+    }
+
+    /**
+     * Searches the lexicon text for the terms (from BaseLexicon.tokenize), each
+     * matched as a token prefix. Returns up to {@code limit} headwords, best first,
+     * with their rank as in WordSearchDao: 0 headword, 1 meaning, 2 example.
+     */
+    @NonNull
+    public Map<String, Integer> search(@NonNull List<String> terms, int limit) {
+        Map<String, Integer> hits = new LinkedHashMap<>();
+        BaseLexicon lexicon = lexicon();
+        if (lexicon == null || terms.isEmpty()) {
+            return hits;
+        }
+        List<WordSearchHit> candidates = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> match : lexicon.matchPrefixes(terms).entrySet()) {
+            int columns = match.getValue();
+            int rank = (columns & BaseLexicon.COLUMN_WORD) != 0 ? 0
+                    : (columns & BaseLexicon.COLUMN_MEANING) != 0 ? 1 : 2;
+            // Only the headword and rank matter here; the row is looked up later.
+            candidates.add(new WordSearchHit(0, lexicon.getWord(match.getKey()), "", false, rank));
+        }
+        candidates.sort(WordSearchHit.BY_RANK);
+        for (WordSearchHit candidate : candidates.subList(0, Math.min(limit, candidates.size()))) {
+            hits.put(candidate.getWord(), candidate.getRank());
+        }
+        return hits;
+    }
+
+    // --- Writes ---
+
+    /**
+     * The row to write for this word: a copy without text if its text is the
+     * lexicon's, so it is not stored twice; otherwise the word itself.
+     */
+    @NonNull
+    public Word toStored(@NonNull Word word) {
+        BaseLexicon lexicon = lexicon();
+        int record = lexicon != null ? lexicon.indexOf(word.getWord()) : -1;
+        if (record < 0
+                || !word.getMeaning().equals(lexicon.getMeaning(record))
+                || !word.getPartOfSpeech().equals(lexicon.getPartOfSpeech(record))
+                || !word.getExample().equals(lexicon.getExample(record))) {
+            return word;
+        }
+        Word stored = new Word(word.getWord(), "", "", "", word.getCefrLevel(), word.isUserAdded(),
+                word.isLearned(), word.isPrebuilt());
+        stored.setId(word.getId());
+        return stored;
+    }
+}
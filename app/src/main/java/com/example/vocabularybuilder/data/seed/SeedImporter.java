@@ -0,0 +1,129 @@
+package com.example.vocabularybuilder.data.seed;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import com.example.vocabularybuilder.data.WordRoomDatabase;
+import com.example.vocabularybuilder.data.dao.SeedDao;
+import com.example.vocabularybuilder.data.dao.WordDao;
+import com.example.vocabularybuilder.data.model.SeedState;
+import com.example.vocabularybuilder.data.model.Word;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Brings an existing database up to the bundled seed corpus.
+ *
+ * Fresh installs already get every word from the prepackaged database asset,
+ * stamped with the corpus version. On open, the version in seed_state is
+ * compared with the one in the memory-mapped BaseLexicon; when they match
+ * there is nothing to do and no table is scanned.
+ *
+ * When the corpus version changes, the difference is applied in place:
+ * new headwords are inserted, ones that changed level are moved, and prebuilt
+ * words that left the corpus are retired. Prebuilt rows store no text (it is
+ * read from the lexicon, see LexiconMerger), so a changed meaning or example
+ * needs no write at all. is_learned is never written, so the user's progress
+ * survives. Words go in BATCH_SIZE per transaction, each
+ * batch also rewriting the seed_state checkpoint, so a process killed
+ * mid-import resumes from the last committed batch. Records are grouped by
+ * CEFR level (A1 first), so the lower levels become usable while the rest
+ * is still loading.
+ */
+public final class SeedImporter {
+
+    private static final String TAG = "SeedImporter";
+    public static final int BATCH_SIZE = 500;
+
+    private static final MutableLiveData<SeedProgress> sProgress = new MutableLiveData<>();
+
+    private SeedImporter() {}
+
+    /**
+     * Observed by the UI. Null until the first check has run.
+     */
+    public static LiveData<SeedProgress> getProgress() {
+        return sProgress;
+    }
+
+    /**
+     * Must be called on a background thread. Returns whether any words were
+     * written, i.e. the corpus version changed or an earlier import was resumed.
+     */
+    public static boolean syncWithCorpus(@NonNull Context context, @NonNull WordRoomDatabase db) {
+        BaseLexicon lexicon;
+        try {
+            lexicon = BaseLexicon.getInstance(context);
+        } catch (IOException e) {
+            Log.e(TAG, "Could not open the seed corpus", e);
+            return false;
+        }
+
+        SeedDao seedDao = db.seedDao();
+        WordDao wordDao = db.wordDao();
+        int total = lexicon.size();
+        int version = lexicon.getCorpusVersion();
+
+        SeedState state = seedDao.getState();
+        if (state != null && state.isComplete(version)) {
+            sProgress.postValue(new SeedProgress(lexicon, total));
+            return false;
+        }
+
+        int next = (state != null && state.getCorpusVersion() == version && state.getRecordCount() == total)
+                ? state.getNextRecord() : 0;
+        sProgress.postValue(new SeedProgress(lexicon, next));
+
+        // Idempotent, so it is simply repeated if an earlier attempt was interrupted.
+        retireRemovedWords(db, lexicon);
+
+        while (next < total) {
+            final int start = next;
+            final int end = Math.min(start + BATCH_SIZE, total);
+            db.runInTransaction(() -> {
+                for (int i = start; i < end; i++) {
+                    Word word = lexicon.toStoredWord(i);
+                    wordDao.insert(word);
+                    seedDao.updatePrebuiltLevel(word.getWord(), word.getCefrLevel());
+                }
+                seedDao.saveState(new SeedState(end, total, version));
+            });
+            next = end;
+            sProgress.postValue(new SeedProgress(lexicon, next));
+        }
+
+        if (total == 0) {
+            seedDao.saveState(new SeedState(0, 0, version));
+        }
+
+        // Words were inserted, rewritten and retired in bulk; lists kept in memory reload.
+        db.getWordChangeFeed().publishReset();
+        return true;
+    }
+
+    private static void retireRemovedWords(WordRoomDatabase db, BaseLexicon lexicon) {
+        SeedDao seedDao = db.seedDao();
+        List<String> removed = new ArrayList<>();
+        for (String word : seedDao.getPrebuiltHeadwords()) {
+            // Retired records keep the text of words kept below; a word missing
+            // altogether was deleted from words.tsv instead.
+            int record = lexicon.indexOf(word);
+            if (record < 0 || lexicon.isRetired(record)) {
+                removed.add(word);
+            }
+        }
+        for (int start = 0; start < removed.size(); start += BATCH_SIZE) {
+            List<String> batch = removed.subList(start, Math.min(start + BATCH_SIZE, removed.size()));
+            db.runInTransaction(() -> {
+                seedDao.deleteUnusedWords(batch);
+                seedDao.retireWords(batch);
+            });
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.vocabularybuilder.data.seed;
+
+import androidx.annotation.NonNull;
+
+import com.example.vocabularybuilder.data.model.CefrLevel;
+
+/**
+ * Immutable snapshot of how far SeedImporter has got.
+ */
+public class SeedProgress {
+
+    private final BaseLexicon mLexicon;
+    private final int mImportedRecords;
+
+    SeedProgress(@NonNull BaseLexicon lexicon, int importedRecords) {
+        mLexicon = lexicon;
+        mImportedRecords = importedRecords;
+    }
+
+    public int getImportedRecords() {
+        return mImportedRecords;
+    }
+
+    public int getTotalRecords() {
+        return mLexicon.size();
+    }
+
+    public boolean isComplete() {
+        return mImportedRecords >= mLexicon.size();
+    }
+
+    /**
+     * True once every word of the given CEFR level has been committed.
+     * Levels that are not part of the corpus are always ready.
+     */
+    public boolean isLevelReady(@NonNull CefrLevel level) {
+        for (int i = 0; i < mLexicon.getLevelCount(); i++) {
+            if (level.getLabel().equals(mLexicon.getLevelName(i))) {
+                return mImportedRecords >= mLexicon.getLevelStart(i) + mLexicon.getLevelSize(i);
+            }
+        }
+        return true;
+    }
+}
@@ -13,11 +13,14 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.vocabularybuilder.R;
 import com.example.vocabularybuilder.data.model.Category;
+import com.example.vocabularybuilder.data.model.CategoryCounts;
 import com.example.vocabularybuilder.databinding.ItemCategoryBinding;
 import com.example.vocabularybuilder.databinding.ItemCreateCategoryBinding;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Adapter for the category grid on the main screen.
@@ -31,6 +34,8 @@ public class CategoryAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
     private static final int TYPE_CREATE = 1;
 
     private List<Category> categories = new ArrayList<>();
+    // Keyed by CategoryCounts.getKey(); null until the counts have loaded.
+    private Map<String, CategoryCounts> counts;
     private OnCategoryClickListener listener;
 
     public interface OnCategoryClickListener {
@@ -56,6 +61,22 @@ public class CategoryAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
         diffResult.dispatchUpdatesTo(this);
     }
 
+    /**
+     * Updates the word counts shown on the cards. Categories with no row have no words.
+     */
+    public void setCounts(List<CategoryCounts> newCounts) {
+        Map<String, CategoryCounts> byKey = new HashMap<>();
+        for (CategoryCounts row : newCounts) {
+            byKey.put(row.getKey(), row);
+        }
+        if (byKey.equals(counts)) {
+            return;
+        }
+        counts = byKey;
+        // Only the count line changes; the cards themselves stay in place.
+        notifyItemRangeChanged(1, categories.size());
+    }
+
     @NonNull
     @Override
     public RecyclerView.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
@@ -122,6 +143,22 @@ public class CategoryAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
             // IMPROVEMENT 3: Dynamically set the card color
             int color = getCategoryColor(category.getName());
             binding.categoryCard.setCardBackgroundColor(color);
+
+            bindCounts(counts != null ? counts.get(CategoryCounts.keyOf(category)) : null);
+        }
+
+        private void bindCounts(CategoryCounts row) {
+            if (counts == null) {
+                binding.categoryCount.setVisibility(View.INVISIBLE);
+                binding.categoryProgress.setVisibility(View.INVISIBLE);
+                return;
+            }
+            int total = row != null ? row.getTotal() : 0;
+            int learned = row != null ? row.getLearned() : 0;
+            binding.categoryCount.setText(context.getString(R.string.category_learned_count, learned, total));
+            binding.categoryCount.setVisibility(View.VISIBLE);
+            binding.categoryProgress.setProgress(total > 0 ? learned * 100 / total : 0);
+            binding.categoryProgress.setVisibility(View.VISIBLE);
         }
 
         /**
@@ -5,20 +5,43 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ImageView; // Import ImageView for animation
 import androidx.annotation.NonNull;
+import androidx.paging.PagingDataAdapter;
 import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.LinearLayoutManager;
-import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 // IMPROVEMENT 1: Import ViewBinding
 import com.example.vocabularybuilder.databinding.ItemQuizHistoryBinding;
-import com.example.vocabularybuilder.data.model.QuizResultWithQuestions; // Correct import
+import com.example.vocabularybuilder.data.model.QuizQuestion;
+import com.example.vocabularybuilder.data.model.QuizResult;
 import java.text.SimpleDateFormat;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Paged list of quiz summaries for ProfileActivity. Cards are bound from the
+ * summary columns on quiz_results; a quiz's questions are only loaded (through
+ * the QuestionLoader) the first time its card is expanded.
+ */
+public class QuizHistoryAdapter extends PagingDataAdapter<QuizResult, QuizHistoryAdapter.QuizHistoryViewHolder> {
+
+    public interface QuestionLoader {
+        CompletableFuture<List<QuizQuestion>> loadQuestions(long quizResultId);
+    }
 
-public class QuizHistoryAdapter extends ListAdapter<QuizResultWithQuestions, QuizHistoryAdapter.QuizHistoryViewHolder> {
+    private final QuestionLoader questionLoader;
+    // Expanded cards and the questions loaded for them, by quiz id, so both
+    // survive the card's view being recycled.
+    private final Set<Long> expandedIds = new HashSet<>();
+    private final Map<Long, List<QuizQuestion>> loadedQuestions = new HashMap<>();
 
-    public QuizHistoryAdapter(@NonNull DiffUtil.ItemCallback<QuizResultWithQuestions> diffCallback) {
+    public QuizHistoryAdapter(@NonNull DiffUtil.ItemCallback<QuizResult> diffCallback, @NonNull QuestionLoader questionLoader) {
         super(diffCallback);
+        this.questionLoader = questionLoader;
     }
 
     @NonNull
@@ -35,24 +58,26 @@ public class QuizHistoryAdapter extends ListAdapter<QuizResultWithQuestions, Qui
 
     @Override
     public void onBindViewHolder(@NonNull QuizHistoryViewHolder holder, int position) {
-        QuizResultWithQuestions currentResult = getItem(position);
-        holder.bind(currentResult);
+        QuizResult currentResult = getItem(position);
+        if (currentResult != null) {
+            holder.bind(currentResult);
+        }
     }
 
     /**
      * The DiffUtil.ItemCallback implementation for our QuizHistory ListAdapter.
      */
-    public static class QuizHistoryDiff extends DiffUtil.ItemCallback<QuizResultWithQuestions> {
+    public static class QuizHistoryDiff extends DiffUtil.ItemCallback<QuizResult> {
         @Override
-        public boolean areItemsTheSame(@NonNull QuizResultWithQuestions oldItem, @NonNull QuizResultWithQuestions newItem) {
-            return oldItem.getQuizResult().getId() == newItem.getQuizResult().getId();
+        public boolean areItemsTheSame(@NonNull QuizResult oldItem, @NonNull QuizResult newItem) {
+            return oldItem.getId() == newItem.getId();
         }
 
         @Override
-        public boolean areContentsTheSame(@NonNull QuizResultWithQuestions oldItem, @NonNull QuizResultWithQuestions newItem) {
+        public boolean areContentsTheSame(@NonNull QuizResult oldItem, @NonNull QuizResult newItem) {
             // Check the score and the number of questions
-            return oldItem.getQuizResult().getScore() == newItem.getQuizResult().getScore() &&
-                    oldItem.getQuestions().size() == newItem.getQuestions().size();
+            return oldItem.getScore() == newItem.getScore() &&
+                    oldItem.getQuestionCount() == newItem.getQuestionCount();
         }
     }
 
@@ -63,14 +88,27 @@ public class QuizHistoryAdapter extends ListAdapter<QuizResultWithQuestions, Qui
 
         // IMPROVEMENT 1: Use the binding class
         private final ItemQuizHistoryBinding binding;
+        private final QuizQuestionAdapter questionAdapter = new QuizQuestionAdapter();
+        // Id of the quiz this holder currently shows
+        private long quizResultId;
 
         public QuizHistoryViewHolder(@NonNull ItemQuizHistoryBinding binding) {
             super(binding.getRoot());
             this.binding = binding; // Store the binding
 
+            // Set up the nested RecyclerView once; it is refilled on expand
+            binding.questionsRecyclerView.setLayoutManager(new LinearLayoutManager(itemView.getContext()));
+            binding.questionsRecyclerView.setAdapter(questionAdapter);
+
             // The click listener is set on the *entire* card
             binding.getRoot().setOnClickListener(v -> {
                 boolean isVisible = binding.questionsContainer.getVisibility() == View.VISIBLE;
+                if (isVisible) {
+                    expandedIds.remove(quizResultId);
+                } else {
+                    expandedIds.add(quizResultId);
+                    showQuestions();
+                }
                 binding.questionsContainer.setVisibility(isVisible ? View.GONE : View.VISIBLE);
 
                 // IMPROVEMENT 2: Animate the expand icon
@@ -78,30 +116,46 @@ public class QuizHistoryAdapter extends ListAdapter<QuizResultWithQuestions, Qui
             });
         }
 
-        void bind(QuizResultWithQuestions result) {
+        void bind(QuizResult result) {
+            quizResultId = result.getId();
+
             // Format the date
             SimpleDateFormat sdf = new SimpleDateFormat("MMMM d, yyyy h:mm a", Locale.getDefault());
-            binding.dateTextView.setText(sdf.format(result.getQuizResult().getDate()));
+            binding.dateTextView.setText(sdf.format(result.getDate()));
 
-            // Calculate percentage based on score and total questions
-            int totalQuestions = result.getQuestions().size();
-            int score = result.getQuizResult().getScore();
+            // Calculate percentage from the stored summary; no questions are loaded here
+            int totalQuestions = result.getQuestionCount();
+            int score = result.getScore();
             int percentage = totalQuestions > 0 ? (int) Math.round(((double) score / totalQuestions) * 100) : 0;
 
             // Set the score text
             String scoreText = "Score: " + score + "/" + totalQuestions + " (" + percentage + "%)";
             binding.scoreTextView.setText(scoreText);
 
-            // Set up the nested RecyclerView
-            QuizQuestionAdapter questionAdapter = new QuizQuestionAdapter();
-            binding.questionsRecyclerView.setLayoutManager(new LinearLayoutManager(itemView.getContext()));
-            binding.questionsRecyclerView.setAdapter(questionAdapter);
-            questionAdapter.submitList(result.getQuestions());
+            // Restore the expanded state; cards are collapsed by default
+            boolean expanded = expandedIds.contains(quizResultId);
+            binding.questionsContainer.setVisibility(expanded ? View.VISIBLE : View.GONE);
+            binding.expandIcon.setRotation(expanded ? 180 : 0);
+            questionAdapter.submitList(null);
+            if (expanded) {
+                showQuestions();
+            }
+        }
 
-            // Ensure the nested part is hidden by default when binding
-            binding.questionsContainer.setVisibility(View.GONE);
-            // Ensure the icon is in the default (down) state
-            binding.expandIcon.setRotation(0);
+        private void showQuestions() {
+            long id = quizResultId;
+            List<QuizQuestion> questions = loadedQuestions.get(id);
+            if (questions != null) {
+                questionAdapter.submitList(questions);
+                return;
+            }
+            questionLoader.loadQuestions(id).thenAccept(loaded -> itemView.post(() -> {
+                loadedQuestions.put(id, loaded);
+                // The holder may have been rebound to another quiz meanwhile
+                if (quizResultId == id) {
+                    questionAdapter.submitList(loaded);
+                }
+            }));
         }
 
         /**
@@ -6,7 +6,7 @@ import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
-import com.example.vocabularybuilder.data.model.Word;
+import com.example.vocabularybuilder.data.model.WordSummary;
 import com.example.vocabularybuilder.databinding.RecyclerviewItemBinding; // IMPROVEMENT: Import ViewBinding
 
 //
@@ -15,13 +15,13 @@ import com.example.vocabularybuilder.databinding.RecyclerviewItemBinding; // IMP
 // Filtering should be handled in the ViewModel or Activity, and the
 // resulting filtered list should be submitted via submitList().
 //
-public class WordListAdapter extends ListAdapter<Word, WordListAdapter.WordViewHolder> {
+public class WordListAdapter extends ListAdapter<WordSummary, WordListAdapter.WordViewHolder> {
 
     private OnItemClickListener listener;
     private OnDeleteClickListener deleteListener;
     // IMPROVEMENT 1: Removed 'wordListFull' and all Filter-related code.
 
-    public WordListAdapter(@NonNull DiffUtil.ItemCallback<Word> diffCallback) {
+    public WordListAdapter(@NonNull DiffUtil.ItemCallback<WordSummary> diffCallback) {
         super(diffCallback);
     }
 
@@ -39,8 +39,8 @@ public class WordListAdapter extends ListAdapter<Word, WordListAdapter.WordViewH
 
     @Override
     public void onBindViewHolder(@NonNull WordViewHolder holder, int position) {
-        Word current = getItem(position);
-        holder.bind(current); // Pass the full Word object
+        WordSummary current = getItem(position);
+        holder.bind(current);
     }
 
     // IMPROVEMENT 1: Removed the overridden submitList() method.
@@ -49,16 +49,16 @@ public class WordListAdapter extends ListAdapter<Word, WordListAdapter.WordViewH
     // IMPROVEMENT 1: Removed getFilter() and the wordFilter object.
 
     /**
-     * The DiffUtil.ItemCallback implementation for our Word ListAdapter.
+     * The DiffUtil.ItemCallback implementation for our WordSummary ListAdapter.
      */
-    public static class WordDiff extends DiffUtil.ItemCallback<Word> {
+    public static class WordDiff extends DiffUtil.ItemCallback<WordSummary> {
         @Override
-        public boolean areItemsTheSame(@NonNull Word oldItem, @NonNull Word newItem) {
+        public boolean areItemsTheSame(@NonNull WordSummary oldItem, @NonNull WordSummary newItem) {
             return oldItem.getId() == newItem.getId();
         }
 
         @Override
-        public boolean areContentsTheSame(@NonNull Word oldItem, @NonNull Word newItem) {
+        public boolean areContentsTheSame(@NonNull WordSummary oldItem, @NonNull WordSummary newItem) {
             // IMPROVEMENT 3: Made the content check more robust
             return oldItem.getWord().equals(newItem.getWord()) &&
                     oldItem.getMeaning().equals(newItem.getMeaning()) &&
@@ -69,11 +69,11 @@ public class WordListAdapter extends ListAdapter<Word, WordListAdapter.WordViewH
     // --- Click Listener Interfaces ---
 
     public interface OnItemClickListener {
-        void onItemClick(Word word);
+        void onItemClick(WordSummary word);
     }
 
     public interface OnDeleteClickListener {
-        void onDeleteClick(Word word);
+        void onDeleteClick(WordSummary word);
     }
 
     public void setOnItemClickListener(OnItemClickListener listener) {
@@ -115,7 +115,7 @@ public class WordListAdapter extends ListAdapter<Word, WordListAdapter.WordViewH
             });
         }
 
-        public void bind(Word word) {
+        public void bind(WordSummary word) {
             binding.textView.setText(word.getWord());
             // You could also bind other data here, e.g.:
             // binding.partOfSpeech.setText(word.getPartOfSpeech());
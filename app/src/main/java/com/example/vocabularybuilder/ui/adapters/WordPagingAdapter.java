@@ -0,0 +1,167 @@
+package com.example.vocabularybuilder.ui.adapters;
+
+import android.view.LayoutInflater;
+import android.view.ViewGroup;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.paging.PagingDataAdapter;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.RecyclerView;
+import com.example.vocabularybuilder.data.model.WordSummary;
+import com.example.vocabularybuilder.databinding.RecyclerviewItemBinding;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The paged counterpart of WordListAdapter, for lists backed by
+ * WordKeysetPagingSource. Uses the same DiffUtil callback and listener interfaces as WordListAdapter.
+ *
+ * Long-pressing a row starts multi-select: from then on a tap toggles the row
+ * instead of opening it, until the selection is empty again. Selection is kept
+ * by word id, so it survives paging and list updates.
+ */
+public class WordPagingAdapter extends PagingDataAdapter<WordSummary, WordPagingAdapter.WordViewHolder> {
+
+    private WordListAdapter.OnItemClickListener listener;
+    private WordListAdapter.OnDeleteClickListener deleteListener;
+    private OnSelectionChangedListener selectionListener;
+    private final Set<Integer> selectedIds = new LinkedHashSet<>();
+
+    public interface OnSelectionChangedListener {
+        void onSelectionChanged(int selectedCount);
+    }
+
+    public WordPagingAdapter(@NonNull DiffUtil.ItemCallback<WordSummary> diffCallback) {
+        super(diffCallback);
+    }
+
+    @NonNull
+    @Override
+    public WordViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        RecyclerviewItemBinding binding = RecyclerviewItemBinding.inflate(
+                LayoutInflater.from(parent.getContext()),
+                parent,
+                false
+        );
+        return new WordViewHolder(binding);
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull WordViewHolder holder, int position) {
+        // getItem also tells the pager which rows are on screen, which drives prefetching.
+        holder.bind(getItem(position));
+    }
+
+    public void setOnItemClickListener(WordListAdapter.OnItemClickListener listener) {
+        this.listener = listener;
+    }
+
+    public void setOnDeleteClickListener(WordListAdapter.OnDeleteClickListener listener) {
+        this.deleteListener = listener;
+    }
+
+    public void setOnSelectionChangedListener(OnSelectionChangedListener listener) {
+        this.selectionListener = listener;
+    }
+
+    // --- Multi-select ---
+
+    public boolean isSelecting() {
+        return !selectedIds.isEmpty();
+    }
+
+    @NonNull
+    public Set<Integer> getSelectedIds() {
+        return new LinkedHashSet<>(selectedIds);
+    }
+
+    /**
+     * Restores a selection, e.g. after a configuration change.
+     */
+    public void setSelectedIds(@NonNull Collection<Integer> ids) {
+        selectedIds.clear();
+        selectedIds.addAll(ids);
+        notifyItemRangeChanged(0, getItemCount());
+        notifySelectionChanged();
+    }
+
+    public void clearSelection() {
+        if (selectedIds.isEmpty()) {
+            return;
+        }
+        selectedIds.clear();
+        notifyItemRangeChanged(0, getItemCount());
+        notifySelectionChanged();
+    }
+
+    private void toggleSelection(WordSummary word, int position) {
+        if (!selectedIds.remove(word.getId())) {
+            selectedIds.add(word.getId());
+        }
+        notifyItemChanged(position);
+        notifySelectionChanged();
+    }
+
+    private void notifySelectionChanged() {
+        if (selectionListener != null) {
+            selectionListener.onSelectionChanged(selectedIds.size());
+        }
+    }
+
+    // --- ViewHolder Class ---
+
+    class WordViewHolder extends RecyclerView.ViewHolder {
+
+        private final RecyclerviewItemBinding binding;
+
+        public WordViewHolder(RecyclerviewItemBinding binding) {
+            super(binding.getRoot());
+            this.binding = binding;
+
+            // peek() reads the row without triggering another page load.
+            binding.getRoot().setOnClickListener(v -> {
+                WordSummary word = currentWord();
+                if (word == null) {
+                    return;
+                }
+                if (isSelecting()) {
+                    toggleSelection(word, getBindingAdapterPosition());
+                } else if (listener != null) {
+                    listener.onItemClick(word);
+                }
+            });
+
+            binding.getRoot().setOnLongClickListener(v -> {
+                WordSummary word = currentWord();
+                if (selectionListener == null || word == null) {
+                    return false;
+                }
+                toggleSelection(word, getBindingAdapterPosition());
+                return true;
+            });
+
+            binding.deleteWordButton.setOnClickListener(v -> {
+                WordSummary word = currentWord();
+                if (deleteListener != null && word != null) {
+                    deleteListener.onDeleteClick(word);
+                }
+            });
+        }
+
+        @Nullable
+        private WordSummary currentWord() {
+            int position = getBindingAdapterPosition();
+            return position == RecyclerView.NO_POSITION ? null : peek(position);
+        }
+
+        public void bind(@Nullable WordSummary word) {
+            // Placeholder: clear whatever the recycled view showed before.
+            binding.textView.setText(word != null ? word.getWord() : "");
+            binding.getRoot().setEnabled(word != null);
+            binding.getRoot().setChecked(word != null && selectedIds.contains(word.getId()));
+            binding.deleteWordButton.setEnabled(word != null && !isSelecting());
+        }
+    }
+}
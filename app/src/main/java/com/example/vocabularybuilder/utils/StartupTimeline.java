@@ -0,0 +1,171 @@
+package com.example.vocabularybuilder.utils;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+import androidx.annotation.NonNull;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Records named cold-start phases with monotonic timestamps so regressions in
+ * first-useful-frame latency can be tracked.
+ *
+ * Marks go into a fixed-size ring buffer and can be written from any thread.
+ * Times are reported in milliseconds since the process was started. Once the
+ * home screen has rendered both the word of the day and the category grid,
+ * the timeline is written to logcat (tag "StartupTimeline") and to
+ * cache/startup_timeline.txt.
+ */
+public final class StartupTimeline {
+
+    private static final String TAG = "StartupTimeline";
+    private static final String DUMP_FILE = "startup_timeline.txt";
+    private static final int CAPACITY = 64;
+
+    public static final String FIRST_USEFUL_FRAME = "first_useful_frame";
+
+    // Its own thread: the dump is written while startup is still being measured,
+    // so it must not hold one of the database reader threads.
+    private static final Executor sFileWriter = Executors.newSingleThreadExecutor(
+            runnable -> new Thread(runnable, "startup-timeline-io"));
+
+    private static final String[] sPhases = new String[CAPACITY];
+    private static final long[] sTimesNanos = new long[CAPACITY];
+    // Total number of marks ever written; the newest is at (sCount - 1) % CAPACITY.
+    private static int sCount;
+
+    private static boolean sWordOfTheDayShown;
+    private static boolean sCategoriesShown;
+    private static boolean sFirstUsefulFrameMarked;
+
+    private StartupTimeline() {}
+
+    /**
+     * Records that a phase has been reached. Phases that take time are
+     * recorded as a pair of marks, e.g. "database_open:start" and ":end".
+     */
+    public static synchronized void mark(@NonNull String phase) {
+        int slot = sCount % CAPACITY;
+        sPhases[slot] = phase;
+        sTimesNanos[slot] = SystemClock.elapsedRealtimeNanos();
+        sCount++;
+    }
+
+    /**
+     * Called by MainActivity once a word of the day has been bound.
+     */
+    public static void markWordOfTheDayShown(@NonNull View view) {
+        synchronized (StartupTimeline.class) {
+            if (sWordOfTheDayShown) {
+                return;
+            }
+            sWordOfTheDayShown = true;
+        }
+        mark("word_of_the_day_bound");
+        maybeMarkFirstUsefulFrame(view);
+    }
+
+    /**
+     * Called by MainActivity once the category grid has been bound.
+     */
+    public static void markCategoriesShown(@NonNull View view) {
+        synchronized (StartupTimeline.class) {
+            if (sCategoriesShown) {
+                return;
+            }
+            sCategoriesShown = true;
+        }
+        mark("category_grid_bound");
+        maybeMarkFirstUsefulFrame(view);
+    }
+
+    private static void maybeMarkFirstUsefulFrame(View view) {
+        synchronized (StartupTimeline.class) {
+            if (!sWordOfTheDayShown || !sCategoriesShown || sFirstUsefulFrameMarked) {
+                return;
+            }
+            sFirstUsefulFrameMarked = true;
+        }
+        // A post() alone can run before the next traversal, i.e. before anything
+        // bound has been drawn. Instead wait for the draw of the next frame:
+        // onDraw runs while that frame is recorded, and a message at the front of
+        // the queue runs as soon as it has been handed to the render thread.
+        // Draw listeners can't be removed from inside onDraw, hence the removal
+        // in the message too.
+        final Context appContext = view.getContext().getApplicationContext();
+        final Handler handler = new Handler(Looper.getMainLooper());
+        view.getViewTreeObserver().addOnDrawListener(new ViewTreeObserver.OnDrawListener() {
+            private boolean mDrawn;
+
+            @Override
+            public void onDraw() {
+                if (mDrawn) {
+                    return;
+                }
+                mDrawn = true;
+                handler.postAtFrontOfQueue(() -> {
+                    mark(FIRST_USEFUL_FRAME);
+                    ViewTreeObserver observer = view.getViewTreeObserver();
+                    if (observer.isAlive()) {
+                        observer.removeOnDrawListener(this);
+                    }
+                    dump(appContext);
+                });
+            }
+        });
+        // The bind has normally scheduled a frame already; make sure of it.
+        view.invalidate();
+    }
+
+    /**
+     * Returns the buffered marks, oldest first, as "+<ms>ms <phase>".
+     */
+    @NonNull
+    public static synchronized List<String> snapshot() {
+        long originNanos = Process.getStartElapsedRealtime() * 1_000_000L;
+        int size = Math.min(sCount, CAPACITY);
+        List<String> lines = new ArrayList<>(size);
+        for (int i = sCount - size; i < sCount; i++) {
+            int slot = i % CAPACITY;
+            double millis = (sTimesNanos[slot] - originNanos) / 1_000_000.0;
+            lines.add(String.format(Locale.US, "+%.1fms %s", millis, sPhases[slot]));
+        }
+        return lines;
+    }
+
+    /**
+     * Writes the current timeline to logcat and, off the main thread, to the cache directory.
+     */
+    public static void dump(@NonNull Context context) {
+        final List<String> lines = snapshot();
+        for (String line : lines) {
+            Log.i(TAG, line);
+        }
+        final File file = new File(context.getCacheDir(), DUMP_FILE);
+        sFileWriter.execute(() -> {
+            try (Writer writer = new FileWriter(file)) {
+                for (String line : lines) {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            } catch (IOException e) {
+                Log.w(TAG, "Could not write " + file, e);
+            }
+        });
+    }
+}
@@ -4,11 +4,11 @@ import android.app.Application;
 import androidx.annotation.NonNull;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
+import com.example.vocabularybuilder.VocabularyApplication;
 import com.example.vocabularybuilder.data.model.Category;
 import com.example.vocabularybuilder.data.repository.CategoryRepository;
 import java.util.List;
-// No longer need CompletableFuture
-// import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletableFuture;
 
 public class CategoryViewModel extends AndroidViewModel {
     private final CategoryRepository mRepository;
@@ -16,7 +16,7 @@ public class CategoryViewModel extends AndroidViewModel {
 
     public CategoryViewModel(@NonNull Application application) {
         super(application);
-        mRepository = new CategoryRepository(application);
+        mRepository = VocabularyApplication.getContainer(application).getCategoryRepository();
         // Initialize the LiveData object once
         mAllCategories = mRepository.getAllCategories();
     }
@@ -26,12 +26,12 @@ public class CategoryViewModel extends AndroidViewModel {
     // The ViewModel doesn't need to return anything, as the
     // Repository handles running it on a background thread.
 
-    public void insert(@NonNull Category category) {
-        mRepository.insert(category);
+    public CompletableFuture<Long> insert(@NonNull Category category) {
+        return mRepository.insert(category);
     }
 
-    public void deleteCategory(@NonNull String name) {
-        mRepository.deleteCategory(name);
+    public void deleteCategory(int categoryId) {
+        mRepository.deleteCategory(categoryId);
     }
 
     // --- Read Operations ---
@@ -41,8 +41,4 @@ public class CategoryViewModel extends AndroidViewModel {
     public LiveData<List<Category>> getAllCategories() {
         return mAllCategories;
     }
-
-    public LiveData<Category> getCategoryByName(@NonNull String name) {
-        return mRepository.getCategoryByName(name);
-    }
 }
\ No newline at end of file
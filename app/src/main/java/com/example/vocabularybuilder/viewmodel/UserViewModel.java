@@ -4,6 +4,7 @@ import android.app.Application;
 import androidx.annotation.NonNull;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
+import com.example.vocabularybuilder.VocabularyApplication;
 import com.example.vocabularybuilder.data.model.User;
 import com.example.vocabularybuilder.data.repository.UserRepository;
 
@@ -15,7 +16,7 @@ public class UserViewModel extends AndroidViewModel {
 
     public UserViewModel(@NonNull Application application) {
         super(application);
-        mRepository = new UserRepository(application);
+        mRepository = VocabularyApplication.getContainer(application).getUserRepository();
         mCurrentUser = mRepository.getCurrentUser();
     }
 
@@ -2,18 +2,29 @@ package com.example.vocabularybuilder.viewmodel;
 
 import android.app.Application;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.Transformations;
-
-import com.example.vocabularybuilder.data.model.QuizResultWithQuestions;
+import androidx.lifecycle.ViewModelKt;
+import androidx.paging.PagingData;
+import androidx.paging.PagingLiveData;
+
+import com.example.vocabularybuilder.VocabularyApplication;
+import com.example.vocabularybuilder.data.model.Category;
+import com.example.vocabularybuilder.data.model.CategoryCounts;
+import com.example.vocabularybuilder.data.model.CefrLevel;
 import com.example.vocabularybuilder.data.model.QuizQuestion;
 import com.example.vocabularybuilder.data.model.QuizResult;
 import com.example.vocabularybuilder.data.model.Word;
 import com.example.vocabularybuilder.data.model.WordCategoryCrossRef;
+import com.example.vocabularybuilder.data.model.WordSummary;
+import com.example.vocabularybuilder.data.paging.WordListFilter;
 import com.example.vocabularybuilder.data.repository.WordRepository;
+import com.example.vocabularybuilder.data.seed.SeedProgress;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -29,69 +40,94 @@ public class WordViewModel extends AndroidViewModel {
 
     private final WordRepository mRepository;
 
-    // LiveData for the WordListActivity, driven by mCategoryName
-    private final MutableLiveData<String> mCategoryName = new MutableLiveData<>();
-    private final LiveData<List<Word>> mWordsForCategoryList;
+    // LiveData for the WordListActivity, driven by mCategory
+    private final MutableLiveData<Category> mCategory = new MutableLiveData<>();
+    private final LiveData<PagingData<WordSummary>> mWordsForCategoryList;
+
+    // For Dictionary: the paged list of all words, and full-text search results
+    // driven by the search text
+    private final LiveData<PagingData<WordSummary>> mAllWords;
+    private final MutableLiveData<String> mSearchQuery = new MutableLiveData<>("");
+    private final LiveData<List<WordSummary>> mSearchResults;
 
-    private final LiveData<List<Word>> mAllWords; // For Dictionary
+    // Paged quiz summaries for the ProfileActivity
+    private final LiveData<PagingData<QuizResult>> mQuizHistory;
 
     // LiveData for the ProfileActivity's streak count
     private final LiveData<Integer> mStreakCount;
 
     public WordViewModel(@NonNull Application application) {
         super(application);
-        mRepository = new WordRepository(application);
-        mAllWords = mRepository.getAllWords();
+        mRepository = VocabularyApplication.getContainer(application).getWordRepository();
         // --- IMPROVEMENT: Initialize Streak LiveData ---
         mStreakCount = mRepository.getStreakCount();
 
         //
         // This is the "smart" LiveData for your WordListActivity.
-        // It observes the mCategoryName LiveData. When mCategoryName changes
+        // It observes the mCategory LiveData. When mCategory changes
         // (e.g., user clicks "A1"), it "switches" to call the repository's
-        // smart 'getWordsForCategoryList' method, which returns the
-        // correct LiveData<List<Word>> for that category.
+        // smart 'getWordPagerForCategory' method, which returns the
+        // correct pager for that category.
+        // cachedIn keeps the loaded pages across rotation; it is applied
+        // after the switchMap so only one cache exists at a time.
         //
-        mWordsForCategoryList = Transformations.switchMap(mCategoryName, category ->
-                mRepository.getWordsForCategoryList(category)
-        );
+        mWordsForCategoryList = PagingLiveData.cachedIn(
+                Transformations.switchMap(mCategory, category ->
+                        PagingLiveData.getLiveData(mRepository.getWordPagerForCategory(category))),
+                ViewModelKt.getViewModelScope(this));
+
+        mAllWords = PagingLiveData.cachedIn(
+                PagingLiveData.getLiveData(mRepository.getWordPager(WordListFilter.all())),
+                ViewModelKt.getViewModelScope(this));
+
+        mQuizHistory = PagingLiveData.cachedIn(
+                PagingLiveData.getLiveData(mRepository.getQuizHistoryPager()),
+                ViewModelKt.getViewModelScope(this));
+
+        mSearchResults = Transformations.switchMap(
+                Transformations.distinctUntilChanged(mSearchQuery), mRepository::searchWords);
     }
 
     // --- WordListActivity ---
 
     /**
      * Called by WordListActivity to set which category to display.
+     * Custom categories must carry their id; built-in ones have id 0.
      * This triggers the 'mWordsForCategoryList' switchMap to update.
      */
-    public void setCategoryForList(@NonNull String category) {
-        mCategoryName.setValue(category);
+    public void setCategoryForList(@NonNull Category category) {
+        mCategory.setValue(category);
     }
 
     /**
      * Observed by WordListActivity to get the list of words.
      */
-    public LiveData<List<Word>> getWordsForCategoryList() {
+    public LiveData<PagingData<WordSummary>> getWordsForCategoryList() {
         return mWordsForCategoryList;
     }
 
-    // --- IMPROVEMENT: Added this pass-through method ---
-    // This lets the Activity ask if a category is a CEFR level
-    // to know whether to show the "Delete" button.
-    public boolean isCefrLevel(String category) {
-        return mRepository.isCefrLevel(category);
-    }
-
     // --- DictionaryActivity ---
-    public LiveData<List<Word>> getAllWords() {
+    public LiveData<PagingData<WordSummary>> getAllWords() {
         return mAllWords;
     }
 
+    public void setSearchQuery(@NonNull String query) {
+        mSearchQuery.setValue(query.trim());
+    }
+
+    /**
+     * Ranked matches for the search text; empty while there is no search text.
+     */
+    public LiveData<List<WordSummary>> getSearchResults() {
+        return mSearchResults;
+    }
+
     // --- LearntWordsActivity ---
     /**
      * --- IMPROVEMENT (CRITICAL BUILD FIX): ---
      * Added the missing method that LearntWordsActivity needs.
      */
-    public LiveData<List<Word>> getLearnedWords() {
+    public LiveData<List<WordSummary>> getLearnedWords() {
         return mRepository.getLearnedWords();
     }
 
@@ -120,6 +156,29 @@ public class WordViewModel extends AndroidViewModel {
         return mRepository.getCrossRefCount(wordId, categoryId);
     }
 
+    // --- WordListActivity (multi-select) ---
+    // Each of these commits all the words in one transaction.
+
+    public CompletableFuture<Integer> setLearned(@NonNull Collection<Integer> wordIds, boolean learned) {
+        return mRepository.setLearned(wordIds, learned);
+    }
+
+    public CompletableFuture<Integer> setLearnedForLevel(@NonNull CefrLevel level, boolean learned) {
+        return mRepository.setLearnedForLevel(level, learned);
+    }
+
+    public CompletableFuture<Integer> addWordsToCategory(@NonNull Collection<Integer> wordIds, int categoryId) {
+        return mRepository.addWordsToCategory(wordIds, categoryId);
+    }
+
+    public CompletableFuture<Integer> removeWordsFromCategory(@NonNull Collection<Integer> wordIds, int categoryId) {
+        return mRepository.removeWordsFromCategory(wordIds, categoryId);
+    }
+
+    public CompletableFuture<Integer> deleteUserAddedWords(@NonNull Collection<Integer> wordIds) {
+        return mRepository.deleteUserAddedWords(wordIds);
+    }
+
     // --- IMPROVEMENT (CRITICAL FIX): ---
     // Expose the new 'findOrInsertWord' method for SearchActivity.
     public CompletableFuture<Word> findOrInsertWord(Word word) {
@@ -137,25 +196,36 @@ public class WordViewModel extends AndroidViewModel {
      * Gets the words for a quiz.
      * This is a one-off async call, so it uses CompletableFuture.
      */
-    public CompletableFuture<List<Word>> getQuizWords(String category, int limit) {
+    public CompletableFuture<List<Word>> getQuizWords(String category, int categoryId, int limit) {
         if (category != null && !category.isEmpty()) {
-            return mRepository.getWordsByCefrLevel(category, limit);
+            return mRepository.getWordsForCategory(category, categoryId, limit);
         } else {
             // Default quiz: learned and user-added words
             return mRepository.getLearnedAndUserAddedWords(limit);
         }
     }
 
-    public void saveQuizResult(QuizResult result, List<QuizQuestion> questions) {
-        mRepository.saveQuizResult(result, questions);
+    public CompletableFuture<Long> saveQuizResult(QuizResult result, List<QuizQuestion> questions) {
+        return mRepository.saveQuizResult(result, questions);
+    }
+
+    // --- QuizScoreActivity ---
+    @Nullable
+    public CompletableFuture<Long> getLastQuizSave() {
+        return mRepository.getLastQuizSave();
     }
 
     // --- ProfileActivity ---
-    public LiveData<List<QuizResultWithQuestions>> getQuizHistory() {
-        return mRepository.getQuizHistory();
+    public LiveData<PagingData<QuizResult>> getQuizHistory() {
+        return mQuizHistory;
+    }
+
+    // Called when a history card is expanded.
+    public CompletableFuture<List<QuizQuestion>> loadQuizQuestions(long quizResultId) {
+        return mRepository.loadQuizQuestions(quizResultId);
     }
 
-    public CompletableFuture<Integer> getLearnedWordCount() {
+    public LiveData<Integer> getLearnedWordCount() {
         return mRepository.getLearnedWordCount();
     }
 
@@ -163,13 +233,14 @@ public class WordViewModel extends AndroidViewModel {
         return mRepository.getWordsLearnedTodayCount();
     }
 
-    public CompletableFuture<Integer> getWordCountForCategory(String category) {
-        return mRepository.getWordCountForCategory(category);
+    // Also observed by MainActivity for the category grid.
+    public LiveData<List<CategoryCounts>> getCategoryCounts() {
+        return mRepository.getCategoryCounts();
     }
 
     // --- IMPROVEMENT (CRITICAL BUILD FIX): ---
     // Added the missing method that QuizSetupActivity needs.
-    public CompletableFuture<Integer> getLearnedAndUserAddedWordCount() {
+    public LiveData<Integer> getLearnedAndUserAddedWordCount() {
         return mRepository.getLearnedAndUserAddedWordCount();
     }
 
@@ -182,6 +253,15 @@ public class WordViewModel extends AndroidViewModel {
         return mRepository.getWordOfTheDay();
     }
 
+    // Picks a new word if the day has changed since the last load; otherwise free.
+    public void refreshWordOfTheDay() {
+        mRepository.loadWordOfTheDay();
+    }
+
+    public LiveData<SeedProgress> getSeedProgress() {
+        return mRepository.getSeedProgress();
+    }
+
     // --- Streak Logic (called from NewWordActivity & QuizActivity) ---
     public void updateStreak() {
         mRepository.updateStreak();